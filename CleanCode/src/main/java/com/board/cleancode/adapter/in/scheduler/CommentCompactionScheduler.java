@@ -0,0 +1,75 @@
+package com.board.cleancode.adapter.in.scheduler;
+
+import com.board.cleancode.domain.port.in.CompactDeletedCommentsUseCase;
+import com.board.cleancode.domain.port.in.CompactDeletedCommentsUseCase.CompactionResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CommentCompactionScheduler {
+
+    private final CompactDeletedCommentsUseCase compactDeletedCommentsUseCase;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final long timeBudgetMillis;
+
+    private final Counter compactedReplies;
+    private final Counter compactedComments;
+    private final Timer runTimer;
+
+    public CommentCompactionScheduler(CompactDeletedCommentsUseCase compactDeletedCommentsUseCase,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${board.compaction.batch-size:500}") int batchSize,
+                                      @Value("${board.compaction.pause-ms:50}") long pauseMillis,
+                                      @Value("${board.compaction.time-budget-ms:2000}") long timeBudgetMillis) {
+        this.compactDeletedCommentsUseCase = compactDeletedCommentsUseCase;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.timeBudgetMillis = timeBudgetMillis;
+
+        this.compactedReplies = Counter.builder("board.compaction.deleted")
+                .tag("type", "reply")
+                .register(meterRegistry);
+        this.compactedComments = Counter.builder("board.compaction.deleted")
+                .tag("type", "comment")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("board.compaction.run")
+                .description("한 번의 압축 실행에 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("board.compaction.backlog", compactDeletedCommentsUseCase,
+                        CompactDeletedCommentsUseCase::countPendingCompactions)
+                .description("물리 삭제 대기 중인 삭제 표시 댓글 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${board.compaction.interval-ms:60000}",
+               initialDelayString = "${board.compaction.interval-ms:60000}")
+    public void compact() {
+        runTimer.record(this::compactWithinBudget);
+    }
+
+    private void compactWithinBudget() {
+        long deadline = System.currentTimeMillis() + timeBudgetMillis;
+        while (System.currentTimeMillis() < deadline) {
+            CompactionResult result = compactDeletedCommentsUseCase.compactNextBatch(batchSize);
+            if (result.isIdle()) {
+                return;
+            }
+            compactedReplies.increment(result.repliesDeleted());
+            compactedComments.increment(result.commentsDeleted());
+
+            // 배치 사이에 잠시 쉬어 댓글 테이블 잠금을 오래 잡지 않도록 한다
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.board.cleancode.adapter.in.scheduler;
+
+import com.board.cleancode.domain.model.CounterDrift;
+import com.board.cleancode.domain.port.in.CheckCounterConsistencyUseCase;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 비정규화 카운터를 주기적으로 재집계해 어긋난 건수를 메트릭과 로그로 보고한다 (값은 고치지 않음)
+@Component
+public class CounterConsistencyScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(CounterConsistencyScheduler.class);
+    private static final int MAX_LOGGED_DRIFTS = 20;
+
+    private final CheckCounterConsistencyUseCase checkCounterConsistencyUseCase;
+    private final Map<CounterDrift.Type, AtomicInteger> driftCounts = new EnumMap<>(CounterDrift.Type.class);
+
+    public CounterConsistencyScheduler(CheckCounterConsistencyUseCase checkCounterConsistencyUseCase,
+                                       MeterRegistry meterRegistry) {
+        this.checkCounterConsistencyUseCase = checkCounterConsistencyUseCase;
+        for (CounterDrift.Type type : CounterDrift.Type.values()) {
+            AtomicInteger count = new AtomicInteger();
+            driftCounts.put(type, count);
+            Gauge.builder("board.counters.drift", count, AtomicInteger::get)
+                    .tag("type", type.name().toLowerCase())
+                    .description("마지막 검사에서 실제 집계와 어긋난 카운터 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.counters.check-interval-ms:600000}",
+               initialDelayString = "${board.counters.check-interval-ms:600000}")
+    public void check() {
+        List<CounterDrift> drifts = checkCounterConsistencyUseCase.findDrift();
+
+        driftCounts.values().forEach(count -> count.set(0));
+        drifts.forEach(drift -> driftCounts.get(drift.type()).incrementAndGet());
+
+        drifts.stream()
+                .limit(MAX_LOGGED_DRIFTS)
+                .forEach(drift -> log.warn("카운터 불일치 {} id={} 저장값={} 실제값={}",
+                        drift.type(), drift.targetId(), drift.stored(), drift.actual()));
+    }
+}
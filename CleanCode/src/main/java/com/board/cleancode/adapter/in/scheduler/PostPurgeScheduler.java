@@ -0,0 +1,72 @@
+package com.board.cleancode.adapter.in.scheduler;
+
+import com.board.cleancode.domain.port.in.PurgeDeletedPostsUseCase;
+import com.board.cleancode.domain.port.in.PurgeDeletedPostsUseCase.PurgeResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PostPurgeScheduler {
+
+    private final PurgeDeletedPostsUseCase purgeDeletedPostsUseCase;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final long timeBudgetMillis;
+
+    private final Counter purgedComments;
+    private final Counter purgedLikes;
+    private final Counter purgedPosts;
+
+    public PostPurgeScheduler(PurgeDeletedPostsUseCase purgeDeletedPostsUseCase,
+                              MeterRegistry meterRegistry,
+                              @Value("${board.purge.batch-size:500}") int batchSize,
+                              @Value("${board.purge.pause-ms:50}") long pauseMillis,
+                              @Value("${board.purge.time-budget-ms:2000}") long timeBudgetMillis) {
+        this.purgeDeletedPostsUseCase = purgeDeletedPostsUseCase;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.timeBudgetMillis = timeBudgetMillis;
+
+        this.purgedComments = Counter.builder("board.purge.deleted")
+                .tag("type", "comment")
+                .register(meterRegistry);
+        this.purgedLikes = Counter.builder("board.purge.deleted")
+                .tag("type", "like")
+                .register(meterRegistry);
+        this.purgedPosts = Counter.builder("board.purge.deleted")
+                .tag("type", "post")
+                .register(meterRegistry);
+        Gauge.builder("board.purge.backlog", purgeDeletedPostsUseCase,
+                        PurgeDeletedPostsUseCase::countPendingPurges)
+                .description("정리 대기 중인 삭제 표시 게시글 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${board.purge.interval-ms:5000}")
+    public void purge() {
+        long deadline = System.currentTimeMillis() + timeBudgetMillis;
+        while (System.currentTimeMillis() < deadline) {
+            PurgeResult result = purgeDeletedPostsUseCase.purgeNextBatch(batchSize);
+            if (result.isIdle()) {
+                return;
+            }
+            purgedComments.increment(result.commentsDeleted());
+            purgedLikes.increment(result.likesDeleted());
+            if (result.postPurged()) {
+                purgedPosts.increment();
+            }
+
+            // 배치 사이에 잠시 쉬어 댓글/좋아요 테이블 잠금을 오래 잡지 않도록 한다
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -1,45 +1,64 @@
 package com.board.cleancode.adapter.in.web;
 
+import com.board.cleancode.adapter.in.web.dto.CommentCursorListResponse;
 import com.board.cleancode.adapter.in.web.dto.CommentListResponse;
 import com.board.cleancode.adapter.in.web.dto.CommentResponse;
 import com.board.cleancode.adapter.in.web.dto.CreateCommentRequest;
 import com.board.cleancode.adapter.in.web.dto.DeleteCommentRequest;
+import com.board.cleancode.adapter.in.web.dto.ErrorResponse;
 import com.board.cleancode.adapter.in.web.dto.ReplyListResponse;
 import com.board.cleancode.domain.model.Comment;
+import com.board.cleancode.domain.model.CommentCursor;
 import com.board.cleancode.domain.port.in.CreateCommentUseCase;
 import com.board.cleancode.domain.port.in.CreateReplyUseCase;
 import com.board.cleancode.domain.port.in.DeleteCommentUseCase;
 import com.board.cleancode.domain.port.in.GetCommentListUseCase;
+import com.board.cleancode.domain.port.in.GetCommentListUseCase.CommentCursorResult;
 import com.board.cleancode.domain.port.in.GetCommentListUseCase.CommentPageResult;
 import com.board.cleancode.domain.port.in.GetReplyListUseCase;
+import com.board.cleancode.domain.port.in.SubscribeCommentStreamUseCase;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/posts/{postId}/comments")
 public class CommentController {
 
+    private static final int MAX_REPLY_PREVIEW = 10;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final CreateCommentUseCase createCommentUseCase;
     private final GetCommentListUseCase getCommentListUseCase;
     private final DeleteCommentUseCase deleteCommentUseCase;
     private final CreateReplyUseCase createReplyUseCase;
     private final GetReplyListUseCase getReplyListUseCase;
+    private final SubscribeCommentStreamUseCase subscribeCommentStreamUseCase;
+    private final CommentStreamBroker commentStreamBroker;
+    private final CommentVersionTracker commentVersionTracker;
 
     public CommentController(CreateCommentUseCase createCommentUseCase,
                              GetCommentListUseCase getCommentListUseCase,
                              DeleteCommentUseCase deleteCommentUseCase,
                              CreateReplyUseCase createReplyUseCase,
-                             GetReplyListUseCase getReplyListUseCase) {
+                             GetReplyListUseCase getReplyListUseCase,
+                             SubscribeCommentStreamUseCase subscribeCommentStreamUseCase,
+                             CommentStreamBroker commentStreamBroker,
+                             CommentVersionTracker commentVersionTracker) {
         this.createCommentUseCase = createCommentUseCase;
         this.getCommentListUseCase = getCommentListUseCase;
         this.deleteCommentUseCase = deleteCommentUseCase;
         this.createReplyUseCase = createReplyUseCase;
         this.getReplyListUseCase = getReplyListUseCase;
+        this.subscribeCommentStreamUseCase = subscribeCommentStreamUseCase;
+        this.commentStreamBroker = commentStreamBroker;
+        this.commentVersionTracker = commentVersionTracker;
     }
 
     @PostMapping
@@ -50,15 +69,60 @@ public class CommentController {
     }
 
     @GetMapping
-    public ResponseEntity<CommentListResponse> getComments(@PathVariable Long postId,
-                                                           @RequestParam(defaultValue = "0") int page,
-                                                           @RequestParam(defaultValue = "5") int size) {
+    public ResponseEntity<?> getComments(@PathVariable Long postId,
+                                         @RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(defaultValue = "5") int size,
+                                         @RequestParam(defaultValue = "0") int replyPreview,
+                                         @RequestParam(required = false) String cursor,
+                                         WebRequest webRequest) {
+        if (replyPreview < 0 || replyPreview > MAX_REPLY_PREVIEW) {
+            return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("replyPreview는 0 이상 " + MAX_REPLY_PREVIEW + " 이하만 허용됩니다."));
+        }
+        // 조회보다 먼저 ETag를 계산한다
+        String eTag = commentVersionTracker.commentListETag(postId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        // cursor 파라미터가 있으면(빈 값 포함) 커서 모드로 조회
+        if (cursor != null) {
+            return getCommentsByCursor(postId, cursor, size, replyPreview, eTag);
+        }
+
         CommentPageResult result = getCommentListUseCase.getComments(postId, page, size);
-        Map<Long, Long> replyCounts = new HashMap<>();
-        for (Comment comment : result.content()) {
-            replyCounts.put(comment.getId(), getReplyListUseCase.countActiveReplies(comment.getId()));
+        if (replyPreview == 0) {
+            return ResponseEntity.ok().eTag(eTag).body(CommentListResponse.fromWithReplyCounts(result));
         }
-        return ResponseEntity.ok(CommentListResponse.fromWithReplyCounts(result, replyCounts));
+
+        List<Long> commentIds = result.content().stream()
+                .map(Comment::getId)
+                .toList();
+        Map<Long, List<Comment>> replyPreviews = getReplyListUseCase.getReplyPreviews(commentIds, replyPreview);
+        return ResponseEntity.ok().eTag(eTag).body(CommentListResponse.fromWithReplyPreviews(result, replyPreviews));
+    }
+
+    private ResponseEntity<?> getCommentsByCursor(Long postId, String cursor, int size, int replyPreview, String eTag) {
+        CommentCursor decoded = decodeCursorRequest(cursor, size);
+        CommentCursorResult result = getCommentListUseCase.getComments(postId, decoded, size);
+        Map<Long, List<Comment>> replyPreviews = replyPreview == 0
+                ? Map.of()
+                : getReplyListUseCase.getReplyPreviews(
+                        result.content().stream().map(Comment::getId).toList(), replyPreview);
+
+        List<CommentResponse> content = result.content().stream()
+                .map(comment -> replyPreview == 0
+                        ? CommentResponse.fromWithReplyCount(comment)
+                        : CommentResponse.fromWithReplies(comment, replyPreviews.getOrDefault(comment.getId(), List.of())))
+                .toList();
+        return ResponseEntity.ok().eTag(eTag).body(new CommentCursorListResponse(
+                content, CommentCursorCodec.encode(result.nextCursor()), result.hasMore()));
+    }
+
+    // 새 댓글/답글과 삭제를 SSE로 전달 (event: created | deleted, data: CommentResponse)
+    @GetMapping("/stream")
+    public SseEmitter streamComments(@PathVariable Long postId) {
+        subscribeCommentStreamUseCase.checkSubscribable(postId);
+        return commentStreamBroker.subscribe(postId);
     }
 
     @DeleteMapping("/{commentId}")
@@ -78,11 +142,37 @@ public class CommentController {
     }
 
     @GetMapping("/{commentId}/replies")
-    public ResponseEntity<ReplyListResponse> getReplies(@PathVariable Long postId,
-                                                        @PathVariable Long commentId,
-                                                        @RequestParam(defaultValue = "0") int page,
-                                                        @RequestParam(defaultValue = "5") int size) {
+    public ResponseEntity<?> getReplies(@PathVariable Long postId,
+                                        @PathVariable Long commentId,
+                                        @RequestParam(defaultValue = "0") int page,
+                                        @RequestParam(defaultValue = "5") int size,
+                                        @RequestParam(required = false) String cursor,
+                                        WebRequest webRequest) {
+        String eTag = commentVersionTracker.replyListETag(postId, commentId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        if (cursor != null) {
+            CommentCursor decoded = decodeCursorRequest(cursor, size);
+            GetReplyListUseCase.ReplyCursorResult result =
+                    getReplyListUseCase.getReplies(postId, commentId, decoded, size);
+            List<CommentResponse> replies = result.content().stream()
+                    .map(CommentResponse::from)
+                    .toList();
+            return ResponseEntity.ok().eTag(eTag).body(new CommentCursorListResponse(
+                    replies, CommentCursorCodec.encode(result.nextCursor()), result.hasMore()));
+        }
+
         GetReplyListUseCase.ReplyPageResult result = getReplyListUseCase.getReplies(postId, commentId, page, size);
-        return ResponseEntity.ok(ReplyListResponse.from(result));
+        return ResponseEntity.ok().eTag(eTag).body(ReplyListResponse.from(result));
+    }
+
+    // 커서 모드 공통 검증 (빈 cursor는 첫 페이지)
+    private static CommentCursor decodeCursorRequest(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidCursorRequestException("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하만 허용됩니다.");
+        }
+        return CommentCursorCodec.decode(cursor);
     }
 }
@@ -0,0 +1,40 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.domain.model.CommentCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 커서는 클라이언트에게 불투명한 문자열로 전달한다 (작성 시각|id 를 URL-safe Base64로 인코딩)
+final class CommentCursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CommentCursorCodec() {
+    }
+
+    static String encode(CommentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.createdAt() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 문자열은 첫 페이지 요청으로 본다
+    static CommentCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            return new CommentCursor(createdAt, id);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorRequestException("유효하지 않은 cursor입니다.", e);
+        }
+    }
+}
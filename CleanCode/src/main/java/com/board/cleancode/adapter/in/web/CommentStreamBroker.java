@@ -0,0 +1,194 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CommentResponse;
+import com.board.cleancode.domain.event.CommentEvent;
+import com.board.cleancode.domain.event.PostEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 게시글별 댓글 SSE 구독자를 관리하고, 커밋된 댓글 생성/삭제를 구독자에게 전달한다
+@Component
+public class CommentStreamBroker {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentStreamBroker.class);
+
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ObjectMapper objectMapper;
+    private final Counter overflowDisconnects;
+    private final int bufferSize;
+    private final long timeoutMs;
+
+    public CommentStreamBroker(ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${board.stream.buffer-size:64}") int bufferSize,
+                               @Value("${board.stream.timeout-ms:1800000}") long timeoutMs) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        Gauge.builder("board.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("댓글 스트림 구독 연결 수")
+                .register(meterRegistry);
+        this.overflowDisconnects = Counter.builder("board.stream.overflow.disconnects")
+                .description("전송 버퍼가 가득 차 끊은 구독 연결 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long postId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(postId, emitter, bufferSize);
+
+        subscribers.compute(postId, (id, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onCommentEvent(CommentEvent event) {
+        if (event.type() == CommentEvent.Type.COMPACTED) {
+            return;
+        }
+        Set<Subscriber> targets = subscribers.get(event.postId());
+        // 구독자가 없으면 직렬화도 하지 않는다
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        // 이벤트당 한 번만 직렬화
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .id(String.valueOf(event.comment().getId()))
+                    .name(event.type().name().toLowerCase())
+                    .data(objectMapper.writeValueAsString(CommentResponse.from(event.comment())))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.warn("댓글 스트림 이벤트 직렬화 실패 commentId={}", event.comment().getId(), e);
+            return;
+        }
+        targets.forEach(subscriber -> subscriber.enqueue(frame));
+    }
+
+    @TransactionalEventListener
+    public void onPostEvent(PostEvent event) {
+        if (event.type() != PostEvent.Type.DELETED) {
+            return;
+        }
+        Set<Subscriber> targets = subscribers.remove(event.postId());
+        if (targets != null) {
+            targets.forEach(Subscriber::close);
+        }
+    }
+
+    // 끊긴 연결을 찾기 위한 주석 프레임
+    @Scheduled(fixedDelayString = "${board.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        Set<DataWithMediaType> frame = SseEmitter.event().comment("ping").build();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.enqueue(frame)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(Subscriber::close));
+        deliveryExecutor.shutdownNow();
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.postId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private final class Subscriber {
+
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long postId, SseEmitter emitter, int bufferSize) {
+            this.postId = postId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void enqueue(Set<DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            // 버퍼가 넘치면 연결을 끊는다
+            if (!buffer.offer(frame)) {
+                overflowDisconnects.increment();
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    Set<DataWithMediaType> frame;
+                    while (!closed.get() && (frame = buffer.poll()) != null) {
+                        emitter.send(frame);
+                    }
+                    draining.set(false);
+                } while (!buffer.isEmpty() && !closed.get() && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            buffer.clear();
+            unregister(this);
+            subscriberCount.decrementAndGet();
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 완료된 연결
+            }
+        }
+    }
+}
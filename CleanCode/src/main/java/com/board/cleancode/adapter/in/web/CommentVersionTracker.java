@@ -0,0 +1,68 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.domain.event.CommentEvent;
+import com.board.cleancode.domain.event.PostEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 댓글/답글 목록 버전을 메모리에 두고 약한 ETag로 노출한다
+@Component
+public class CommentVersionTracker {
+
+    // 재시작 뒤에도 겹치지 않도록 기동 시각을 싣는다
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<Long, Long> postVersions;
+    // 게시글이 삭제될 때만 바뀐다
+    private final Cache<Long, Long> postIncarnations;
+    private final Cache<Long, Long> replyVersions;
+
+    public CommentVersionTracker(@Value("${board.comment-etag.max-entries:100000}") long maxEntries) {
+        this.postVersions = Caffeine.newBuilder().maximumSize(maxEntries).build();
+        this.postIncarnations = Caffeine.newBuilder().maximumSize(maxEntries).build();
+        this.replyVersions = Caffeine.newBuilder().maximumSize(maxEntries).build();
+    }
+
+    public String commentListETag(Long postId) {
+        return "W/\"" + epoch + "-" + versionOf(postVersions, postId) + "\"";
+    }
+
+    public String replyListETag(Long postId, Long parentCommentId) {
+        return "W/\"" + epoch + "-" + versionOf(postIncarnations, postId)
+                + "-r" + versionOf(replyVersions, parentCommentId) + "\"";
+    }
+
+    @TransactionalEventListener
+    public void onCommentEvent(CommentEvent event) {
+        // 답글이 바뀌면 부모의 replyCount도 바뀐다
+        advance(postVersions, event.postId());
+        Long parentId = event.comment().getParentId();
+        if (parentId != null) {
+            advance(replyVersions, parentId);
+        } else if (event.type() == CommentEvent.Type.COMPACTED) {
+            replyVersions.invalidate(event.comment().getId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostEvent(PostEvent event) {
+        if (event.type() != PostEvent.Type.DELETED) {
+            return;
+        }
+        postVersions.invalidate(event.postId());
+        postIncarnations.invalidate(event.postId());
+    }
+
+    private long versionOf(Cache<Long, Long> versions, Long id) {
+        return versions.get(id, key -> sequence.incrementAndGet());
+    }
+
+    private void advance(Cache<Long, Long> versions, Long id) {
+        versions.put(id, sequence.incrementAndGet());
+    }
+}
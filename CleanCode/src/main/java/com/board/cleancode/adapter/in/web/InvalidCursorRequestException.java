@@ -0,0 +1,13 @@
+package com.board.cleancode.adapter.in.web;
+
+// 커서 모드 요청의 size나 cursor 값이 잘못되었을 때 (400으로 응답)
+class InvalidCursorRequestException extends RuntimeException {
+
+    InvalidCursorRequestException(String message) {
+        super(message);
+    }
+
+    InvalidCursorRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -8,7 +8,6 @@ import com.board.cleancode.adapter.in.web.dto.ErrorResponse;
 import com.board.cleancode.adapter.in.web.dto.PostListResponse;
 import com.board.cleancode.adapter.in.web.dto.PostResponse;
 import com.board.cleancode.adapter.in.web.dto.UpdatePostRequest;
-import com.board.cleancode.domain.model.Comment;
 import com.board.cleancode.domain.model.Post;
 import com.board.cleancode.domain.port.in.ChangePostPasswordUseCase;
 import com.board.cleancode.domain.port.in.CreatePostUseCase;
@@ -20,16 +19,13 @@ import com.board.cleancode.domain.port.in.GetPostListUseCase;
 import com.board.cleancode.domain.port.in.GetPostListUseCase.PostListQuery;
 import com.board.cleancode.domain.port.in.GetPostListUseCase.PostListResult;
 import com.board.cleancode.domain.port.in.GetPostUseCase;
-import com.board.cleancode.domain.port.in.GetReplyListUseCase;
 import com.board.cleancode.domain.port.in.UpdatePostUseCase;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @RestController
 @RequestMapping("/api/posts")
 public class PostController {
@@ -43,8 +39,8 @@ public class PostController {
     private final DeletePostUseCase deletePostUseCase;
     private final ChangePostPasswordUseCase changePostPasswordUseCase;
     private final GetCommentListUseCase getCommentListUseCase;
-    private final GetReplyListUseCase getReplyListUseCase;
     private final GetLikeInfoUseCase getLikeInfoUseCase;
+    private final PostListResponseCache postListResponseCache;
 
     public PostController(CreatePostUseCase createPostUseCase,
                           GetPostUseCase getPostUseCase,
@@ -53,8 +49,8 @@ public class PostController {
                           DeletePostUseCase deletePostUseCase,
                           ChangePostPasswordUseCase changePostPasswordUseCase,
                           GetCommentListUseCase getCommentListUseCase,
-                          GetReplyListUseCase getReplyListUseCase,
-                          GetLikeInfoUseCase getLikeInfoUseCase) {
+                          GetLikeInfoUseCase getLikeInfoUseCase,
+                          PostListResponseCache postListResponseCache) {
         this.createPostUseCase = createPostUseCase;
         this.getPostUseCase = getPostUseCase;
         this.getPostListUseCase = getPostListUseCase;
@@ -62,11 +58,11 @@ public class PostController {
         this.deletePostUseCase = deletePostUseCase;
         this.changePostPasswordUseCase = changePostPasswordUseCase;
         this.getCommentListUseCase = getCommentListUseCase;
-        this.getReplyListUseCase = getReplyListUseCase;
         this.getLikeInfoUseCase = getLikeInfoUseCase;
+        this.postListResponseCache = postListResponseCache;
     }
 
-    private static final java.util.Set<String> ALLOWED_SORT_VALUES = java.util.Set.of("latest", "views", "likes");
+    private static final java.util.Set<String> ALLOWED_SORT_VALUES = java.util.Set.of("latest", "views", "likes", "hot");
 
     @GetMapping
     public ResponseEntity<?> getPostList(
@@ -75,6 +71,10 @@ public class PostController {
             @RequestParam(required = false) String searchType,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String sort) {
+        if (page < 0) {
+            return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("page는 0 이상이어야 합니다."));
+        }
         if (size != 10 && size != 20) {
             return ResponseEntity.badRequest()
                     .body(new ErrorResponse("size는 10 또는 20만 허용됩니다."));
@@ -83,11 +83,23 @@ public class PostController {
         String effectiveSort = (sort == null || sort.isEmpty()) ? "latest" : sort;
         if (!ALLOWED_SORT_VALUES.contains(effectiveSort)) {
             return ResponseEntity.badRequest()
-                    .body(new ErrorResponse("sort는 latest, views, likes만 허용됩니다."));
+                    .body(new ErrorResponse("sort는 latest, views, likes, hot만 허용됩니다."));
         }
 
-        PostListResult result = getPostListUseCase.getPostList(
-                new PostListQuery(page, size, searchType, keyword, effectiveSort));
+        boolean searching = searchType != null && !searchType.isEmpty() && keyword != null && !keyword.isEmpty();
+        if ("hot".equals(effectiveSort) && searching) {
+            return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("sort=hot은 검색과 함께 사용할 수 없습니다."));
+        }
+
+        PostListQuery query = new PostListQuery(page, size, searchType, keyword, effectiveSort);
+        if (postListResponseCache.caches(query)) {
+            byte[] body = postListResponseCache.get(query,
+                    () -> PostListResponse.from(getPostListUseCase.getPostList(query)));
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+
+        PostListResult result = getPostListUseCase.getPostList(query);
         return ResponseEntity.ok(PostListResponse.from(result));
     }
 
@@ -102,13 +114,10 @@ public class PostController {
                                                 @RequestHeader(value = "X-Guest-Id", required = false) String guestId) {
         Post post = getPostUseCase.getPost(id);
 
+        // 댓글 수와 답글 수는 비정규화 카운터를 그대로 사용
         CommentPageResult commentPage = getCommentListUseCase.getComments(id, 0, COMMENT_PAGE_SIZE);
-        Map<Long, Long> replyCounts = new HashMap<>();
-        for (Comment comment : commentPage.content()) {
-            replyCounts.put(comment.getId(), getReplyListUseCase.countActiveReplies(comment.getId()));
-        }
-        CommentListResponse commentsResponse = CommentListResponse.fromWithReplyCounts(commentPage, replyCounts);
-        int commentCount = (int) getCommentListUseCase.countActiveComments(id);
+        CommentListResponse commentsResponse = CommentListResponse.fromWithReplyCounts(commentPage);
+        int commentCount = post.getActiveCommentCount();
 
         int likeCount = getLikeInfoUseCase.getLikeCount(id);
         boolean liked = getLikeInfoUseCase.isLikedBy(id, guestId);
@@ -0,0 +1,206 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.PostListResponse;
+import com.board.cleancode.domain.event.CommentEvent;
+import com.board.cleancode.domain.event.LikeEvent;
+import com.board.cleancode.domain.event.PostEvent;
+import com.board.cleancode.domain.port.in.GetPostListUseCase.PostListQuery;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 앞쪽 목록 페이지 응답을 공유하고, 카운터만 바뀐 동안은 maxStaleness까지 이전 응답을 낸다
+@Component
+public class PostListResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PostListResponseCache.class);
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxPage;
+    private final long revalidateAfterMillis;
+    private final long maxStalenessMillis;
+    private final Cache<Key, Entry> entries;
+    // 키마다 다시 계산 중인 요청 하나
+    private final ConcurrentHashMap<Key, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter waits;
+
+    // 구성 세대를 먼저 쓰고 쓰기 세대를 올린다
+    private volatile long writeGeneration;
+    private volatile long structuralGeneration;
+
+    public PostListResponseCache(ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 Environment environment,
+                                 @Value("${board.list-cache.enabled:true}") boolean enabled,
+                                 @Value("${board.list-cache.max-page:2}") int maxPage,
+                                 @Value("${board.list-cache.revalidate-after-ms:1000}") long revalidateAfterMillis,
+                                 @Value("${board.list-cache.max-staleness-ms:5000}") long maxStalenessMillis,
+                                 @Value("${board.list-cache.max-entries:1000}") long maxEntries) {
+        this.objectMapper = objectMapper;
+        // replica 프로필에서는 쓰지 않는다 (read-your-writes)
+        boolean replica = environment.matchesProfiles("replica");
+        if (enabled && replica) {
+            log.info("replica 프로필에서는 게시글 목록 응답 캐시를 사용하지 않습니다.");
+        }
+        this.enabled = enabled && !replica;
+        this.maxPage = maxPage;
+        this.revalidateAfterMillis = Math.min(revalidateAfterMillis, maxStalenessMillis);
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+        this.hits = requests(meterRegistry, "hit");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.misses = requests(meterRegistry, "miss");
+        this.waits = requests(meterRegistry, "wait");
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("board.list-cache.requests")
+                .description("게시글 목록 응답 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public boolean caches(PostListQuery query) {
+        return enabled && query.page() >= 0 && query.page() <= maxPage;
+    }
+
+    public byte[] get(PostListQuery query, Supplier<PostListResponse> loader) {
+        Key key = Key.of(query);
+        Entry cached = entries.getIfPresent(key);
+        if (cached != null && isFresh(cached)) {
+            hits.increment();
+            return cached.body();
+        }
+
+        CompletableFuture<Entry> claim = new CompletableFuture<>();
+        CompletableFuture<Entry> running = loading.putIfAbsent(key, claim);
+        if (running != null) {
+            if (cached != null && isServableWhileLoading(cached)) {
+                staleHits.increment();
+                return cached.body();
+            }
+            waits.increment();
+            return await(running).body();
+        }
+
+        try {
+            // 자리를 잡는 사이 앞선 요청이 계산을 끝냈을 수 있다
+            Entry latest = entries.getIfPresent(key);
+            if (latest != null && latest != cached && isFresh(latest)) {
+                hits.increment();
+                claim.complete(latest);
+                return latest.body();
+            }
+            misses.increment();
+            Entry loaded = load(loader);
+            entries.put(key, loaded);
+            claim.complete(loaded);
+            return loaded.body();
+        } catch (RuntimeException e) {
+            claim.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, claim);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostEvent(PostEvent event) {
+        advance(event.type() != PostEvent.Type.VIEWED);
+    }
+
+    @TransactionalEventListener
+    public void onCommentEvent(CommentEvent event) {
+        // 압축은 목록을 바꾸지 않는다
+        if (event.type() != CommentEvent.Type.COMPACTED) {
+            advance(false);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLikeEvent(LikeEvent event) {
+        advance(false);
+    }
+
+    private synchronized void advance(boolean structural) {
+        long next = writeGeneration + 1;
+        if (structural) {
+            structuralGeneration = next;
+        }
+        writeGeneration = next;
+    }
+
+    // 쓰기가 없어도 maxStaleness를 넘기면 다시 계산한다
+    private boolean isFresh(Entry entry) {
+        if (System.currentTimeMillis() - entry.loadedAt() > maxStalenessMillis) {
+            return false;
+        }
+        return entry.generation() == writeGeneration || onlyCountersChangedWithin(entry, revalidateAfterMillis);
+    }
+
+    private boolean isServableWhileLoading(Entry entry) {
+        return onlyCountersChangedWithin(entry, maxStalenessMillis);
+    }
+
+    private boolean onlyCountersChangedWithin(Entry entry, long ageMillis) {
+        return entry.generation() >= structuralGeneration
+                && System.currentTimeMillis() - entry.loadedAt() <= ageMillis;
+    }
+
+    private Entry load(Supplier<PostListResponse> loader) {
+        // 조회 전에 세대와 시각을 읽는다
+        long generation = writeGeneration;
+        long loadedAt = System.currentTimeMillis();
+        try {
+            return new Entry(objectMapper.writeValueAsBytes(loader.get()), generation, loadedAt);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 목록 응답을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private static Entry await(CompletableFuture<Entry> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(int page, int size, String searchType, String keyword, String sort) {
+
+        static Key of(PostListQuery query) {
+            boolean searching = query.searchType() != null && !query.searchType().isEmpty()
+                    && query.keyword() != null && !query.keyword().isEmpty();
+            String sort = query.sort() != null ? query.sort() : "latest";
+            return searching
+                    ? new Key(query.page(), query.size(), query.searchType(), query.keyword(), sort)
+                    : new Key(query.page(), query.size(), null, null, sort);
+        }
+    }
+
+    private record Entry(byte[] body, long generation, long loadedAt) {
+    }
+}
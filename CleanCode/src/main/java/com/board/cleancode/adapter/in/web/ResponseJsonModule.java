@@ -0,0 +1,312 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CommentListResponse;
+import com.board.cleancode.adapter.in.web.dto.CommentResponse;
+import com.board.cleancode.adapter.in.web.dto.PostListResponse;
+import com.board.cleancode.adapter.in.web.dto.PostResponse;
+import com.board.cleancode.adapter.in.web.dto.PostSummaryResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// 자주 쓰는 응답(목록/상세/댓글)을 리플렉션 없이 JsonGenerator로 쓴다 (출력은 기본 직렬화와 같다)
+@Component
+public class ResponseJsonModule extends SimpleModule {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString AUTHOR = new SerializedString("author");
+    private static final SerializedString HASHTAGS = new SerializedString("hashtags");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString VIEW_COUNT = new SerializedString("viewCount");
+    private static final SerializedString LIKE_COUNT = new SerializedString("likeCount");
+    private static final SerializedString COMMENT_COUNT = new SerializedString("commentCount");
+    private static final SerializedString IS_NEW = new SerializedString("isNew");
+    private static final SerializedString COMMENTS = new SerializedString("comments");
+    private static final SerializedString LIKED = new SerializedString("liked");
+    private static final SerializedString TOTAL_POST_COUNT = new SerializedString("totalPostCount");
+    private static final SerializedString TOTAL_COMMENT_COUNT = new SerializedString("totalCommentCount");
+    private static final SerializedString POSTS = new SerializedString("posts");
+    private static final SerializedString PAGE = new SerializedString("page");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString RANKED_AT = new SerializedString("rankedAt");
+    private static final SerializedString HAS_MORE = new SerializedString("hasMore");
+    private static final SerializedString PARENT_ID = new SerializedString("parentId");
+    private static final SerializedString DELETED = new SerializedString("deleted");
+    private static final SerializedString REPLY_COUNT = new SerializedString("replyCount");
+    private static final SerializedString REPLIES = new SerializedString("replies");
+
+    // 포맷한 시각 문자열 캐시
+    private static final Cache<LocalDateTime, SerializedString> TIMESTAMPS = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    public ResponseJsonModule() {
+        super("board-response-writers");
+        addSerializer(PostListResponse.class, new PostListWriter());
+        addSerializer(PostSummaryResponse.class, new PostSummaryWriter());
+        addSerializer(PostResponse.class, new PostWriter());
+        addSerializer(CommentListResponse.class, new CommentListWriter());
+        addSerializer(CommentResponse.class, new CommentWriter());
+    }
+
+    private static void writeTimestamp(JsonGenerator gen, SerializerProvider provider, LocalDateTime value)
+            throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            // 숫자 배열 형식은 JSR-310 모듈에 맡긴다
+            provider.defaultSerializeValue(value, gen);
+        } else {
+            gen.writeString(TIMESTAMPS.get(value,
+                    key -> new SerializedString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(key))));
+        }
+    }
+
+    private static void writeLong(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    static final class PostListWriter extends StdSerializer<PostListResponse> {
+
+        PostListWriter() {
+            super(PostListResponse.class);
+        }
+
+        @Override
+        public void serialize(PostListResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            gen.writeFieldName(TOTAL_POST_COUNT);
+            gen.writeNumber(value.totalPostCount());
+            gen.writeFieldName(TOTAL_COMMENT_COUNT);
+            gen.writeNumber(value.totalCommentCount());
+            gen.writeFieldName(POSTS);
+            List<PostSummaryResponse> posts = value.posts();
+            if (posts == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray();
+                for (PostSummaryResponse post : posts) {
+                    PostSummaryWriter.write(post, gen, provider);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeFieldName(PAGE);
+            gen.writeNumber(value.page());
+            gen.writeFieldName(SIZE);
+            gen.writeNumber(value.size());
+            gen.writeFieldName(TOTAL_PAGES);
+            gen.writeNumber(value.totalPages());
+            gen.writeFieldName(TOTAL_ELEMENTS);
+            gen.writeNumber(value.totalElements());
+            if (value.rankedAt() != null) {
+                gen.writeFieldName(RANKED_AT);
+                writeTimestamp(gen, provider, value.rankedAt());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class PostSummaryWriter extends StdSerializer<PostSummaryResponse> {
+
+        PostSummaryWriter() {
+            super(PostSummaryResponse.class);
+        }
+
+        @Override
+        public void serialize(PostSummaryResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            write(value, gen, provider);
+        }
+
+        static void write(PostSummaryResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (value == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartObject();
+            gen.writeFieldName(ID);
+            writeLong(gen, value.id());
+            gen.writeFieldName(TITLE);
+            gen.writeString(value.title());
+            gen.writeFieldName(AUTHOR);
+            gen.writeString(value.author());
+            gen.writeFieldName(CREATED_AT);
+            writeTimestamp(gen, provider, value.createdAt());
+            gen.writeFieldName(COMMENT_COUNT);
+            gen.writeNumber(value.commentCount());
+            gen.writeFieldName(VIEW_COUNT);
+            gen.writeNumber(value.viewCount());
+            gen.writeFieldName(LIKE_COUNT);
+            gen.writeNumber(value.likeCount());
+            gen.writeFieldName(IS_NEW);
+            gen.writeBoolean(value.isNew());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class PostWriter extends StdSerializer<PostResponse> {
+
+        PostWriter() {
+            super(PostResponse.class);
+        }
+
+        @Override
+        public void serialize(PostResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            if (value.id() != null) {
+                gen.writeFieldName(ID);
+                gen.writeNumber(value.id());
+            }
+            if (value.title() != null) {
+                gen.writeFieldName(TITLE);
+                gen.writeString(value.title());
+            }
+            if (value.content() != null) {
+                gen.writeFieldName(CONTENT);
+                gen.writeString(value.content());
+            }
+            if (value.author() != null) {
+                gen.writeFieldName(AUTHOR);
+                gen.writeString(value.author());
+            }
+            if (value.hashtags() != null) {
+                gen.writeFieldName(HASHTAGS);
+                gen.writeStartArray();
+                for (String hashtag : value.hashtags()) {
+                    gen.writeString(hashtag);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeFieldName(VIEW_COUNT);
+            gen.writeNumber(value.viewCount());
+            gen.writeFieldName(LIKE_COUNT);
+            gen.writeNumber(value.likeCount());
+            gen.writeFieldName(COMMENT_COUNT);
+            gen.writeNumber(value.commentCount());
+            if (value.createdAt() != null) {
+                gen.writeFieldName(CREATED_AT);
+                writeTimestamp(gen, provider, value.createdAt());
+            }
+            if (value.updatedAt() != null) {
+                gen.writeFieldName(UPDATED_AT);
+                writeTimestamp(gen, provider, value.updatedAt());
+            }
+            if (value.comments() != null) {
+                gen.writeFieldName(COMMENTS);
+                CommentListWriter.write(value.comments(), gen, provider);
+            }
+            if (value.liked() != null) {
+                gen.writeFieldName(LIKED);
+                gen.writeBoolean(value.liked());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class CommentListWriter extends StdSerializer<CommentListResponse> {
+
+        CommentListWriter() {
+            super(CommentListResponse.class);
+        }
+
+        @Override
+        public void serialize(CommentListResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            write(value, gen, provider);
+        }
+
+        static void write(CommentListResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            gen.writeFieldName(CONTENT);
+            CommentWriter.writeAll(value.content(), gen, provider);
+            gen.writeFieldName(PAGE);
+            gen.writeNumber(value.page());
+            gen.writeFieldName(SIZE);
+            gen.writeNumber(value.size());
+            gen.writeFieldName(TOTAL_ELEMENTS);
+            gen.writeNumber(value.totalElements());
+            gen.writeFieldName(HAS_MORE);
+            gen.writeBoolean(value.hasMore());
+            gen.writeEndObject();
+        }
+    }
+
+    // replies만 @JsonInclude(NON_NULL)
+    static final class CommentWriter extends StdSerializer<CommentResponse> {
+
+        CommentWriter() {
+            super(CommentResponse.class);
+        }
+
+        @Override
+        public void serialize(CommentResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            write(value, gen, provider);
+        }
+
+        static void writeAll(List<CommentResponse> comments, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (comments == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartArray();
+            for (CommentResponse comment : comments) {
+                write(comment, gen, provider);
+            }
+            gen.writeEndArray();
+        }
+
+        static void write(CommentResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (value == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartObject();
+            gen.writeFieldName(ID);
+            writeLong(gen, value.id());
+            gen.writeFieldName(PARENT_ID);
+            writeLong(gen, value.parentId());
+            gen.writeFieldName(AUTHOR);
+            gen.writeString(value.author());
+            gen.writeFieldName(CONTENT);
+            gen.writeString(value.content());
+            gen.writeFieldName(CREATED_AT);
+            writeTimestamp(gen, provider, value.createdAt());
+            gen.writeFieldName(DELETED);
+            gen.writeBoolean(value.deleted());
+            gen.writeFieldName(REPLY_COUNT);
+            writeLong(gen, value.replyCount());
+            if (value.replies() != null) {
+                gen.writeFieldName(REPLIES);
+                writeAll(value.replies(), gen, provider);
+            }
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.board.cleancode.adapter.in.web.dto;
+
+import java.util.List;
+
+public record CommentCursorListResponse(
+        List<CommentResponse> content,
+        String nextCursor,
+        boolean hasMore
+) {
+}
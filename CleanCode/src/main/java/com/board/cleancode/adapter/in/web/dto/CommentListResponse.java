@@ -26,11 +26,25 @@ public record CommentListResponse(
         );
     }
 
-    public static CommentListResponse fromWithReplyCounts(CommentPageResult result, Map<Long, Long> replyCounts) {
+    public static CommentListResponse fromWithReplyCounts(CommentPageResult result) {
         List<CommentResponse> comments = result.content().stream()
-                .map(comment -> CommentResponse.fromWithReplyCount(
+                .map(CommentResponse::fromWithReplyCount)
+                .toList();
+        return new CommentListResponse(
+                comments,
+                result.page(),
+                result.size(),
+                result.totalElements(),
+                result.hasMore()
+        );
+    }
+
+    public static CommentListResponse fromWithReplyPreviews(CommentPageResult result,
+                                                            Map<Long, List<Comment>> replyPreviews) {
+        List<CommentResponse> comments = result.content().stream()
+                .map(comment -> CommentResponse.fromWithReplies(
                         comment,
-                        replyCounts.getOrDefault(comment.getId(), 0L)
+                        replyPreviews.getOrDefault(comment.getId(), List.of())
                 ))
                 .toList();
         return new CommentListResponse(
@@ -1,8 +1,10 @@
 package com.board.cleancode.adapter.in.web.dto;
 
 import com.board.cleancode.domain.model.Comment;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public record CommentResponse(
         Long id,
@@ -11,7 +13,8 @@ public record CommentResponse(
         String content,
         LocalDateTime createdAt,
         boolean deleted,
-        Long replyCount
+        Long replyCount,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<CommentResponse> replies
 ) {
     private static final String DELETED_CONTENT = "삭제된 댓글입니다.";
 
@@ -23,11 +26,12 @@ public record CommentResponse(
                 comment.isDeleted() ? DELETED_CONTENT : comment.getContent(),
                 comment.getCreatedAt(),
                 comment.isDeleted(),
+                null,
                 null
         );
     }
 
-    public static CommentResponse fromWithReplyCount(Comment comment, long replyCount) {
+    public static CommentResponse fromWithReplyCount(Comment comment) {
         return new CommentResponse(
                 comment.getId(),
                 comment.getParentId(),
@@ -35,7 +39,23 @@ public record CommentResponse(
                 comment.isDeleted() ? DELETED_CONTENT : comment.getContent(),
                 comment.getCreatedAt(),
                 comment.isDeleted(),
-                replyCount
+                (long) comment.getActiveReplyCount(),
+                null
+        );
+    }
+
+    public static CommentResponse fromWithReplies(Comment comment, List<Comment> replies) {
+        return new CommentResponse(
+                comment.getId(),
+                comment.getParentId(),
+                comment.getAuthor(),
+                comment.isDeleted() ? DELETED_CONTENT : comment.getContent(),
+                comment.getCreatedAt(),
+                comment.isDeleted(),
+                (long) comment.getActiveReplyCount(),
+                replies.stream()
+                        .map(CommentResponse::from)
+                        .toList()
         );
     }
 }
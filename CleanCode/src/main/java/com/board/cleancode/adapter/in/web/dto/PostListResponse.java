@@ -1,7 +1,9 @@
 package com.board.cleancode.adapter.in.web.dto;
 
 import com.board.cleancode.domain.port.in.GetPostListUseCase.PostListResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public record PostListResponse(
@@ -11,7 +13,8 @@ public record PostListResponse(
         int page,
         int size,
         int totalPages,
-        long totalElements
+        long totalElements,
+        @JsonInclude(JsonInclude.Include.NON_NULL) LocalDateTime rankedAt
 ) {
     public static PostListResponse from(PostListResult result) {
         List<PostSummaryResponse> posts = result.posts().stream()
@@ -24,7 +27,8 @@ public record PostListResponse(
                 result.page(),
                 result.size(),
                 result.totalPages(),
-                result.totalElements()
+                result.totalElements(),
+                result.rankedAt()
         );
     }
 }
@@ -1,6 +1,6 @@
 package com.board.cleancode.adapter.in.web.dto;
 
-import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.model.PostHeader;
 import com.board.cleancode.domain.port.in.GetPostListUseCase.PostSummary;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -17,15 +17,15 @@ public record PostSummaryResponse(
         @JsonProperty("isNew") boolean isNew
 ) {
     public static PostSummaryResponse from(PostSummary summary) {
-        Post post = summary.post();
-        boolean isNew = post.getCreatedAt().isAfter(LocalDateTime.now().minusDays(3));
+        PostHeader post = summary.post();
+        boolean isNew = post.createdAt().isAfter(LocalDateTime.now().minusDays(3));
         return new PostSummaryResponse(
-                post.getId(),
-                post.getTitle(),
-                post.getAuthor(),
-                post.getCreatedAt(),
+                post.id(),
+                post.title(),
+                post.author(),
+                post.createdAt(),
                 summary.commentCount(),
-                post.getViewCount(),
+                post.viewCount(),
                 summary.likeCount(),
                 isNew
         );
@@ -0,0 +1,213 @@
+package com.board.cleancode.adapter.out.memory;
+
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.CommentKey;
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.CommentRecord;
+import com.board.cleancode.domain.model.Comment;
+import com.board.cleancode.domain.model.CommentCursor;
+import com.board.cleancode.domain.model.CounterDrift;
+import com.board.cleancode.domain.port.out.CommentRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+// 게시글별 댓글 트리: 게시글 → 일반 댓글, 부모 댓글 → 답글 인덱스를 (작성 시각, id) 순으로 유지한다
+@Component
+@Profile("memory")
+public class CommentInMemoryAdapter implements CommentRepositoryPort {
+
+    private final InMemoryBoardStore store;
+
+    public CommentInMemoryAdapter(InMemoryBoardStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Comment save(Comment comment) {
+        return store.saveComment(comment).toDomain();
+    }
+
+    @Override
+    public Optional<Comment> findById(Long id) {
+        return Optional.ofNullable(store.comment(id)).map(CommentRecord::toDomain);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return store.comment(id) != null;
+    }
+
+    @Override
+    public List<Comment> findByPostIdOrderByCreatedAtDesc(Long postId, int page, int size) {
+        return toComments(store.commentsOf(postId).keys().descendingSet().stream()
+                .skip((long) page * size)
+                .limit(size));
+    }
+
+    @Override
+    public List<Comment> findRootCommentsByPostIdOrderByCreatedAtDesc(Long postId, int page, int size) {
+        return toComments(store.rootCommentsOf(postId).keys().descendingSet().stream()
+                .skip((long) page * size)
+                .limit(size));
+    }
+
+    @Override
+    public List<Comment> findRepliesByParentIdOrderByCreatedAtAsc(Long parentId, int page, int size) {
+        return toComments(store.repliesOf(parentId).page(page, size).stream());
+    }
+
+    @Override
+    public List<Comment> findRootCommentsByPostIdBefore(Long postId, CommentCursor cursor, int limit) {
+        NavigableSet<CommentKey> keys = store.rootCommentsOf(postId).keys();
+        NavigableSet<CommentKey> before = cursor == null
+                ? keys.descendingSet()
+                : keys.headSet(new CommentKey(cursor.createdAt(), cursor.id()), false).descendingSet();
+        return toComments(before.stream().limit(limit));
+    }
+
+    @Override
+    public List<Comment> findRepliesByParentIdAfter(Long parentId, CommentCursor cursor, int limit) {
+        NavigableSet<CommentKey> keys = store.repliesOf(parentId).keys();
+        NavigableSet<CommentKey> after = cursor == null
+                ? keys
+                : keys.tailSet(new CommentKey(cursor.createdAt(), cursor.id()), false);
+        return toComments(after.stream().limit(limit));
+    }
+
+    @Override
+    public List<Comment> findFirstRepliesByParentIds(List<Long> parentIds, int limit) {
+        if (parentIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return toComments(parentIds.stream()
+                .distinct()
+                .sorted()
+                .flatMap(parentId -> store.repliesOf(parentId).keys().stream().limit(limit)));
+    }
+
+    @Override
+    public long countByPostId(Long postId) {
+        return store.commentsOf(postId).size();
+    }
+
+    @Override
+    public long countRootCommentsByPostId(Long postId) {
+        return store.rootCommentsOf(postId).size();
+    }
+
+    @Override
+    public long countRepliesByParentId(Long parentId) {
+        return store.repliesOf(parentId).size();
+    }
+
+    @Override
+    public boolean markDeletedIfActive(Long commentId) {
+        return store.markCommentDeleted(commentId);
+    }
+
+    @Override
+    public boolean adjustActiveReplyCount(Long commentId, int delta) {
+        return store.adjustActiveReplyCount(commentId, delta);
+    }
+
+    @Override
+    public List<CounterDrift> findActiveReplyCountDrift() {
+        return store.comments().stream()
+                .filter(comment -> !comment.isReply())
+                .map(comment -> new CounterDrift(CounterDrift.Type.COMMENT_ACTIVE_REPLIES,
+                        comment.id(), comment.activeReplyCount(), countActiveReplies(comment.id())))
+                .filter(drift -> drift.stored() != drift.actual())
+                .toList();
+    }
+
+    private long countActiveReplies(Long parentId) {
+        return store.repliesOf(parentId).keys().stream()
+                .map(key -> store.comment(key.id()))
+                .filter(reply -> reply != null && !reply.deleted())
+                .count();
+    }
+
+    @Override
+    public int deleteBatchByPostId(Long postId, int batchSize) {
+        List<Long> ids = store.commentsOf(postId).keys().stream()
+                .limit(batchSize)
+                .map(CommentKey::id)
+                .toList();
+        return removeAll(ids, comment -> true);
+    }
+
+    // 삭제 표시된 게시글의 댓글은 집계에서 제외
+    @Override
+    public long countAllByDeletedFalse() {
+        return store.liveCommentTotal();
+    }
+
+    @Override
+    public List<Comment> findDeletedReplies(int limit) {
+        return deletedComments()
+                .filter(CommentRecord::isReply)
+                .limit(limit)
+                .map(CommentRecord::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Comment> findCompactableRootComments(int limit) {
+        return deletedComments()
+                .filter(this::isCompactableRoot)
+                .limit(limit)
+                .map(CommentRecord::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int deleteDeletedReplies(List<Long> ids) {
+        return removeAll(ids, comment -> comment.deleted() && comment.isReply());
+    }
+
+    @Override
+    public int deleteCompactableRootComments(List<Long> ids) {
+        return removeAll(ids, this::isCompactableRoot);
+    }
+
+    @Override
+    public long countCompactable() {
+        return deletedComments()
+                .filter(comment -> comment.isReply() || comment.activeReplyCount() == 0)
+                .count();
+    }
+
+    private boolean isCompactableRoot(CommentRecord comment) {
+        return comment.deleted() && !comment.isReply() && comment.activeReplyCount() == 0
+                && store.repliesOf(comment.id()).isEmpty();
+    }
+
+    private Stream<CommentRecord> deletedComments() {
+        return store.deletedCommentIds().keys().stream()
+                .map(store::comment)
+                .filter(Objects::nonNull);
+    }
+
+    private int removeAll(Collection<Long> ids, Predicate<CommentRecord> condition) {
+        int removed = 0;
+        for (Long id : ids) {
+            if (store.removeCommentIf(id, condition)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private List<Comment> toComments(Stream<CommentKey> keys) {
+        return keys.map(key -> store.comment(key.id()))
+                .filter(Objects::nonNull)
+                .map(CommentRecord::toDomain)
+                .toList();
+    }
+}
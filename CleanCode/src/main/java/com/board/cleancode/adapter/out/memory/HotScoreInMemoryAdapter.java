@@ -0,0 +1,57 @@
+package com.board.cleancode.adapter.out.memory;
+
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.PostOrder;
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.PostRecord;
+import com.board.cleancode.domain.model.HotScore;
+import com.board.cleancode.domain.port.out.HotScoreRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+// 랭킹 점수의 초기 계산도 메모리의 게시글/좋아요/댓글 카운터에서 한다
+@Component
+@Profile("memory")
+public class HotScoreInMemoryAdapter implements HotScoreRepositoryPort {
+
+    private final InMemoryBoardStore store;
+
+    public HotScoreInMemoryAdapter(InMemoryBoardStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public List<HotScore> findAll() {
+        return store.hotScores().values().stream()
+                .filter(score -> isLive(score.postId()))
+                .toList();
+    }
+
+    @Override
+    public List<HotScore> computeMissing() {
+        return store.livePosts(PostOrder.LATEST).keys().stream()
+                .filter(key -> !store.hotScores().containsKey(key.id()))
+                .map(key -> store.post(key.id()))
+                .filter(Objects::nonNull)
+                .map(post -> HotScore.fromActivity(post.id(), post.createdAt(),
+                        post.viewCount(), post.likeCount(), post.activeCommentCount()))
+                .toList();
+    }
+
+    @Override
+    public void saveAll(Collection<HotScore> scores) {
+        scores.forEach(score -> store.hotScores().put(score.postId(), score));
+    }
+
+    @Override
+    public void deleteAllById(Collection<Long> postIds) {
+        postIds.forEach(store.hotScores()::remove);
+    }
+
+    private boolean isLive(Long postId) {
+        PostRecord post = store.post(postId);
+        return post != null && !post.deleted();
+    }
+}
@@ -0,0 +1,597 @@
+package com.board.cleancode.adapter.out.memory;
+
+import com.board.cleancode.domain.model.Comment;
+import com.board.cleancode.domain.model.HotScore;
+import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.model.PostHeader;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+// 게시글/댓글/좋아요를 메모리에 두는 저장소 (memory 프로필)
+@Component
+@Profile("memory")
+public class InMemoryBoardStore {
+
+    enum PostOrder {
+        LATEST, VIEWS, LIKES;
+
+        static PostOrder of(String sort) {
+            return switch (sort) {
+                case "views" -> VIEWS;
+                case "likes" -> LIKES;
+                default -> LATEST;
+            };
+        }
+
+        PostKey keyOf(PostRecord post) {
+            long rank = switch (this) {
+                case LATEST -> 0;
+                case VIEWS -> post.viewCount();
+                case LIKES -> post.likeCount();
+            };
+            return new PostKey(rank, post.createdAt(), post.id());
+        }
+    }
+
+    // 정렬 값 → 작성 시각 → id 내림차순
+    record PostKey(long rank, LocalDateTime createdAt, long id) {
+        static final Comparator<PostKey> ORDER = Comparator.comparingLong(PostKey::rank)
+                .thenComparing(PostKey::createdAt)
+                .thenComparingLong(PostKey::id)
+                .reversed();
+    }
+
+    record HashtagOrder(String hashtag, PostOrder order) {
+    }
+
+    record PostRecord(Long id, String title, String content, String author, String password,
+                      List<String> hashtags, int viewCount, int activeCommentCount, int likeCount,
+                      boolean deleted, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static PostRecord from(Long id, Post post) {
+            return new PostRecord(id, post.getTitle(), post.getContent(), post.getAuthor(), post.getPassword(),
+                    List.copyOf(post.getHashtags()), post.getViewCount(), post.getActiveCommentCount(), 0,
+                    post.isDeleted(), post.getCreatedAt(), post.getUpdatedAt());
+        }
+
+        PostRecord withCounters(int activeCommentCount, int likeCount) {
+            return new PostRecord(id, title, content, author, password, hashtags, viewCount,
+                    activeCommentCount, likeCount, deleted, createdAt, updatedAt);
+        }
+
+        Post toDomain() {
+            return Post.reconstitute(id, title, content, author, password, hashtags, viewCount,
+                    activeCommentCount, deleted, createdAt, updatedAt);
+        }
+
+        PostHeader toHeader() {
+            return new PostHeader(id, title, author, viewCount, activeCommentCount, createdAt);
+        }
+    }
+
+    // 작성 시각 → id 오름차순 (CommentCursor와 같은 기준)
+    record CommentKey(LocalDateTime createdAt, long id) {
+        static final Comparator<CommentKey> ORDER = Comparator.comparing(CommentKey::createdAt)
+                .thenComparingLong(CommentKey::id);
+
+        static CommentKey of(CommentRecord comment) {
+            return new CommentKey(comment.createdAt(), comment.id());
+        }
+    }
+
+    record CommentRecord(Long id, Long postId, Long parentId, String author, String password,
+                         String content, boolean deleted, int activeReplyCount,
+                         LocalDateTime createdAt) {
+
+        static CommentRecord from(Long id, Comment comment) {
+            return new CommentRecord(id, comment.getPostId(), comment.getParentId(), comment.getAuthor(),
+                    comment.getPassword(), comment.getContent(), comment.isDeleted(),
+                    comment.getActiveReplyCount(), comment.getCreatedAt());
+        }
+
+        boolean isReply() {
+            return parentId != null;
+        }
+
+        CommentRecord withDeleted(boolean deleted) {
+            return new CommentRecord(id, postId, parentId, author, password, content, deleted,
+                    activeReplyCount, createdAt);
+        }
+
+        CommentRecord withActiveReplyCount(int activeReplyCount) {
+            return new CommentRecord(id, postId, parentId, author, password, content, deleted,
+                    activeReplyCount, createdAt);
+        }
+
+        Comment toDomain() {
+            return Comment.reconstitute(id, postId, parentId, author, password, content, deleted,
+                    activeReplyCount, createdAt);
+        }
+    }
+
+    private static final SortedIndex<PostKey> NO_POSTS = new SortedIndex<>(PostKey.ORDER);
+    private static final SortedIndex<CommentKey> NO_COMMENTS = new SortedIndex<>(CommentKey.ORDER);
+
+    private final AtomicLong postIds = new AtomicLong();
+    private final AtomicLong commentIds = new AtomicLong();
+    private final AtomicLong likeIds = new AtomicLong();
+
+    private final ConcurrentHashMap<Long, PostRecord> posts = new ConcurrentHashMap<>();
+    // 삭제되지 않은 게시글만 정렬 인덱스에 둔다
+    private final Map<PostOrder, SortedIndex<PostKey>> livePosts = new EnumMap<>(PostOrder.class);
+    private final ConcurrentHashMap<HashtagOrder, SortedIndex<PostKey>> livePostsByHashtag = new ConcurrentHashMap<>();
+    private final SortedIndex<Long> deletedPostIds = new SortedIndex<>(Comparator.naturalOrder());
+    // 삭제되지 않은 게시글의 활성 댓글 카운터 합계
+    private final AtomicLong liveCommentTotal = new AtomicLong();
+
+    private final ConcurrentHashMap<Long, Set<String>> likes = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Long, CommentRecord> comments = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, SortedIndex<CommentKey>> commentsByPost = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, SortedIndex<CommentKey>> rootCommentsByPost = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, SortedIndex<CommentKey>> repliesByParent = new ConcurrentHashMap<>();
+    private final SortedIndex<Long> deletedCommentIds = new SortedIndex<>(Comparator.naturalOrder());
+
+    private final ConcurrentHashMap<Long, HotScore> hotScores = new ConcurrentHashMap<>();
+
+    // storage 프로필에서만 있다
+    private final Optional<SegmentLogJournal> durableLog;
+    private volatile StoreJournal journal = StoreJournal.NONE;
+
+    public InMemoryBoardStore(Optional<SegmentLogJournal> durableLog) {
+        this.durableLog = durableLog;
+        for (PostOrder order : PostOrder.values()) {
+            livePosts.put(order, new SortedIndex<>(PostKey.ORDER));
+        }
+    }
+
+    @PostConstruct
+    public void open() {
+        durableLog.ifPresent(log -> {
+            log.open(new Replay(), this::writeSnapshot);
+            journal = log;
+        });
+    }
+
+    // 테스트 정리용
+    public void clear() {
+        posts.clear();
+        livePosts.values().forEach(SortedIndex::clear);
+        livePostsByHashtag.clear();
+        deletedPostIds.clear();
+        liveCommentTotal.set(0);
+        likes.clear();
+        comments.clear();
+        commentsByPost.clear();
+        rootCommentsByPost.clear();
+        repliesByParent.clear();
+        deletedCommentIds.clear();
+        hotScores.clear();
+    }
+
+    // --- 게시글 ---
+
+    PostRecord post(Long id) {
+        return posts.get(id);
+    }
+
+    Collection<PostRecord> posts() {
+        return posts.values();
+    }
+
+    SortedIndex<PostKey> livePosts(PostOrder order) {
+        return livePosts.get(order);
+    }
+
+    SortedIndex<PostKey> livePostsTagged(String hashtag, PostOrder order) {
+        return livePostsByHashtag.getOrDefault(new HashtagOrder(hashtag, order), NO_POSTS);
+    }
+
+    SortedIndex<Long> deletedPostIds() {
+        return deletedPostIds;
+    }
+
+    long liveCommentTotal() {
+        return liveCommentTotal.get();
+    }
+
+    PostRecord savePost(Post post) {
+        Long id = post.getId() != null ? post.getId() : postIds.incrementAndGet();
+        PostRecord[] previous = new PostRecord[1];
+        PostRecord saved = posts.compute(id, (key, current) -> {
+            previous[0] = current;
+            return replacePost(current, keepCounters(current, PostRecord.from(id, post)));
+        });
+        RollbackLog.record(this, () -> restorePost(id, previous[0]));
+        return saved;
+    }
+
+    void removePost(Long id) {
+        PostRecord[] removed = new PostRecord[1];
+        posts.computeIfPresent(id, (key, current) -> {
+            removed[0] = current;
+            return replacePost(current, null);
+        });
+        if (removed[0] != null) {
+            RollbackLog.record(this, () -> restorePost(id, removed[0]));
+        }
+    }
+
+    void adjustActiveCommentCount(Long postId, int delta) {
+        if (adjustActiveCommentCountNow(postId, delta)) {
+            RollbackLog.record(this, () -> adjustActiveCommentCountNow(postId, -delta));
+        }
+    }
+
+    private boolean adjustActiveCommentCountNow(Long postId, int delta) {
+        return posts.computeIfPresent(postId, (key, current) -> replacePost(current,
+                current.withCounters(current.activeCommentCount() + delta, current.likeCount()))) != null;
+    }
+
+    private void restorePost(Long id, PostRecord previous) {
+        posts.compute(id, (key, current) ->
+                replacePost(current, previous != null ? keepCounters(current, previous) : null));
+    }
+
+    private PostRecord keepCounters(PostRecord current, PostRecord next) {
+        int activeComments = current != null ? current.activeCommentCount() : next.activeCommentCount();
+        return next.withCounters(activeComments, likeCount(next.id()));
+    }
+
+    private PostRecord replacePost(PostRecord current, PostRecord next) {
+        reindexPost(current, next);
+        if (next != null) {
+            journal.postSaved(next);
+        } else if (current != null) {
+            journal.postRemoved(current.id());
+        }
+        return next;
+    }
+
+    private PostRecord reindexPost(PostRecord current, PostRecord next) {
+        if (current != null) {
+            unindex(current);
+        }
+        if (next != null) {
+            index(next);
+        }
+        return next;
+    }
+
+    private void index(PostRecord post) {
+        if (post.deleted()) {
+            deletedPostIds.add(post.id());
+            return;
+        }
+        liveCommentTotal.addAndGet(post.activeCommentCount());
+        for (PostOrder order : PostOrder.values()) {
+            PostKey key = order.keyOf(post);
+            livePosts.get(order).add(key);
+            for (String hashtag : post.hashtags()) {
+                addTo(livePostsByHashtag, new HashtagOrder(hashtag, order), key, PostKey.ORDER);
+            }
+        }
+    }
+
+    private void unindex(PostRecord post) {
+        if (post.deleted()) {
+            deletedPostIds.remove(post.id());
+            return;
+        }
+        liveCommentTotal.addAndGet(-post.activeCommentCount());
+        for (PostOrder order : PostOrder.values()) {
+            PostKey key = order.keyOf(post);
+            livePosts.get(order).remove(key);
+            for (String hashtag : post.hashtags()) {
+                removeFrom(livePostsByHashtag, new HashtagOrder(hashtag, order), key);
+            }
+        }
+    }
+
+    // --- 좋아요 ---
+
+    long nextLikeId() {
+        return likeIds.incrementAndGet();
+    }
+
+    int likeCount(Long postId) {
+        Set<String> guests = likes.get(postId);
+        return guests != null ? guests.size() : 0;
+    }
+
+    boolean hasLike(Long postId, String guestId) {
+        Set<String> guests = likes.get(postId);
+        return guests != null && guests.contains(guestId);
+    }
+
+    boolean addLike(Long postId, String guestId) {
+        if (!addLikeNow(postId, guestId)) {
+            return false;
+        }
+        RollbackLog.record(this, () -> removeLikeNow(postId, guestId));
+        return true;
+    }
+
+    boolean removeLike(Long postId, String guestId) {
+        if (!removeLikeNow(postId, guestId)) {
+            return false;
+        }
+        RollbackLog.record(this, () -> addLikeNow(postId, guestId));
+        return true;
+    }
+
+    int removeLikes(Long postId, int limit) {
+        List<String> removed = new ArrayList<>();
+        likes.computeIfPresent(postId, (key, guests) -> {
+            Iterator<String> iterator = guests.iterator();
+            while (iterator.hasNext() && removed.size() < limit) {
+                String guestId = iterator.next();
+                iterator.remove();
+                removed.add(guestId);
+                journal.likeRemoved(postId, guestId);
+            }
+            return guests.isEmpty() ? null : guests;
+        });
+        if (!removed.isEmpty()) {
+            refreshLikeRank(postId);
+            RollbackLog.record(this, () -> removed.forEach(guestId -> addLikeNow(postId, guestId)));
+        }
+        return removed.size();
+    }
+
+    private boolean addLikeNow(Long postId, String guestId) {
+        boolean[] added = new boolean[1];
+        likes.compute(postId, (key, guests) -> {
+            Set<String> target = guests != null ? guests : ConcurrentHashMap.newKeySet();
+            added[0] = target.add(guestId);
+            if (added[0]) {
+                journal.likeAdded(postId, guestId);
+            }
+            return target;
+        });
+        if (added[0]) {
+            refreshLikeRank(postId);
+        }
+        return added[0];
+    }
+
+    private boolean removeLikeNow(Long postId, String guestId) {
+        boolean[] removed = new boolean[1];
+        likes.computeIfPresent(postId, (key, guests) -> {
+            removed[0] = guests.remove(guestId);
+            if (removed[0]) {
+                journal.likeRemoved(postId, guestId);
+            }
+            return guests.isEmpty() ? null : guests;
+        });
+        if (removed[0]) {
+            refreshLikeRank(postId);
+        }
+        return removed[0];
+    }
+
+    private void refreshLikeRank(Long postId) {
+        posts.computeIfPresent(postId, (key, current) -> reindexPost(current, keepCounters(current, current)));
+    }
+
+    // --- 댓글 ---
+
+    CommentRecord comment(Long id) {
+        return comments.get(id);
+    }
+
+    Collection<CommentRecord> comments() {
+        return comments.values();
+    }
+
+    SortedIndex<CommentKey> commentsOf(Long postId) {
+        return commentsByPost.getOrDefault(postId, NO_COMMENTS);
+    }
+
+    SortedIndex<CommentKey> rootCommentsOf(Long postId) {
+        return rootCommentsByPost.getOrDefault(postId, NO_COMMENTS);
+    }
+
+    SortedIndex<CommentKey> repliesOf(Long parentId) {
+        return repliesByParent.getOrDefault(parentId, NO_COMMENTS);
+    }
+
+    SortedIndex<Long> deletedCommentIds() {
+        return deletedCommentIds;
+    }
+
+    CommentRecord saveComment(Comment comment) {
+        Long id = comment.getId() != null ? comment.getId() : commentIds.incrementAndGet();
+        CommentRecord[] previous = new CommentRecord[1];
+        CommentRecord saved = comments.compute(id, (key, current) -> {
+            previous[0] = current;
+            return replaceComment(current, keepReplyCount(current, CommentRecord.from(id, comment)));
+        });
+        RollbackLog.record(this, () -> restoreComment(id, previous[0]));
+        return saved;
+    }
+
+    boolean markCommentDeleted(Long id) {
+        boolean[] changed = new boolean[1];
+        comments.computeIfPresent(id, (key, current) -> {
+            if (current.deleted()) {
+                return current;
+            }
+            changed[0] = true;
+            return replaceComment(current, current.withDeleted(true));
+        });
+        if (changed[0]) {
+            RollbackLog.record(this, () -> comments.computeIfPresent(id, (key, current) ->
+                    replaceComment(current, current.withDeleted(false))));
+        }
+        return changed[0];
+    }
+
+    boolean adjustActiveReplyCount(Long id, int delta) {
+        if (!adjustActiveReplyCountNow(id, delta)) {
+            return false;
+        }
+        RollbackLog.record(this, () -> adjustActiveReplyCountNow(id, -delta));
+        return true;
+    }
+
+    boolean removeCommentIf(Long id, Predicate<CommentRecord> condition) {
+        CommentRecord[] removed = new CommentRecord[1];
+        comments.computeIfPresent(id, (key, current) -> {
+            if (!condition.test(current)) {
+                return current;
+            }
+            removed[0] = current;
+            return replaceComment(current, null);
+        });
+        if (removed[0] == null) {
+            return false;
+        }
+        RollbackLog.record(this, () -> restoreComment(id, removed[0]));
+        return true;
+    }
+
+    private boolean adjustActiveReplyCountNow(Long id, int delta) {
+        return comments.computeIfPresent(id, (key, current) -> replaceComment(current,
+                current.withActiveReplyCount(current.activeReplyCount() + delta))) != null;
+    }
+
+    private void restoreComment(Long id, CommentRecord previous) {
+        comments.compute(id, (key, current) ->
+                replaceComment(current, previous != null ? keepReplyCount(current, previous) : null));
+    }
+
+    private CommentRecord keepReplyCount(CommentRecord current, CommentRecord next) {
+        return current != null ? next.withActiveReplyCount(current.activeReplyCount()) : next;
+    }
+
+    private CommentRecord replaceComment(CommentRecord current, CommentRecord next) {
+        if (current != null) {
+            unindex(current);
+        }
+        if (next != null) {
+            index(next);
+            journal.commentSaved(next);
+        } else if (current != null) {
+            journal.commentRemoved(current.id());
+        }
+        return next;
+    }
+
+    private void index(CommentRecord comment) {
+        CommentKey key = CommentKey.of(comment);
+        addTo(commentsByPost, comment.postId(), key, CommentKey.ORDER);
+        if (comment.isReply()) {
+            addTo(repliesByParent, comment.parentId(), key, CommentKey.ORDER);
+        } else {
+            addTo(rootCommentsByPost, comment.postId(), key, CommentKey.ORDER);
+        }
+        if (comment.deleted()) {
+            deletedCommentIds.add(comment.id());
+        }
+    }
+
+    private void unindex(CommentRecord comment) {
+        CommentKey key = CommentKey.of(comment);
+        removeFrom(commentsByPost, comment.postId(), key);
+        if (comment.isReply()) {
+            removeFrom(repliesByParent, comment.parentId(), key);
+        } else {
+            removeFrom(rootCommentsByPost, comment.postId(), key);
+        }
+        if (comment.deleted()) {
+            deletedCommentIds.remove(comment.id());
+        }
+    }
+
+    // --- 랭킹 점수 ---
+
+    ConcurrentHashMap<Long, HotScore> hotScores() {
+        return hotScores;
+    }
+
+    // --- 로그 재생 / 체크포인트 ---
+
+    // 체크포인트: 현재 상태 전체를 내보낸다
+    private void writeSnapshot(StoreJournal out) {
+        out.idsIssued(postIds.get(), commentIds.get(), likeIds.get());
+        posts.values().forEach(out::postSaved);
+        comments.values().forEach(out::commentSaved);
+        likes.forEach((postId, guests) -> guests.forEach(guestId -> out.likeAdded(postId, guestId)));
+    }
+
+    // 기록된 순서대로 적용한다
+    private final class Replay implements StoreJournal {
+
+        @Override
+        public void postSaved(PostRecord post) {
+            postIds.accumulateAndGet(post.id(), Math::max);
+            posts.compute(post.id(), (key, current) ->
+                    reindexPost(current, post.withCounters(post.activeCommentCount(), likeCount(post.id()))));
+        }
+
+        @Override
+        public void postRemoved(Long id) {
+            posts.computeIfPresent(id, (key, current) -> reindexPost(current, null));
+        }
+
+        @Override
+        public void commentSaved(CommentRecord comment) {
+            commentIds.accumulateAndGet(comment.id(), Math::max);
+            comments.compute(comment.id(), (key, current) -> replaceComment(current, comment));
+        }
+
+        @Override
+        public void commentRemoved(Long id) {
+            comments.computeIfPresent(id, (key, current) -> replaceComment(current, null));
+        }
+
+        @Override
+        public void likeAdded(Long postId, String guestId) {
+            addLikeNow(postId, guestId);
+        }
+
+        @Override
+        public void likeRemoved(Long postId, String guestId) {
+            removeLikeNow(postId, guestId);
+        }
+
+        @Override
+        public void idsIssued(long lastPostId, long lastCommentId, long lastLikeId) {
+            postIds.accumulateAndGet(lastPostId, Math::max);
+            commentIds.accumulateAndGet(lastCommentId, Math::max);
+            likeIds.accumulateAndGet(lastLikeId, Math::max);
+        }
+    }
+
+    private static <G, K> void addTo(ConcurrentHashMap<G, SortedIndex<K>> indexes, G group, K key,
+                                     Comparator<? super K> order) {
+        indexes.compute(group, (ignored, index) -> {
+            SortedIndex<K> target = index != null ? index : new SortedIndex<>(order);
+            target.add(key);
+            return target;
+        });
+    }
+
+    private static <G, K> void removeFrom(ConcurrentHashMap<G, SortedIndex<K>> indexes, G group, K key) {
+        indexes.computeIfPresent(group, (ignored, index) -> {
+            index.remove(key);
+            return index.isEmpty() ? null : index;
+        });
+    }
+}
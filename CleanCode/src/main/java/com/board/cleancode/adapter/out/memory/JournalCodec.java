@@ -0,0 +1,193 @@
+package com.board.cleancode.adapter.out.memory;
+
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.CommentRecord;
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.PostRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+// 변경 기록 한 건의 바이너리 형식: [종류 1바이트][내용]. 문자열은 길이(int) + UTF-8
+final class JournalCodec {
+
+    private static final byte POST_SAVED = 1;
+    private static final byte POST_REMOVED = 2;
+    private static final byte COMMENT_SAVED = 3;
+    private static final byte COMMENT_REMOVED = 4;
+    private static final byte LIKE_ADDED = 5;
+    private static final byte LIKE_REMOVED = 6;
+    private static final byte IDS_ISSUED = 7;
+
+    private JournalCodec() {
+    }
+
+    static byte[] postSaved(PostRecord post) {
+        return encode(POST_SAVED, out -> {
+            out.writeLong(post.id());
+            writeString(out, post.title());
+            writeString(out, post.content());
+            writeString(out, post.author());
+            writeString(out, post.password());
+            out.writeInt(post.hashtags().size());
+            for (String hashtag : post.hashtags()) {
+                writeString(out, hashtag);
+            }
+            out.writeInt(post.viewCount());
+            out.writeInt(post.activeCommentCount());
+            out.writeBoolean(post.deleted());
+            writeDateTime(out, post.createdAt());
+            writeDateTime(out, post.updatedAt());
+        });
+    }
+
+    static byte[] postRemoved(Long id) {
+        return encode(POST_REMOVED, out -> out.writeLong(id));
+    }
+
+    static byte[] commentSaved(CommentRecord comment) {
+        return encode(COMMENT_SAVED, out -> {
+            out.writeLong(comment.id());
+            out.writeLong(comment.postId());
+            out.writeBoolean(comment.parentId() != null);
+            if (comment.parentId() != null) {
+                out.writeLong(comment.parentId());
+            }
+            writeString(out, comment.author());
+            writeString(out, comment.password());
+            writeString(out, comment.content());
+            out.writeBoolean(comment.deleted());
+            out.writeInt(comment.activeReplyCount());
+            writeDateTime(out, comment.createdAt());
+        });
+    }
+
+    static byte[] commentRemoved(Long id) {
+        return encode(COMMENT_REMOVED, out -> out.writeLong(id));
+    }
+
+    static byte[] likeAdded(Long postId, String guestId) {
+        return encode(LIKE_ADDED, out -> {
+            out.writeLong(postId);
+            writeString(out, guestId);
+        });
+    }
+
+    static byte[] likeRemoved(Long postId, String guestId) {
+        return encode(LIKE_REMOVED, out -> {
+            out.writeLong(postId);
+            writeString(out, guestId);
+        });
+    }
+
+    static byte[] idsIssued(long lastPostId, long lastCommentId, long lastLikeId) {
+        return encode(IDS_ISSUED, out -> {
+            out.writeLong(lastPostId);
+            out.writeLong(lastCommentId);
+            out.writeLong(lastLikeId);
+        });
+    }
+
+    static void decode(byte[] entry, StoreJournal target) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(entry))) {
+            byte type = in.readByte();
+            switch (type) {
+                case POST_SAVED -> target.postSaved(readPost(in));
+                case POST_REMOVED -> target.postRemoved(in.readLong());
+                case COMMENT_SAVED -> target.commentSaved(readComment(in));
+                case COMMENT_REMOVED -> target.commentRemoved(in.readLong());
+                case LIKE_ADDED -> target.likeAdded(in.readLong(), readString(in));
+                case LIKE_REMOVED -> target.likeRemoved(in.readLong(), readString(in));
+                case IDS_ISSUED -> target.idsIssued(in.readLong(), in.readLong(), in.readLong());
+                default -> throw new IllegalStateException("알 수 없는 기록 종류입니다: " + type);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static PostRecord readPost(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        String title = readString(in);
+        String content = readString(in);
+        String author = readString(in);
+        String password = readString(in);
+        int hashtagCount = in.readInt();
+        List<String> hashtags = new ArrayList<>(hashtagCount);
+        for (int i = 0; i < hashtagCount; i++) {
+            hashtags.add(readString(in));
+        }
+        int viewCount = in.readInt();
+        int activeCommentCount = in.readInt();
+        boolean deleted = in.readBoolean();
+        LocalDateTime createdAt = readDateTime(in);
+        LocalDateTime updatedAt = readDateTime(in);
+        return new PostRecord(id, title, content, author, password, List.copyOf(hashtags),
+                viewCount, activeCommentCount, 0, deleted, createdAt, updatedAt);
+    }
+
+    private static CommentRecord readComment(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        long postId = in.readLong();
+        Long parentId = in.readBoolean() ? in.readLong() : null;
+        String author = readString(in);
+        String password = readString(in);
+        String content = readString(in);
+        boolean deleted = in.readBoolean();
+        int activeReplyCount = in.readInt();
+        LocalDateTime createdAt = readDateTime(in);
+        return new CommentRecord(id, postId, parentId, author, password, content,
+                deleted, activeReplyCount, createdAt);
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] encode(byte type, Writer writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type);
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // DataOutput.writeUTF는 64KB까지만 쓸 수 있어 본문에는 맞지 않는다
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
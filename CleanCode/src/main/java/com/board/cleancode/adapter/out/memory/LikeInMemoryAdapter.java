@@ -0,0 +1,49 @@
+package com.board.cleancode.adapter.out.memory;
+
+import com.board.cleancode.domain.model.Like;
+import com.board.cleancode.domain.port.out.LikeRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+// 게시글별 게스트 id 집합으로 좋아요를 저장한다 (spring.profiles.active=memory)
+@Component
+@Profile("memory")
+public class LikeInMemoryAdapter implements LikeRepositoryPort {
+
+    private final InMemoryBoardStore store;
+
+    public LikeInMemoryAdapter(InMemoryBoardStore store) {
+        this.store = store;
+    }
+
+    // (post_id, guest_id) 유니크 제약과 같은 예외를 던진다
+    @Override
+    public Like save(Like like) {
+        if (!store.addLike(like.getPostId(), like.getGuestId())) {
+            throw new DataIntegrityViolationException(
+                    "이미 좋아요한 게시글입니다: " + like.getPostId());
+        }
+        return Like.reconstitute(store.nextLikeId(), like.getPostId(), like.getGuestId());
+    }
+
+    @Override
+    public void deleteByPostIdAndGuestId(Long postId, String guestId) {
+        store.removeLike(postId, guestId);
+    }
+
+    @Override
+    public boolean existsByPostIdAndGuestId(Long postId, String guestId) {
+        return store.hasLike(postId, guestId);
+    }
+
+    @Override
+    public int countByPostId(Long postId) {
+        return store.likeCount(postId);
+    }
+
+    @Override
+    public int deleteBatchByPostId(Long postId, int batchSize) {
+        return store.removeLikes(postId, batchSize);
+    }
+}
@@ -0,0 +1,162 @@
+package com.board.cleancode.adapter.out.memory;
+
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.PostKey;
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.PostOrder;
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.PostRecord;
+import com.board.cleancode.domain.model.CounterDrift;
+import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.model.PostHeader;
+import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// 목록/해시태그 조회는 정렬 인덱스에서 페이지만큼 읽는다 (정렬 단계 없음, 건수는 인덱스가 센다)
+@Component
+@Profile("memory")
+public class PostInMemoryAdapter implements PostRepositoryPort {
+
+    private final InMemoryBoardStore store;
+
+    public PostInMemoryAdapter(InMemoryBoardStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Post save(Post post) {
+        return store.savePost(post).toDomain();
+    }
+
+    @Override
+    public Optional<Post> findById(Long id) {
+        return Optional.ofNullable(livePost(id)).map(PostRecord::toDomain);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return livePost(id) != null;
+    }
+
+    @Override
+    public List<PostHeader> findHeadersByIds(List<Long> ids) {
+        return ids.stream()
+                .map(this::livePost)
+                .filter(Objects::nonNull)
+                .map(PostRecord::toHeader)
+                .toList();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        store.removePost(id);
+    }
+
+    @Override
+    public long count() {
+        return store.livePosts(PostOrder.LATEST).size();
+    }
+
+    @Override
+    public List<Long> findDeletedIds(int limit) {
+        return store.deletedPostIds().keys().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public long countDeleted() {
+        return store.deletedPostIds().size();
+    }
+
+    @Override
+    public void adjustActiveCommentCount(Long postId, int delta) {
+        store.adjustActiveCommentCount(postId, delta);
+    }
+
+    @Override
+    public List<CounterDrift> findActiveCommentCountDrift() {
+        List<CounterDrift> drifts = new ArrayList<>();
+        for (PostKey key : store.livePosts(PostOrder.LATEST).keys()) {
+            PostRecord post = livePost(key.id());
+            if (post == null) {
+                continue;
+            }
+            long actual = store.commentsOf(post.id()).keys().stream()
+                    .map(commentKey -> store.comment(commentKey.id()))
+                    .filter(comment -> comment != null && !comment.deleted())
+                    .count();
+            if (post.activeCommentCount() != actual) {
+                drifts.add(new CounterDrift(CounterDrift.Type.POST_ACTIVE_COMMENTS,
+                        post.id(), post.activeCommentCount(), actual));
+            }
+        }
+        return drifts;
+    }
+
+    @Override
+    public PostSummaryPage findAll(int page, int size, String sort) {
+        return toSummaryPage(store.livePosts(PostOrder.of(sort)), page, size);
+    }
+
+    @Override
+    public PostSummaryPage searchByTitle(String keyword, int page, int size, String sort) {
+        return search(PostRecord::title, keyword, page, size, sort);
+    }
+
+    @Override
+    public PostSummaryPage searchByAuthor(String keyword, int page, int size, String sort) {
+        return search(PostRecord::author, keyword, page, size, sort);
+    }
+
+    @Override
+    public PostSummaryPage searchByContent(String keyword, int page, int size, String sort) {
+        return search(PostRecord::content, keyword, page, size, sort);
+    }
+
+    @Override
+    public PostSummaryPage searchByHashtag(String keyword, int page, int size, String sort) {
+        return toSummaryPage(store.livePostsTagged(keyword, PostOrder.of(sort)), page, size);
+    }
+
+    private PostRecord livePost(Long id) {
+        PostRecord post = store.post(id);
+        return post != null && !post.deleted() ? post : null;
+    }
+
+    private PostSummaryPage toSummaryPage(SortedIndex<PostKey> index, int page, int size) {
+        List<PostHeader> posts = index.page(page, size).stream()
+                .map(key -> livePost(key.id()))
+                .filter(Objects::nonNull)
+                .map(PostRecord::toHeader)
+                .toList();
+        return new PostSummaryPage(posts, index.size());
+    }
+
+    // 부분 일치는 정렬 순서대로 훑으며 거른다
+    private PostSummaryPage search(Function<PostRecord, String> field, String keyword, int page, int size, String sort) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        Predicate<PostRecord> matches = post -> field.apply(post).toLowerCase(Locale.ROOT).contains(needle);
+
+        long offset = (long) page * size;
+        List<PostHeader> content = new ArrayList<>(size);
+        long totalElements = 0;
+        for (PostKey key : store.livePosts(PostOrder.of(sort)).keys()) {
+            PostRecord post = livePost(key.id());
+            if (post == null || !matches.test(post)) {
+                continue;
+            }
+            if (totalElements >= offset && content.size() < size) {
+                content.add(post.toHeader());
+            }
+            totalElements++;
+        }
+        return new PostSummaryPage(content, totalElements);
+    }
+}
@@ -0,0 +1,53 @@
+package com.board.cleancode.adapter.out.memory;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+// 트랜잭션 안의 변경을 되돌리는 작업을 쌓아 두었다가 롤백되면 역순으로 실행한다
+final class RollbackLog implements TransactionSynchronization {
+
+    private final Object key;
+    private final Deque<Runnable> undoActions = new ArrayDeque<>();
+
+    private RollbackLog(Object key) {
+        this.key = key;
+    }
+
+    // 트랜잭션 밖(동기화 비활성)에서의 변경은 바로 확정된다
+    static void record(Object key, Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        RollbackLog log = (RollbackLog) TransactionSynchronizationManager.getResource(key);
+        if (log == null) {
+            log = new RollbackLog(key);
+            TransactionSynchronizationManager.bindResource(key, log);
+            TransactionSynchronizationManager.registerSynchronization(log);
+        }
+        log.undoActions.push(undo);
+    }
+
+    @Override
+    public void suspend() {
+        TransactionSynchronizationManager.unbindResource(key);
+    }
+
+    @Override
+    public void resume() {
+        TransactionSynchronizationManager.bindResource(key, this);
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(key);
+        if (status == STATUS_ROLLED_BACK) {
+            while (!undoActions.isEmpty()) {
+                undoActions.pop().run();
+            }
+        }
+        undoActions.clear();
+    }
+}
@@ -0,0 +1,344 @@
+package com.board.cleancode.adapter.out.memory;
+
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.CommentRecord;
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.PostRecord;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// 메모리 저장소의 변경을 메모리 매핑한 세그먼트 파일에 남긴다 (storage 프로필)
+// 기록 한 건: [길이 int][CRC32 int][JournalCodec 형식], 길이 0은 끝
+@Component
+@Profile("storage")
+public class SegmentLogJournal implements StoreJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentLogJournal.class);
+
+    // always: 기록마다 force / interval: 주기적으로 force / never: 운영체제에 맡긴다
+    enum FsyncPolicy {
+        ALWAYS, INTERVAL, NEVER
+    }
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String CHECKPOINT_PREFIX = "checkpoint-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final FsyncPolicy fsyncPolicy;
+    private final int compactionSegments;
+
+    private final Object appendLock = new Object();
+    private MappedByteBuffer active;
+    private long activeSequence;
+    private volatile long checkpointSequence;
+    private volatile Consumer<StoreJournal> snapshotSource;
+
+    public SegmentLogJournal(@Value("${board.storage.dir:./data/board}") String directory,
+                             @Value("${board.storage.segment-size-bytes:67108864}") int segmentBytes,
+                             @Value("${board.storage.fsync:interval}") String fsyncPolicy,
+                             @Value("${board.storage.compaction-segments:4}") int compactionSegments) {
+        this.directory = Paths.get(directory);
+        this.segmentBytes = segmentBytes;
+        this.fsyncPolicy = FsyncPolicy.valueOf(fsyncPolicy.trim().toUpperCase(Locale.ROOT));
+        this.compactionSegments = compactionSegments;
+    }
+
+    void open(StoreJournal replayTarget, Consumer<StoreJournal> snapshotSource) {
+        try {
+            Files.createDirectories(directory);
+            OptionalLong checkpoint = latest(CHECKPOINT_PREFIX);
+            checkpointSequence = checkpoint.orElse(0);
+            if (checkpoint.isPresent()) {
+                replay(fileOf(CHECKPOINT_PREFIX, checkpointSequence), replayTarget);
+            }
+            long lastSequence = checkpointSequence;
+            for (long sequence : sequences(SEGMENT_PREFIX)) {
+                if (sequence > checkpointSequence) {
+                    replay(fileOf(SEGMENT_PREFIX, sequence), replayTarget);
+                    lastSequence = Math.max(lastSequence, sequence);
+                }
+            }
+            synchronized (appendLock) {
+                activeSequence = lastSequence;
+                startSegment(0);
+            }
+            this.snapshotSource = snapshotSource;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void postSaved(PostRecord post) {
+        append(JournalCodec.postSaved(post));
+    }
+
+    @Override
+    public void postRemoved(Long id) {
+        append(JournalCodec.postRemoved(id));
+    }
+
+    @Override
+    public void commentSaved(CommentRecord comment) {
+        append(JournalCodec.commentSaved(comment));
+    }
+
+    @Override
+    public void commentRemoved(Long id) {
+        append(JournalCodec.commentRemoved(id));
+    }
+
+    @Override
+    public void likeAdded(Long postId, String guestId) {
+        append(JournalCodec.likeAdded(postId, guestId));
+    }
+
+    @Override
+    public void likeRemoved(Long postId, String guestId) {
+        append(JournalCodec.likeRemoved(postId, guestId));
+    }
+
+    @Override
+    public void idsIssued(long lastPostId, long lastCommentId, long lastLikeId) {
+        append(JournalCodec.idsIssued(lastPostId, lastCommentId, lastLikeId));
+    }
+
+    private void append(byte[] entry) {
+        int checksum = checksum(entry);
+        synchronized (appendLock) {
+            if (active.remaining() < HEADER_BYTES + entry.length) {
+                rollSegment(HEADER_BYTES + entry.length);
+            }
+            int start = active.position();
+            active.putInt(entry.length).putInt(checksum).put(entry);
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                active.force(start, HEADER_BYTES + entry.length);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.storage.fsync-interval-ms:1000}")
+    public void flush() {
+        if (fsyncPolicy != FsyncPolicy.INTERVAL) {
+            return;
+        }
+        MappedByteBuffer segment;
+        synchronized (appendLock) {
+            segment = active;
+        }
+        // 매핑은 채널을 닫은 뒤에도 유효하다
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.storage.compaction-interval-ms:60000}")
+    public void compact() {
+        Consumer<StoreJournal> source = snapshotSource;
+        if (source == null) {
+            return;
+        }
+        try {
+            long pending = sequences(SEGMENT_PREFIX).stream()
+                    .filter(sequence -> sequence > checkpointSequence)
+                    .count();
+            if (pending >= compactionSegments) {
+                checkpoint(source);
+            }
+        } catch (IOException e) {
+            log.warn("세그먼트 압축 실패", e);
+        }
+    }
+
+    // 먼저 새 세그먼트로 넘긴 뒤 상태를 내보낸다
+    void checkpoint(Consumer<StoreJournal> source) throws IOException {
+        long covered;
+        synchronized (appendLock) {
+            covered = activeSequence;
+            rollSegment(0);
+        }
+
+        Path target = fileOf(CHECKPOINT_PREFIX, covered);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (CheckpointWriter writer = new CheckpointWriter(Files.newOutputStream(temporary))) {
+            source.accept(writer);
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        checkpointSequence = covered;
+
+        for (long sequence : sequences(SEGMENT_PREFIX)) {
+            if (sequence <= covered) {
+                Files.deleteIfExists(fileOf(SEGMENT_PREFIX, sequence));
+            }
+        }
+        for (long sequence : sequences(CHECKPOINT_PREFIX)) {
+            if (sequence < covered) {
+                Files.deleteIfExists(fileOf(CHECKPOINT_PREFIX, sequence));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (appendLock) {
+            if (active != null && fsyncPolicy != FsyncPolicy.NEVER) {
+                active.force();
+            }
+        }
+    }
+
+    private void rollSegment(int minimumBytes) {
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            active.force();
+        }
+        startSegment(minimumBytes);
+    }
+
+    private void startSegment(int minimumBytes) {
+        activeSequence++;
+        Path file = fileOf(SEGMENT_PREFIX, activeSequence);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            active = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentBytes, minimumBytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 길이/CRC가 맞지 않는 곳에서 읽기를 멈춘다
+    private void replay(Path file, StoreJournal target) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (buffer.remaining() >= HEADER_BYTES) {
+                int position = buffer.position();
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length == 0) {
+                    return;
+                }
+                if (length < 0 || length > buffer.remaining()) {
+                    log.warn("잘린 기록에서 재생을 멈춤 file={} offset={}", file.getFileName(), position);
+                    return;
+                }
+                byte[] entry = new byte[length];
+                buffer.get(entry);
+                if (checksum(entry) != checksum) {
+                    log.warn("CRC가 맞지 않는 기록에서 재생을 멈춤 file={} offset={}", file.getFileName(), position);
+                    return;
+                }
+                JournalCodec.decode(entry, target);
+            }
+        }
+    }
+
+    private OptionalLong latest(String prefix) throws IOException {
+        return sequences(prefix).stream().mapToLong(Long::longValue).max();
+    }
+
+    private List<Long> sequences(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path fileOf(String prefix, long sequence) {
+        return directory.resolve(String.format("%s%020d%s", prefix, sequence, SUFFIX));
+    }
+
+    private static int checksum(byte[] entry) {
+        CRC32 crc = new CRC32();
+        crc.update(entry);
+        return (int) crc.getValue();
+    }
+
+    private static final class CheckpointWriter implements StoreJournal, AutoCloseable {
+
+        private final DataOutputStream out;
+
+        CheckpointWriter(OutputStream out) {
+            this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        }
+
+        @Override
+        public void postSaved(PostRecord post) {
+            write(JournalCodec.postSaved(post));
+        }
+
+        @Override
+        public void postRemoved(Long id) {
+            write(JournalCodec.postRemoved(id));
+        }
+
+        @Override
+        public void commentSaved(CommentRecord comment) {
+            write(JournalCodec.commentSaved(comment));
+        }
+
+        @Override
+        public void commentRemoved(Long id) {
+            write(JournalCodec.commentRemoved(id));
+        }
+
+        @Override
+        public void likeAdded(Long postId, String guestId) {
+            write(JournalCodec.likeAdded(postId, guestId));
+        }
+
+        @Override
+        public void likeRemoved(Long postId, String guestId) {
+            write(JournalCodec.likeRemoved(postId, guestId));
+        }
+
+        @Override
+        public void idsIssued(long lastPostId, long lastCommentId, long lastLikeId) {
+            write(JournalCodec.idsIssued(lastPostId, lastCommentId, lastLikeId));
+        }
+
+        private void write(byte[] entry) {
+            try {
+                out.writeInt(entry.length);
+                out.writeInt(checksum(entry));
+                out.write(entry);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.board.cleancode.adapter.out.memory;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 정렬된 키 집합 + 건수 (size()는 전체를 순회한다)
+final class SortedIndex<K> {
+
+    private final ConcurrentSkipListSet<K> keys;
+    private final AtomicInteger size = new AtomicInteger();
+
+    SortedIndex(Comparator<? super K> order) {
+        this.keys = new ConcurrentSkipListSet<>(order);
+    }
+
+    void add(K key) {
+        if (keys.add(key)) {
+            size.incrementAndGet();
+        }
+    }
+
+    void remove(K key) {
+        if (keys.remove(key)) {
+            size.decrementAndGet();
+        }
+    }
+
+    void clear() {
+        keys.clear();
+        size.set(0);
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    // 읽기 전용으로만 사용한다 (범위 조회: headSet/tailSet/descendingSet)
+    NavigableSet<K> keys() {
+        return keys;
+    }
+
+    List<K> page(int page, int size) {
+        return keys.stream()
+                .skip((long) page * size)
+                .limit(size)
+                .toList();
+    }
+}
@@ -0,0 +1,53 @@
+package com.board.cleancode.adapter.out.memory;
+
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.CommentRecord;
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore.PostRecord;
+
+// 메모리 저장소의 변경 기록 (레코드 전체 이미지). 로그 재생과 체크포인트 작성도 같은 인터페이스를 쓴다
+interface StoreJournal {
+
+    StoreJournal NONE = new StoreJournal() {
+        @Override
+        public void postSaved(PostRecord post) {
+        }
+
+        @Override
+        public void postRemoved(Long id) {
+        }
+
+        @Override
+        public void commentSaved(CommentRecord comment) {
+        }
+
+        @Override
+        public void commentRemoved(Long id) {
+        }
+
+        @Override
+        public void likeAdded(Long postId, String guestId) {
+        }
+
+        @Override
+        public void likeRemoved(Long postId, String guestId) {
+        }
+
+        @Override
+        public void idsIssued(long lastPostId, long lastCommentId, long lastLikeId) {
+        }
+    };
+
+    void postSaved(PostRecord post);
+
+    void postRemoved(Long id);
+
+    void commentSaved(CommentRecord comment);
+
+    void commentRemoved(Long id);
+
+    void likeAdded(Long postId, String guestId);
+
+    void likeRemoved(Long postId, String guestId);
+
+    // 지금까지 발급한 id (재시작 후 다시 쓰지 않도록)
+    void idsIssued(long lastPostId, long lastCommentId, long lastLikeId);
+}
@@ -0,0 +1,332 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.Comment;
+import com.board.cleancode.domain.model.CommentCursor;
+import com.board.cleancode.domain.model.CounterDrift;
+import com.board.cleancode.domain.port.out.CommentRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+// JPA 없이 직접 작성한 SQL로 댓글을 저장/조회한다 (spring.profiles.active=jdbc)
+@Component
+@Profile("jdbc")
+public class CommentJdbcPersistenceAdapter implements CommentRepositoryPort {
+
+    private static final String COMMENT_COLUMNS = "c.id, c.post_id, c.parent_id, c.author, c.password, c.content, " +
+            "c.content_compressed, c.deleted, c.active_reply_count, c.created_at";
+
+    private final RowMapper<Comment> commentRowMapper = (rs, rowNum) -> Comment.reconstitute(
+            rs.getLong("id"),
+            rs.getLong("post_id"),
+            rs.getObject("parent_id", Long.class),
+            rs.getString("author"),
+            rs.getString("password"),
+            LoadedContents.load(this, rs.getLong("id"), rs.getString("content"), rs.getBytes("content_compressed")),
+            rs.getBoolean("deleted"),
+            rs.getInt("active_reply_count"),
+            rs.getObject("created_at", LocalDateTime.class)
+    );
+
+    private final JdbcClient jdbcClient;
+
+    public CommentJdbcPersistenceAdapter(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    @Override
+    public Comment save(Comment comment) {
+        Long id = comment.getId();
+        if (id == null) {
+            ContentCodec.Stored storedContent = ContentCodec.store(comment.getContent());
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcClient.sql("INSERT INTO comments (post_id, parent_id, author, password, content, content_compressed, " +
+                           "deleted, active_reply_count, created_at) " +
+                           "VALUES (:postId, :parentId, :author, :password, :content, :contentCompressed, " +
+                           ":deleted, :activeReplyCount, :createdAt)")
+                    .param("postId", comment.getPostId())
+                    .param("parentId", comment.getParentId())
+                    .param("author", comment.getAuthor())
+                    .param("password", comment.getPassword())
+                    .param("content", storedContent.text())
+                    .param("contentCompressed", storedContent.compressed())
+                    .param("deleted", comment.isDeleted())
+                    .param("activeReplyCount", comment.getActiveReplyCount())
+                    .param("createdAt", comment.getCreatedAt())
+                    .update(keyHolder, "id");
+            id = Objects.requireNonNull(keyHolder.getKey()).longValue();
+        } else {
+            if (!LoadedContents.unchanged(this, id, comment.getContent())) {
+                ContentCodec.Stored storedContent = ContentCodec.store(comment.getContent());
+                jdbcClient.sql("UPDATE comments SET content = :content, content_compressed = :contentCompressed " +
+                               "WHERE id = :id")
+                        .param("content", storedContent.text())
+                        .param("contentCompressed", storedContent.compressed())
+                        .param("id", id)
+                        .update();
+            }
+            // active_reply_count는 증감 UPDATE로만 바꾼다
+            jdbcClient.sql("UPDATE comments SET post_id = :postId, parent_id = :parentId, author = :author, " +
+                           "password = :password, deleted = :deleted, created_at = :createdAt WHERE id = :id")
+                    .param("postId", comment.getPostId())
+                    .param("parentId", comment.getParentId())
+                    .param("author", comment.getAuthor())
+                    .param("password", comment.getPassword())
+                    .param("deleted", comment.isDeleted())
+                    .param("createdAt", comment.getCreatedAt())
+                    .param("id", id)
+                    .update();
+        }
+        LoadedContents.remember(this, id, comment.getContent());
+        return Comment.reconstitute(
+                id, comment.getPostId(), comment.getParentId(), comment.getAuthor(), comment.getPassword(),
+                comment.getContent(),
+                comment.isDeleted(), comment.getActiveReplyCount(), comment.getCreatedAt()
+        );
+    }
+
+    @Override
+    public Optional<Comment> findById(Long id) {
+        return jdbcClient.sql("SELECT " + COMMENT_COLUMNS + " FROM comments c WHERE c.id = :id")
+                .param("id", id)
+                .query(commentRowMapper)
+                .optional();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return jdbcClient.sql("SELECT 1 FROM comments WHERE id = :id")
+                .param("id", id)
+                .query(Integer.class)
+                .optional()
+                .isPresent();
+    }
+
+    @Override
+    public List<Comment> findByPostIdOrderByCreatedAtDesc(Long postId, int page, int size) {
+        return jdbcClient.sql("SELECT " + COMMENT_COLUMNS + " FROM comments c WHERE c.post_id = :postId " +
+                              "ORDER BY c.created_at DESC LIMIT :limit OFFSET :offset")
+                .param("postId", postId)
+                .param("limit", size)
+                .param("offset", (long) page * size)
+                .query(commentRowMapper)
+                .list();
+    }
+
+    @Override
+    public List<Comment> findRootCommentsByPostIdOrderByCreatedAtDesc(Long postId, int page, int size) {
+        return jdbcClient.sql("SELECT " + COMMENT_COLUMNS + " FROM comments c " +
+                              "WHERE c.post_id = :postId AND c.parent_id IS NULL " +
+                              "ORDER BY c.created_at DESC LIMIT :limit OFFSET :offset")
+                .param("postId", postId)
+                .param("limit", size)
+                .param("offset", (long) page * size)
+                .query(commentRowMapper)
+                .list();
+    }
+
+    @Override
+    public List<Comment> findRepliesByParentIdOrderByCreatedAtAsc(Long parentId, int page, int size) {
+        return jdbcClient.sql("SELECT " + COMMENT_COLUMNS + " FROM comments c WHERE c.parent_id = :parentId " +
+                              "ORDER BY c.created_at ASC LIMIT :limit OFFSET :offset")
+                .param("parentId", parentId)
+                .param("limit", size)
+                .param("offset", (long) page * size)
+                .query(commentRowMapper)
+                .list();
+    }
+
+    @Override
+    public List<Comment> findRootCommentsByPostIdBefore(Long postId, CommentCursor cursor, int limit) {
+        if (cursor == null) {
+            return jdbcClient.sql("SELECT " + COMMENT_COLUMNS + " FROM comments c " +
+                                  "WHERE c.post_id = :postId AND c.parent_id IS NULL " +
+                                  "ORDER BY c.created_at DESC, c.id DESC LIMIT :limit")
+                    .param("postId", postId)
+                    .param("limit", limit)
+                    .query(commentRowMapper)
+                    .list();
+        }
+        return jdbcClient.sql("SELECT " + COMMENT_COLUMNS + " FROM comments c " +
+                              "WHERE c.post_id = :postId AND c.parent_id IS NULL " +
+                              "AND (c.created_at < :createdAt OR (c.created_at = :createdAt AND c.id < :id)) " +
+                              "ORDER BY c.created_at DESC, c.id DESC LIMIT :limit")
+                .param("postId", postId)
+                .param("createdAt", cursor.createdAt())
+                .param("id", cursor.id())
+                .param("limit", limit)
+                .query(commentRowMapper)
+                .list();
+    }
+
+    @Override
+    public List<Comment> findRepliesByParentIdAfter(Long parentId, CommentCursor cursor, int limit) {
+        if (cursor == null) {
+            return jdbcClient.sql("SELECT " + COMMENT_COLUMNS + " FROM comments c WHERE c.parent_id = :parentId " +
+                                  "ORDER BY c.created_at ASC, c.id ASC LIMIT :limit")
+                    .param("parentId", parentId)
+                    .param("limit", limit)
+                    .query(commentRowMapper)
+                    .list();
+        }
+        return jdbcClient.sql("SELECT " + COMMENT_COLUMNS + " FROM comments c WHERE c.parent_id = :parentId " +
+                              "AND (c.created_at > :createdAt OR (c.created_at = :createdAt AND c.id > :id)) " +
+                              "ORDER BY c.created_at ASC, c.id ASC LIMIT :limit")
+                .param("parentId", parentId)
+                .param("createdAt", cursor.createdAt())
+                .param("id", cursor.id())
+                .param("limit", limit)
+                .query(commentRowMapper)
+                .list();
+    }
+
+    @Override
+    public List<Comment> findFirstRepliesByParentIds(List<Long> parentIds, int limit) {
+        if (parentIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return jdbcClient.sql("SELECT * FROM (" +
+                              "SELECT " + COMMENT_COLUMNS + ", " +
+                              "ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn " +
+                              "FROM comments c WHERE c.parent_id IN (:parentIds)" +
+                              ") ranked WHERE ranked.rn <= :limit ORDER BY ranked.parent_id, ranked.rn")
+                .param("parentIds", parentIds)
+                .param("limit", limit)
+                .query(commentRowMapper)
+                .list();
+    }
+
+    @Override
+    public long countByPostId(Long postId) {
+        return jdbcClient.sql("SELECT COUNT(*) FROM comments WHERE post_id = :postId")
+                .param("postId", postId)
+                .query(Long.class)
+                .single();
+    }
+
+    @Override
+    public long countRootCommentsByPostId(Long postId) {
+        return jdbcClient.sql("SELECT COUNT(*) FROM comments WHERE post_id = :postId AND parent_id IS NULL")
+                .param("postId", postId)
+                .query(Long.class)
+                .single();
+    }
+
+    @Override
+    public long countRepliesByParentId(Long parentId) {
+        return jdbcClient.sql("SELECT COUNT(*) FROM comments WHERE parent_id = :parentId")
+                .param("parentId", parentId)
+                .query(Long.class)
+                .single();
+    }
+
+    @Override
+    public boolean markDeletedIfActive(Long commentId) {
+        return jdbcClient.sql("UPDATE comments SET deleted = TRUE WHERE id = :id AND deleted = FALSE")
+                .param("id", commentId)
+                .update() > 0;
+    }
+
+    @Override
+    public boolean adjustActiveReplyCount(Long commentId, int delta) {
+        return jdbcClient.sql("UPDATE comments SET active_reply_count = active_reply_count + :delta WHERE id = :id")
+                .param("delta", delta)
+                .param("id", commentId)
+                .update() > 0;
+    }
+
+    @Override
+    public List<CounterDrift> findActiveReplyCountDrift() {
+        return jdbcClient.sql("SELECT c.id, c.active_reply_count, COUNT(r.id) AS actual FROM comments c " +
+                              "LEFT JOIN comments r ON r.parent_id = c.id AND r.deleted = FALSE " +
+                              "WHERE c.parent_id IS NULL " +
+                              "GROUP BY c.id, c.active_reply_count HAVING c.active_reply_count <> COUNT(r.id)")
+                .query((rs, rowNum) -> new CounterDrift(CounterDrift.Type.COMMENT_ACTIVE_REPLIES,
+                        rs.getLong("id"), rs.getInt("active_reply_count"), rs.getLong("actual")))
+                .list();
+    }
+
+    @Override
+    public int deleteBatchByPostId(Long postId, int batchSize) {
+        List<Long> ids = jdbcClient.sql("SELECT id FROM comments WHERE post_id = :postId ORDER BY id LIMIT :limit")
+                .param("postId", postId)
+                .param("limit", batchSize)
+                .query(Long.class)
+                .list();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcClient.sql("DELETE FROM comments WHERE post_id = :postId AND id BETWEEN :fromId AND :toId")
+                .param("postId", postId)
+                .param("fromId", ids.get(0))
+                .param("toId", ids.get(ids.size() - 1))
+                .update();
+    }
+
+    // 삭제 표시된 게시글의 댓글은 정리되기 전까지도 집계에서 제외
+    @Override
+    public long countAllByDeletedFalse() {
+        return jdbcClient.sql("SELECT COUNT(*) FROM comments c WHERE c.deleted = FALSE " +
+                              "AND c.post_id IN (SELECT p.id FROM posts p WHERE p.deleted = FALSE)")
+                .query(Long.class)
+                .single();
+    }
+
+    @Override
+    public List<Comment> findDeletedReplies(int limit) {
+        return jdbcClient.sql("SELECT " + COMMENT_COLUMNS + " FROM comments c " +
+                              "WHERE c.deleted = TRUE AND c.parent_id IS NOT NULL ORDER BY c.id LIMIT :limit")
+                .param("limit", limit)
+                .query(commentRowMapper)
+                .list();
+    }
+
+    @Override
+    public List<Comment> findCompactableRootComments(int limit) {
+        return jdbcClient.sql("SELECT " + COMMENT_COLUMNS + " FROM comments c " +
+                              "WHERE c.deleted = TRUE AND c.parent_id IS NULL AND c.active_reply_count = 0 " +
+                              "AND NOT EXISTS (SELECT 1 FROM comments r WHERE r.parent_id = c.id) " +
+                              "ORDER BY c.id LIMIT :limit")
+                .param("limit", limit)
+                .query(commentRowMapper)
+                .list();
+    }
+
+    @Override
+    public int deleteDeletedReplies(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcClient.sql("DELETE FROM comments WHERE id IN (:ids) AND deleted = TRUE AND parent_id IS NOT NULL")
+                .param("ids", ids)
+                .update();
+    }
+
+    @Override
+    public int deleteCompactableRootComments(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcClient.sql("DELETE FROM comments c WHERE c.id IN (:ids) AND c.deleted = TRUE " +
+                              "AND c.parent_id IS NULL AND c.active_reply_count = 0 " +
+                              "AND NOT EXISTS (SELECT 1 FROM comments r WHERE r.parent_id = c.id)")
+                .param("ids", ids)
+                .update();
+    }
+
+    @Override
+    public long countCompactable() {
+        return jdbcClient.sql("SELECT COUNT(*) FROM comments WHERE deleted = TRUE " +
+                              "AND (parent_id IS NOT NULL OR active_reply_count = 0)")
+                .query(Long.class)
+                .single();
+    }
+}
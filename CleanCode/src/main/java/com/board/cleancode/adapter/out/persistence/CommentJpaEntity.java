@@ -6,7 +6,16 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 게시글별 일반 댓글 목록 (post_id = ? AND parent_id IS NULL ORDER BY created_at)
+        @Index(name = "idx_comments_post_parent_created", columnList = "postId, parentId, createdAt"),
+        // 부모 댓글별 답글 목록
+        @Index(name = "idx_comments_parent_created", columnList = "parentId, createdAt"),
+        // 부모 댓글별 활성 답글 수
+        @Index(name = "idx_comments_parent_deleted", columnList = "parentId, deleted"),
+        // 삭제 표시된 댓글 압축 대상 조회
+        @Index(name = "idx_comments_deleted", columnList = "deleted, id")
+})
 public class CommentJpaEntity {
 
     @Id
@@ -25,12 +34,24 @@ public class CommentJpaEntity {
     @Column(nullable = false)
     private String password;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    // 긴 본문은 contentCompressed에만 값이 있다
+    @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Lob
+    @Column
+    private byte[] contentCompressed;
+
+    @Transient
+    private String text;
+
     @Column(nullable = false)
     private boolean deleted;
 
+    // 증감 UPDATE로만 바꾼다
+    @Column(nullable = false, updatable = false)
+    private int activeReplyCount;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -44,16 +65,36 @@ public class CommentJpaEntity {
         entity.parentId = comment.getParentId();
         entity.author = comment.getAuthor();
         entity.password = comment.getPassword();
-        entity.content = comment.getContent();
+        entity.applyContent(comment.getContent());
         entity.deleted = comment.isDeleted();
+        entity.activeReplyCount = comment.getActiveReplyCount();
         entity.createdAt = comment.getCreatedAt();
         return entity;
     }
 
+    public void apply(Comment comment) {
+        author = comment.getAuthor();
+        password = comment.getPassword();
+        applyContent(comment.getContent());
+        deleted = comment.isDeleted();
+    }
+
+    private void applyContent(String updated) {
+        if (updated != null && updated.equals(text)) {
+            return;
+        }
+        ContentCodec.Stored storedContent = ContentCodec.store(updated);
+        content = storedContent.text();
+        contentCompressed = storedContent.compressed();
+        text = updated;
+    }
+
     public Comment toDomain() {
+        if (text == null) {
+            text = ContentCodec.load(content, contentCompressed);
+        }
         return Comment.reconstitute(
-                id, postId, parentId, author, password,
-                content, deleted, createdAt
+                id, postId, parentId, author, password, text, deleted, activeReplyCount, createdAt
         );
     }
 }
@@ -3,6 +3,13 @@ package com.board.cleancode.adapter.out.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface CommentJpaRepository extends JpaRepository<CommentJpaEntity, Long> {
 
@@ -12,17 +19,90 @@ public interface CommentJpaRepository extends JpaRepository<CommentJpaEntity, Lo
 
     Page<CommentJpaEntity> findByParentIdOrderByCreatedAtAsc(Long parentId, Pageable pageable);
 
-    long countByPostId(Long postId);
+    // 커서 기반 조회: OFFSET 없이 (createdAt, id) 위치부터 이어서 읽는다
+    List<CommentJpaEntity> findByPostIdAndParentIdIsNullOrderByCreatedAtDescIdDesc(Long postId, Pageable pageable);
+
+    @Query("SELECT c FROM CommentJpaEntity c WHERE c.postId = :postId AND c.parentId IS NULL " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentJpaEntity> findRootCommentsBefore(@Param("postId") Long postId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    List<CommentJpaEntity> findByParentIdOrderByCreatedAtAscIdAsc(Long parentId, Pageable pageable);
 
-    long countByPostIdAndDeletedFalse(Long postId);
+    @Query("SELECT c FROM CommentJpaEntity c WHERE c.parentId = :parentId " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentJpaEntity> findRepliesAfter(@Param("parentId") Long parentId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    // 부모 댓글별 앞쪽 답글 N개를 윈도 함수 한 번으로 조회
+    @Query(value = "SELECT * FROM (" +
+                   "SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn " +
+                   "FROM comments c WHERE c.parent_id IN (:parentIds)" +
+                   ") ranked WHERE ranked.rn <= :limit ORDER BY ranked.parent_id, ranked.rn",
+           nativeQuery = true)
+    List<CommentJpaEntity> findFirstRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds,
+                                                       @Param("limit") int limit);
+
+    long countByPostId(Long postId);
 
     long countByPostIdAndParentIdIsNull(Long postId);
 
     long countByParentId(Long parentId);
 
-    long countByParentIdAndDeletedFalse(Long parentId);
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE CommentJpaEntity c SET c.deleted = true WHERE c.id = :id AND c.deleted = false")
+    int markDeletedIfActive(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE CommentJpaEntity c SET c.activeReplyCount = c.activeReplyCount + :delta WHERE c.id = :id")
+    int adjustActiveReplyCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("SELECT new com.board.cleancode.adapter.out.persistence.CounterRow(c.id, c.activeReplyCount, COUNT(r)) " +
+           "FROM CommentJpaEntity c LEFT JOIN CommentJpaEntity r ON r.parentId = c.id AND r.deleted = false " +
+           "WHERE c.parentId IS NULL " +
+           "GROUP BY c.id, c.activeReplyCount HAVING c.activeReplyCount <> COUNT(r)")
+    List<CounterRow> findActiveReplyCountDrift();
+
+    // 삭제 표시된 게시글의 댓글은 정리되기 전까지도 집계에서 제외
+    @Query("SELECT COUNT(c) FROM CommentJpaEntity c WHERE c.deleted = false " +
+           "AND c.postId IN (SELECT p.id FROM PostJpaEntity p WHERE p.deleted = false)")
+    long countActiveInLivePosts();
+
+    // 답글은 바로, 일반 댓글은 답글이 모두 사라진 뒤에 지운다
+    @Query("SELECT c FROM CommentJpaEntity c WHERE c.deleted = true AND c.parentId IS NOT NULL ORDER BY c.id")
+    List<CommentJpaEntity> findDeletedReplies(Pageable pageable);
+
+    @Query("SELECT c FROM CommentJpaEntity c WHERE c.deleted = true AND c.parentId IS NULL " +
+           "AND c.activeReplyCount = 0 " +
+           "AND NOT EXISTS (SELECT r.id FROM CommentJpaEntity r WHERE r.parentId = c.id) ORDER BY c.id")
+    List<CommentJpaEntity> findCompactableRootComments(Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM CommentJpaEntity c WHERE c.id IN :ids AND c.deleted = true AND c.parentId IS NOT NULL")
+    int deleteDeletedReplies(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM CommentJpaEntity c WHERE c.id IN :ids AND c.deleted = true AND c.parentId IS NULL " +
+           "AND c.activeReplyCount = 0 " +
+           "AND NOT EXISTS (SELECT r.id FROM CommentJpaEntity r WHERE r.parentId = c.id)")
+    int deleteCompactableRootComments(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COUNT(c) FROM CommentJpaEntity c WHERE c.deleted = true " +
+           "AND (c.parentId IS NOT NULL OR c.activeReplyCount = 0)")
+    long countCompactable();
 
-    void deleteByPostId(Long postId);
+    @Query("SELECT c.id FROM CommentJpaEntity c WHERE c.postId = :postId ORDER BY c.id")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
 
-    long countByDeletedFalse();
+    @Modifying
+    @Query("DELETE FROM CommentJpaEntity c WHERE c.postId = :postId AND c.id BETWEEN :fromId AND :toId")
+    int deleteByPostIdAndIdBetween(@Param("postId") Long postId,
+                                   @Param("fromId") Long fromId,
+                                   @Param("toId") Long toId);
 }
@@ -1,15 +1,21 @@
 package com.board.cleancode.adapter.out.persistence;
 
+import com.board.cleancode.domain.exception.CommentNotFoundException;
 import com.board.cleancode.domain.model.Comment;
+import com.board.cleancode.domain.model.CommentCursor;
+import com.board.cleancode.domain.model.CounterDrift;
 import com.board.cleancode.domain.port.out.CommentRepositoryPort;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Component
+@Profile("!jdbc & !memory & !shard")
 public class CommentPersistenceAdapter implements CommentRepositoryPort {
 
     private final CommentJpaRepository jpaRepository;
@@ -18,11 +24,17 @@ public class CommentPersistenceAdapter implements CommentRepositoryPort {
         this.jpaRepository = jpaRepository;
     }
 
+    // 기존 댓글은 merge하지 않고 영속 엔티티에 변경을 옮겨 더티 체킹으로 UPDATE한다
     @Override
+    @Transactional
     public Comment save(Comment comment) {
-        CommentJpaEntity entity = CommentJpaEntity.fromDomain(comment);
-        CommentJpaEntity saved = jpaRepository.save(entity);
-        return saved.toDomain();
+        if (comment.getId() == null) {
+            return jpaRepository.save(CommentJpaEntity.fromDomain(comment)).toDomain();
+        }
+        CommentJpaEntity entity = jpaRepository.findById(comment.getId())
+                .orElseThrow(() -> new CommentNotFoundException(comment.getId()));
+        entity.apply(comment);
+        return entity.toDomain();
     }
 
     @Override
@@ -30,6 +42,11 @@ public class CommentPersistenceAdapter implements CommentRepositoryPort {
         return jpaRepository.findById(id).map(CommentJpaEntity::toDomain);
     }
 
+    @Override
+    public boolean existsById(Long id) {
+        return jpaRepository.existsById(id);
+    }
+
     @Override
     public List<Comment> findByPostIdOrderByCreatedAtDesc(Long postId, int page, int size) {
         Page<CommentJpaEntity> result = jpaRepository.findByPostIdOrderByCreatedAtDesc(
@@ -58,13 +75,40 @@ public class CommentPersistenceAdapter implements CommentRepositoryPort {
     }
 
     @Override
-    public long countByPostId(Long postId) {
-        return jpaRepository.countByPostId(postId);
+    public List<Comment> findRootCommentsByPostIdBefore(Long postId, CommentCursor cursor, int limit) {
+        PageRequest firstPage = PageRequest.of(0, limit);
+        List<CommentJpaEntity> result = cursor == null
+                ? jpaRepository.findByPostIdAndParentIdIsNullOrderByCreatedAtDescIdDesc(postId, firstPage)
+                : jpaRepository.findRootCommentsBefore(postId, cursor.createdAt(), cursor.id(), firstPage);
+        return result.stream()
+                .map(CommentJpaEntity::toDomain)
+                .toList();
     }
 
     @Override
-    public long countByPostIdAndDeletedFalse(Long postId) {
-        return jpaRepository.countByPostIdAndDeletedFalse(postId);
+    public List<Comment> findRepliesByParentIdAfter(Long parentId, CommentCursor cursor, int limit) {
+        PageRequest firstPage = PageRequest.of(0, limit);
+        List<CommentJpaEntity> result = cursor == null
+                ? jpaRepository.findByParentIdOrderByCreatedAtAscIdAsc(parentId, firstPage)
+                : jpaRepository.findRepliesAfter(parentId, cursor.createdAt(), cursor.id(), firstPage);
+        return result.stream()
+                .map(CommentJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Comment> findFirstRepliesByParentIds(List<Long> parentIds, int limit) {
+        if (parentIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return jpaRepository.findFirstRepliesByParentIds(parentIds, limit).stream()
+                .map(CommentJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long countByPostId(Long postId) {
+        return jpaRepository.countByPostId(postId);
     }
 
     @Override
@@ -78,17 +122,69 @@ public class CommentPersistenceAdapter implements CommentRepositoryPort {
     }
 
     @Override
-    public long countRepliesByParentIdAndDeletedFalse(Long parentId) {
-        return jpaRepository.countByParentIdAndDeletedFalse(parentId);
+    public int deleteBatchByPostId(Long postId, int batchSize) {
+        List<Long> ids = jpaRepository.findIdsByPostId(postId, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteByPostIdAndIdBetween(postId, ids.get(0), ids.get(ids.size() - 1));
     }
 
     @Override
-    public void deleteByPostId(Long postId) {
-        jpaRepository.deleteByPostId(postId);
+    public boolean markDeletedIfActive(Long commentId) {
+        return jpaRepository.markDeletedIfActive(commentId) > 0;
+    }
+
+    @Override
+    public boolean adjustActiveReplyCount(Long commentId, int delta) {
+        return jpaRepository.adjustActiveReplyCount(commentId, delta) > 0;
+    }
+
+    @Override
+    public List<CounterDrift> findActiveReplyCountDrift() {
+        return jpaRepository.findActiveReplyCountDrift().stream()
+                .map(row -> new CounterDrift(CounterDrift.Type.COMMENT_ACTIVE_REPLIES,
+                        row.id(), row.stored(), row.actual()))
+                .toList();
     }
 
     @Override
     public long countAllByDeletedFalse() {
-        return jpaRepository.countByDeletedFalse();
+        return jpaRepository.countActiveInLivePosts();
+    }
+
+    @Override
+    public List<Comment> findDeletedReplies(int limit) {
+        return jpaRepository.findDeletedReplies(PageRequest.of(0, limit)).stream()
+                .map(CommentJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Comment> findCompactableRootComments(int limit) {
+        return jpaRepository.findCompactableRootComments(PageRequest.of(0, limit)).stream()
+                .map(CommentJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int deleteDeletedReplies(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteDeletedReplies(ids);
+    }
+
+    @Override
+    public int deleteCompactableRootComments(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteCompactableRootComments(ids);
+    }
+
+    @Override
+    public long countCompactable() {
+        return jpaRepository.countCompactable();
     }
 }
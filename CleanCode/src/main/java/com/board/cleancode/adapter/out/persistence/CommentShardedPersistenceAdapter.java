@@ -0,0 +1,170 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.Comment;
+import com.board.cleancode.domain.model.CommentCursor;
+import com.board.cleancode.domain.model.CounterDrift;
+import com.board.cleancode.domain.port.out.CommentRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+// 댓글은 게시글과 같은 샤드에 저장한다 (spring.profiles.active=shard)
+@Component
+@Profile("shard")
+public class CommentShardedPersistenceAdapter implements CommentRepositoryPort {
+
+    private final PostShards shards;
+
+    public CommentShardedPersistenceAdapter(PostShards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public Comment save(Comment comment) {
+        return shards.of(comment.getPostId()).join().comments().save(comment);
+    }
+
+    @Override
+    public Optional<Comment> findById(Long id) {
+        return shards.of(id).join().comments().findById(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return shards.of(id).join().comments().existsById(id);
+    }
+
+    @Override
+    public List<Comment> findByPostIdOrderByCreatedAtDesc(Long postId, int page, int size) {
+        return shards.of(postId).join().comments().findByPostIdOrderByCreatedAtDesc(postId, page, size);
+    }
+
+    @Override
+    public List<Comment> findRootCommentsByPostIdOrderByCreatedAtDesc(Long postId, int page, int size) {
+        return shards.of(postId).join().comments().findRootCommentsByPostIdOrderByCreatedAtDesc(postId, page, size);
+    }
+
+    @Override
+    public List<Comment> findRepliesByParentIdOrderByCreatedAtAsc(Long parentId, int page, int size) {
+        return shards.of(parentId).join().comments().findRepliesByParentIdOrderByCreatedAtAsc(parentId, page, size);
+    }
+
+    @Override
+    public List<Comment> findRootCommentsByPostIdBefore(Long postId, CommentCursor cursor, int limit) {
+        return shards.of(postId).join().comments().findRootCommentsByPostIdBefore(postId, cursor, limit);
+    }
+
+    @Override
+    public List<Comment> findRepliesByParentIdAfter(Long parentId, CommentCursor cursor, int limit) {
+        return shards.of(parentId).join().comments().findRepliesByParentIdAfter(parentId, cursor, limit);
+    }
+
+    @Override
+    public List<Comment> findFirstRepliesByParentIds(List<Long> parentIds, int limit) {
+        List<Comment> replies = new ArrayList<>();
+        perShard(parentIds, (comments, shardParentIds) -> comments.findFirstRepliesByParentIds(shardParentIds, limit))
+                .forEach(replies::addAll);
+        // 한 샤드일 때와 같이 부모 id 순으로 맞춘다
+        replies.sort(Comparator.comparing(Comment::getParentId));
+        return replies;
+    }
+
+    @Override
+    public long countByPostId(Long postId) {
+        return shards.of(postId).join().comments().countByPostId(postId);
+    }
+
+    @Override
+    public long countRootCommentsByPostId(Long postId) {
+        return shards.of(postId).join().comments().countRootCommentsByPostId(postId);
+    }
+
+    @Override
+    public long countRepliesByParentId(Long parentId) {
+        return shards.of(parentId).join().comments().countRepliesByParentId(parentId);
+    }
+
+    @Override
+    public boolean markDeletedIfActive(Long commentId) {
+        return shards.of(commentId).join().comments().markDeletedIfActive(commentId);
+    }
+
+    @Override
+    public boolean adjustActiveReplyCount(Long commentId, int delta) {
+        return shards.of(commentId).join().comments().adjustActiveReplyCount(commentId, delta);
+    }
+
+    @Override
+    public List<CounterDrift> findActiveReplyCountDrift() {
+        return shards.scatter(shard -> shard.comments().findActiveReplyCountDrift()).stream()
+                .flatMap(Collection::stream)
+                .toList();
+    }
+
+    @Override
+    public int deleteBatchByPostId(Long postId, int batchSize) {
+        return shards.of(postId).join().comments().deleteBatchByPostId(postId, batchSize);
+    }
+
+    @Override
+    public long countAllByDeletedFalse() {
+        return shards.scatter(shard -> shard.comments().countAllByDeletedFalse()).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public List<Comment> findDeletedReplies(int limit) {
+        return firstById(shards.scatter(shard -> shard.comments().findDeletedReplies(limit)), limit);
+    }
+
+    @Override
+    public List<Comment> findCompactableRootComments(int limit) {
+        return firstById(shards.scatter(shard -> shard.comments().findCompactableRootComments(limit)), limit);
+    }
+
+    @Override
+    public int deleteDeletedReplies(List<Long> ids) {
+        return perShard(ids, CommentJdbcPersistenceAdapter::deleteDeletedReplies).stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    @Override
+    public int deleteCompactableRootComments(List<Long> ids) {
+        return perShard(ids, CommentJdbcPersistenceAdapter::deleteCompactableRootComments).stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    @Override
+    public long countCompactable() {
+        return shards.scatter(shard -> shard.comments().countCompactable()).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    private <T> List<T> perShard(List<Long> ids, BiFunction<CommentJdbcPersistenceAdapter, List<Long>, T> operation) {
+        List<T> results = new ArrayList<>();
+        for (Map.Entry<PostShard, List<Long>> entry : shards.groupByShard(ids).entrySet()) {
+            results.add(operation.apply(entry.getKey().join().comments(), entry.getValue()));
+        }
+        return results;
+    }
+
+    // 전체에서 id가 작은 limit건만 남긴다
+    private static List<Comment> firstById(List<List<Comment>> perShard, int limit) {
+        return perShard.stream()
+                .flatMap(Collection::stream)
+                .sorted(Comparator.comparing(Comment::getId))
+                .limit(limit)
+                .toList();
+    }
+}
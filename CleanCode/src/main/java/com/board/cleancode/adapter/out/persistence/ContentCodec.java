@@ -0,0 +1,84 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// 긴 본문을 압축하는 코덱: [형식 1바이트][원문 UTF-8 길이 4바이트][Deflate 데이터]
+public final class ContentCodec {
+
+    // 이 길이(문자 수) 이상일 때만 압축을 시도
+    public static final int COMPRESSION_THRESHOLD = 2 * 1024;
+
+    static final byte FORMAT_DEFLATE = 0x01;
+    private static final int HEADER_LENGTH = 1 + Integer.BYTES;
+    // 10% 이상 줄어들지 않으면 압축하지 않고 원문으로 저장
+    private static final double MAX_COMPRESSED_RATIO = 0.9;
+
+    private ContentCodec() {
+    }
+
+    // 압축할 가치가 없으면 null
+    public static byte[] compress(String text) {
+        if (text == null || text.length() < COMPRESSION_THRESHOLD) {
+            return null;
+        }
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + HEADER_LENGTH);
+            out.write(FORMAT_DEFLATE);
+            out.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(raw.length).array());
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            byte[] compressed = out.toByteArray();
+            return compressed.length < raw.length * MAX_COMPRESSED_RATIO ? compressed : null;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String decompress(byte[] stored) {
+        if (stored[0] != FORMAT_DEFLATE) {
+            throw new IllegalStateException("지원하지 않는 본문 압축 형식입니다: " + stored[0]);
+        }
+        int length = ByteBuffer.wrap(stored, 1, Integer.BYTES).getInt();
+        byte[] raw = new byte[length];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, HEADER_LENGTH, stored.length - HEADER_LENGTH);
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int read = inflater.inflate(raw, offset, length - offset);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 본문이 손상되었습니다.");
+                }
+                offset += read;
+            }
+            return new String(raw, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    static Stored store(String text) {
+        byte[] compressed = compress(text);
+        return compressed != null ? new Stored(null, compressed) : new Stored(text, null);
+    }
+
+    static String load(String text, byte[] compressed) {
+        return compressed != null ? decompress(compressed) : text;
+    }
+
+    record Stored(String text, byte[] compressed) {
+    }
+}
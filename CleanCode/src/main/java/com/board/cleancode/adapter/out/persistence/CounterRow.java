@@ -0,0 +1,5 @@
+package com.board.cleancode.adapter.out.persistence;
+
+// 카운터 정합성 검사 결과 (저장된 값, 실제 집계값)
+public record CounterRow(Long id, Integer stored, Long actual) {
+}
@@ -0,0 +1,47 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.HotScore;
+import com.board.cleancode.domain.port.out.HotScoreRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@Profile("!memory & !shard")
+public class HotScorePersistenceAdapter implements HotScoreRepositoryPort {
+
+    private final PostHotScoreJpaRepository jpaRepository;
+
+    public HotScorePersistenceAdapter(PostHotScoreJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public List<HotScore> findAll() {
+        return jpaRepository.findAllOfLivePosts().stream()
+                .map(PostHotScoreJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<HotScore> computeMissing() {
+        return jpaRepository.findActivityOfPostsWithoutScore().stream()
+                .map(row -> HotScore.fromActivity(row.postId(), row.createdAt(),
+                        row.viewCount(), row.likeCount(), row.commentCount()))
+                .toList();
+    }
+
+    @Override
+    public void saveAll(Collection<HotScore> scores) {
+        jpaRepository.saveAll(scores.stream()
+                .map(PostHotScoreJpaEntity::fromDomain)
+                .toList());
+    }
+
+    @Override
+    public void deleteAllById(Collection<Long> postIds) {
+        jpaRepository.deleteAllById(postIds);
+    }
+}
@@ -0,0 +1,86 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.HotScore;
+import com.board.cleancode.domain.port.out.HotScoreRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 핫 점수는 게시글과 같은 샤드에 저장한다 (spring.profiles.active=shard)
+@Component
+@Profile("shard")
+public class HotScoreShardedPersistenceAdapter implements HotScoreRepositoryPort {
+
+    private static final RowMapper<HotScore> HOT_SCORE_MAPPER = (rs, rowNum) -> new HotScore(
+            rs.getLong("post_id"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getDouble("engagement")
+    );
+
+    private final PostShards shards;
+
+    public HotScoreShardedPersistenceAdapter(PostShards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public List<HotScore> findAll() {
+        return shards.scatter(shard -> shard.jdbcClient()
+                        .sql("SELECT h.post_id, h.created_at, h.engagement FROM post_hot_scores h " +
+                             "WHERE h.post_id IN (SELECT p.id FROM posts p WHERE p.deleted = FALSE)")
+                        .query(HOT_SCORE_MAPPER)
+                        .list())
+                .stream()
+                .flatMap(Collection::stream)
+                .toList();
+    }
+
+    @Override
+    public List<HotScore> computeMissing() {
+        return shards.scatter(shard -> shard.jdbcClient()
+                        .sql("SELECT p.id, p.created_at, p.view_count, " +
+                             "(SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id) AS like_count, " +
+                             "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.deleted = FALSE) AS comment_count " +
+                             "FROM posts p WHERE p.deleted = FALSE " +
+                             "AND NOT EXISTS (SELECT 1 FROM post_hot_scores h WHERE h.post_id = p.id)")
+                        .query((rs, rowNum) -> HotScore.fromActivity(
+                                rs.getLong("id"),
+                                rs.getObject("created_at", LocalDateTime.class),
+                                rs.getInt("view_count"),
+                                rs.getLong("like_count"),
+                                rs.getLong("comment_count")))
+                        .list())
+                .stream()
+                .flatMap(Collection::stream)
+                .toList();
+    }
+
+    @Override
+    public void saveAll(Collection<HotScore> scores) {
+        Map<Long, HotScore> byPostId = scores.stream()
+                .collect(Collectors.toMap(HotScore::postId, Function.identity(), (first, second) -> second));
+        shards.groupByShard(byPostId.keySet()).forEach((shard, postIds) ->
+                shard.join().jdbcTemplate().batchUpdate(
+                        "MERGE INTO post_hot_scores (post_id, created_at, engagement) KEY (post_id) VALUES (?, ?, ?)",
+                        postIds.stream()
+                                .map(byPostId::get)
+                                .map(score -> new Object[]{score.postId(), score.createdAt(), score.engagement()})
+                                .toList()));
+    }
+
+    @Override
+    public void deleteAllById(Collection<Long> postIds) {
+        shards.groupByShard(postIds).forEach((shard, shardPostIds) ->
+                shard.join().jdbcClient()
+                        .sql("DELETE FROM post_hot_scores WHERE post_id IN (:postIds)")
+                        .param("postIds", shardPostIds)
+                        .update());
+    }
+}
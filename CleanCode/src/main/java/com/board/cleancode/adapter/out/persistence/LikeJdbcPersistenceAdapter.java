@@ -0,0 +1,78 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.Like;
+import com.board.cleancode.domain.port.out.LikeRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+// JPA 없이 직접 작성한 SQL로 좋아요를 저장/조회한다 (spring.profiles.active=jdbc)
+@Component
+@Profile("jdbc")
+public class LikeJdbcPersistenceAdapter implements LikeRepositoryPort {
+
+    private final JdbcClient jdbcClient;
+
+    public LikeJdbcPersistenceAdapter(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    @Override
+    public Like save(Like like) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcClient.sql("INSERT INTO likes (post_id, guest_id) VALUES (:postId, :guestId)")
+                .param("postId", like.getPostId())
+                .param("guestId", like.getGuestId())
+                .update(keyHolder, "id");
+        Long id = Objects.requireNonNull(keyHolder.getKey()).longValue();
+        return Like.reconstitute(id, like.getPostId(), like.getGuestId());
+    }
+
+    @Override
+    public void deleteByPostIdAndGuestId(Long postId, String guestId) {
+        jdbcClient.sql("DELETE FROM likes WHERE post_id = :postId AND guest_id = :guestId")
+                .param("postId", postId)
+                .param("guestId", guestId)
+                .update();
+    }
+
+    @Override
+    public boolean existsByPostIdAndGuestId(Long postId, String guestId) {
+        return jdbcClient.sql("SELECT 1 FROM likes WHERE post_id = :postId AND guest_id = :guestId")
+                .param("postId", postId)
+                .param("guestId", guestId)
+                .query(Integer.class)
+                .optional()
+                .isPresent();
+    }
+
+    @Override
+    public int countByPostId(Long postId) {
+        return jdbcClient.sql("SELECT COUNT(*) FROM likes WHERE post_id = :postId")
+                .param("postId", postId)
+                .query(Integer.class)
+                .single();
+    }
+
+    @Override
+    public int deleteBatchByPostId(Long postId, int batchSize) {
+        List<Long> ids = jdbcClient.sql("SELECT id FROM likes WHERE post_id = :postId ORDER BY id LIMIT :limit")
+                .param("postId", postId)
+                .param("limit", batchSize)
+                .query(Long.class)
+                .list();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcClient.sql("DELETE FROM likes WHERE post_id = :postId AND id BETWEEN :fromId AND :toId")
+                .param("postId", postId)
+                .param("fromId", ids.get(0))
+                .param("toId", ids.get(ids.size() - 1))
+                .update();
+    }
+}
@@ -1,6 +1,12 @@
 package com.board.cleancode.adapter.out.persistence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface LikeJpaRepository extends JpaRepository<LikeJpaEntity, Long> {
 
@@ -10,5 +16,12 @@ public interface LikeJpaRepository extends JpaRepository<LikeJpaEntity, Long> {
 
     void deleteByPostIdAndGuestId(Long postId, String guestId);
 
-    void deleteByPostId(Long postId);
+    @Query("SELECT l.id FROM LikeJpaEntity l WHERE l.postId = :postId ORDER BY l.id")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM LikeJpaEntity l WHERE l.postId = :postId AND l.id BETWEEN :fromId AND :toId")
+    int deleteByPostIdAndIdBetween(@Param("postId") Long postId,
+                                   @Param("fromId") Long fromId,
+                                   @Param("toId") Long toId);
 }
@@ -2,9 +2,14 @@ package com.board.cleancode.adapter.out.persistence;
 
 import com.board.cleancode.domain.model.Like;
 import com.board.cleancode.domain.port.out.LikeRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
+@Profile("!jdbc & !memory & !shard")
 public class LikePersistenceAdapter implements LikeRepositoryPort {
 
     private final LikeJpaRepository likeJpaRepository;
@@ -35,7 +40,11 @@ public class LikePersistenceAdapter implements LikeRepositoryPort {
     }
 
     @Override
-    public void deleteByPostId(Long postId) {
-        likeJpaRepository.deleteByPostId(postId);
+    public int deleteBatchByPostId(Long postId, int batchSize) {
+        List<Long> ids = likeJpaRepository.findIdsByPostId(postId, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return likeJpaRepository.deleteByPostIdAndIdBetween(postId, ids.get(0), ids.get(ids.size() - 1));
     }
 }
@@ -0,0 +1,43 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.Like;
+import com.board.cleancode.domain.port.out.LikeRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// 좋아요는 게시글과 같은 샤드에 저장한다 (spring.profiles.active=shard)
+@Component
+@Profile("shard")
+public class LikeShardedPersistenceAdapter implements LikeRepositoryPort {
+
+    private final PostShards shards;
+
+    public LikeShardedPersistenceAdapter(PostShards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public Like save(Like like) {
+        return shards.of(like.getPostId()).join().likes().save(like);
+    }
+
+    @Override
+    public void deleteByPostIdAndGuestId(Long postId, String guestId) {
+        shards.of(postId).join().likes().deleteByPostIdAndGuestId(postId, guestId);
+    }
+
+    @Override
+    public boolean existsByPostIdAndGuestId(Long postId, String guestId) {
+        return shards.of(postId).join().likes().existsByPostIdAndGuestId(postId, guestId);
+    }
+
+    @Override
+    public int countByPostId(Long postId) {
+        return shards.of(postId).join().likes().countByPostId(postId);
+    }
+
+    @Override
+    public int deleteBatchByPostId(Long postId, int batchSize) {
+        return shards.of(postId).join().likes().deleteBatchByPostId(postId, batchSize);
+    }
+}
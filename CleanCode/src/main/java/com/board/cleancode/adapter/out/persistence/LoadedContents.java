@@ -0,0 +1,61 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 쓰기 트랜잭션에서 JDBC 어댑터가 읽은 본문 (JPA 엔티티의 text와 같은 역할)
+final class LoadedContents implements TransactionSynchronization {
+
+    private final Object owner;
+    private final Map<Long, String> texts = new HashMap<>();
+
+    private LoadedContents(Object owner) {
+        this.owner = owner;
+    }
+
+    static String load(Object owner, Long id, String text, byte[] compressed) {
+        String loaded = ContentCodec.load(text, compressed);
+        remember(owner, id, loaded);
+        return loaded;
+    }
+
+    static void remember(Object owner, Long id, String text) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        LoadedContents contents = (LoadedContents) TransactionSynchronizationManager.getResource(owner);
+        if (contents == null) {
+            contents = new LoadedContents(owner);
+            TransactionSynchronizationManager.bindResource(owner, contents);
+            TransactionSynchronizationManager.registerSynchronization(contents);
+        }
+        contents.texts.put(id, text);
+    }
+
+    static boolean unchanged(Object owner, Long id, String text) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        LoadedContents contents = (LoadedContents) TransactionSynchronizationManager.getResource(owner);
+        return contents != null && text != null && text.equals(contents.texts.get(id));
+    }
+
+    @Override
+    public void suspend() {
+        TransactionSynchronizationManager.unbindResource(owner);
+    }
+
+    @Override
+    public void resume() {
+        TransactionSynchronizationManager.bindResource(owner, this);
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(owner);
+    }
+}
@@ -0,0 +1,7 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import java.time.LocalDateTime;
+
+public record PostActivityRow(Long postId, LocalDateTime createdAt, Integer viewCount,
+                              Long likeCount, Long commentCount) {
+}
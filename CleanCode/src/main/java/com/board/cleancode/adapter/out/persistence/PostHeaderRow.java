@@ -0,0 +1,14 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.PostHeader;
+
+import java.time.LocalDateTime;
+
+// 목록 조회 프로젝션 (본문/해시태그 컬럼을 읽지 않는다)
+public record PostHeaderRow(Long id, String title, String author, Integer viewCount,
+                            Integer activeCommentCount, LocalDateTime createdAt) {
+
+    public PostHeader toDomain() {
+        return new PostHeader(id, title, author, viewCount, activeCommentCount, createdAt);
+    }
+}
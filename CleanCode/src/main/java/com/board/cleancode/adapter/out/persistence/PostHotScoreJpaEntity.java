@@ -0,0 +1,35 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.HotScore;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "post_hot_scores")
+public class PostHotScoreJpaEntity {
+
+    @Id
+    private Long postId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private double engagement;
+
+    protected PostHotScoreJpaEntity() {
+    }
+
+    public static PostHotScoreJpaEntity fromDomain(HotScore score) {
+        PostHotScoreJpaEntity entity = new PostHotScoreJpaEntity();
+        entity.postId = score.postId();
+        entity.createdAt = score.createdAt();
+        entity.engagement = score.engagement();
+        return entity;
+    }
+
+    public HotScore toDomain() {
+        return new HotScore(postId, createdAt, engagement);
+    }
+}
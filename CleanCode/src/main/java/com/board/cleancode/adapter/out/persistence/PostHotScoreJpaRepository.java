@@ -0,0 +1,22 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface PostHotScoreJpaRepository extends JpaRepository<PostHotScoreJpaEntity, Long> {
+
+    @Query("SELECT h FROM PostHotScoreJpaEntity h " +
+           "WHERE h.postId IN (SELECT p.id FROM PostJpaEntity p WHERE p.deleted = false)")
+    List<PostHotScoreJpaEntity> findAllOfLivePosts();
+
+    // 저장된 점수가 없는 게시글은 조회수/좋아요/댓글 수로 한 번에 계산
+    @Query("SELECT new com.board.cleancode.adapter.out.persistence.PostActivityRow(" +
+           "p.id, p.createdAt, p.viewCount, " +
+           "(SELECT COUNT(l) FROM LikeJpaEntity l WHERE l.postId = p.id), " +
+           "(SELECT COUNT(c) FROM CommentJpaEntity c WHERE c.postId = p.id AND c.deleted = false)) " +
+           "FROM PostJpaEntity p WHERE p.deleted = false " +
+           "AND p.id NOT IN (SELECT h.postId FROM PostHotScoreJpaEntity h)")
+    List<PostActivityRow> findActivityOfPostsWithoutScore();
+}
@@ -0,0 +1,418 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.CounterDrift;
+import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.model.PostHeader;
+import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// 직접 작성한 SQL로 게시글을 저장/조회한다 (jdbc 프로필)
+@Component
+@Profile("jdbc")
+public class PostJdbcPersistenceAdapter implements PostRepositoryPort {
+
+    private static final String POST_COLUMNS = "p.id, p.title, p.content, p.content_compressed, p.author, p.password, " +
+            "p.view_count, p.active_comment_count, p.deleted, p.created_at, p.updated_at";
+
+    private static final RowMapper<PostRow> POST_ROW_MAPPER = (rs, rowNum) -> new PostRow(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("content"),
+            rs.getBytes("content_compressed"),
+            rs.getString("author"),
+            rs.getString("password"),
+            rs.getInt("view_count"),
+            rs.getInt("active_comment_count"),
+            rs.getBoolean("deleted"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class)
+    );
+
+    // 목록/검색용 (본문과 해시태그 제외)
+    private static final String HEADER_COLUMNS = "p.id, p.title, p.author, p.view_count, p.active_comment_count, p.created_at";
+
+    private static final RowMapper<PostHeader> HEADER_MAPPER = (rs, rowNum) -> new PostHeader(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("author"),
+            rs.getInt("view_count"),
+            rs.getInt("active_comment_count"),
+            rs.getObject("created_at", LocalDateTime.class)
+    );
+
+    private static final String LIKE_COUNT = "(SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id)";
+
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final TagDictionary tagDictionary;
+    // shard 프로필의 샤드별 어댑터는 스냅샷 없이 만든다
+    private final Optional<PostRankingSnapshot> rankingSnapshot;
+
+    public PostJdbcPersistenceAdapter(JdbcClient jdbcClient, JdbcTemplate jdbcTemplate,
+                                      TagDictionary tagDictionary, Optional<PostRankingSnapshot> rankingSnapshot) {
+        this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tagDictionary = tagDictionary;
+        this.rankingSnapshot = rankingSnapshot;
+    }
+
+    @Override
+    public Post save(Post post) {
+        List<Integer> tagIds = tagDictionary.register(post.getHashtags());
+        Long id = post.getId();
+        if (id == null) {
+            ContentCodec.Stored storedContent = ContentCodec.store(post.getContent());
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcClient.sql("INSERT INTO posts (title, content, content_compressed, author, password, " +
+                           "view_count, active_comment_count, deleted, created_at, updated_at) " +
+                           "VALUES (:title, :content, :contentCompressed, :author, :password, :viewCount, " +
+                           ":activeCommentCount, :deleted, :createdAt, :updatedAt)")
+                    .param("title", post.getTitle())
+                    .param("content", storedContent.text())
+                    .param("contentCompressed", storedContent.compressed())
+                    .param("author", post.getAuthor())
+                    .param("password", post.getPassword())
+                    .param("viewCount", post.getViewCount())
+                    .param("activeCommentCount", post.getActiveCommentCount())
+                    .param("deleted", post.isDeleted())
+                    .param("createdAt", post.getCreatedAt())
+                    .param("updatedAt", post.getUpdatedAt())
+                    .update(keyHolder, "id");
+            id = Objects.requireNonNull(keyHolder.getKey()).longValue();
+            insertSearchText(id, post.getContent(), storedContent);
+            insertTagIds(id, tagIds, 0);
+        } else {
+            if (!LoadedContents.unchanged(this, id, post.getContent())) {
+                updateContent(id, post.getContent());
+            }
+            // active_comment_count는 증감 UPDATE로만 바꾼다
+            jdbcClient.sql("UPDATE posts SET title = :title, author = :author, password = :password, " +
+                           "view_count = :viewCount, deleted = :deleted, updated_at = :updatedAt WHERE id = :id")
+                    .param("title", post.getTitle())
+                    .param("author", post.getAuthor())
+                    .param("password", post.getPassword())
+                    .param("viewCount", post.getViewCount())
+                    .param("deleted", post.isDeleted())
+                    .param("updatedAt", post.getUpdatedAt())
+                    .param("id", id)
+                    .update();
+            applyTagIds(id, findTagIds(id), tagIds);
+        }
+        LoadedContents.remember(this, id, post.getContent());
+        return Post.reconstitute(
+                id, post.getTitle(), post.getContent(),
+                post.getAuthor(), post.getPassword(), tagDictionary.names(tagIds), post.getViewCount(),
+                post.getActiveCommentCount(), post.isDeleted(), post.getCreatedAt(), post.getUpdatedAt()
+        );
+    }
+
+    private void updateContent(Long id, String content) {
+        ContentCodec.Stored storedContent = ContentCodec.store(content);
+        jdbcClient.sql("UPDATE posts SET content = :content, content_compressed = :contentCompressed WHERE id = :id")
+                .param("content", storedContent.text())
+                .param("contentCompressed", storedContent.compressed())
+                .param("id", id)
+                .update();
+        jdbcClient.sql("DELETE FROM post_search_texts WHERE post_id = :id").param("id", id).update();
+        insertSearchText(id, content, storedContent);
+    }
+
+    // 압축한 본문만 원문을 둔다
+    private void insertSearchText(Long id, String content, ContentCodec.Stored storedContent) {
+        if (storedContent.compressed() == null) {
+            return;
+        }
+        jdbcClient.sql("INSERT INTO post_search_texts (post_id, content) VALUES (:id, :content)")
+                .param("id", id)
+                .param("content", content)
+                .update();
+    }
+
+    // hashtag_order는 0부터 시작하는 목록 위치
+    private void insertTagIds(Long postId, List<Integer> tagIds, int from) {
+        if (tagIds.size() <= from) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO post_hashtags (post_id, hashtag_order, tag_id) VALUES (?, ?, ?)",
+                IntStream.range(from, tagIds.size())
+                        .mapToObj(order -> new Object[]{postId, order, tagIds.get(order)})
+                        .toList());
+    }
+
+    // 바뀐 자리만 UPDATE, 늘어난 자리는 INSERT, 줄어든 자리는 DELETE
+    private void applyTagIds(Long postId, List<Integer> current, List<Integer> updated) {
+        int common = Math.min(current.size(), updated.size());
+        List<Object[]> changed = IntStream.range(0, common)
+                .filter(order -> !current.get(order).equals(updated.get(order)))
+                .mapToObj(order -> new Object[]{updated.get(order), postId, order})
+                .toList();
+        if (!changed.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE post_hashtags SET tag_id = ? WHERE post_id = ? AND hashtag_order = ?",
+                    changed);
+        }
+        if (current.size() > common) {
+            jdbcClient.sql("DELETE FROM post_hashtags WHERE post_id = :postId AND hashtag_order >= :from")
+                    .param("postId", postId)
+                    .param("from", common)
+                    .update();
+        }
+        insertTagIds(postId, updated, common);
+    }
+
+    private List<Integer> findTagIds(Long postId) {
+        return jdbcClient.sql("SELECT tag_id FROM post_hashtags WHERE post_id = :postId ORDER BY hashtag_order")
+                .param("postId", postId)
+                .query(Integer.class)
+                .list();
+    }
+
+    @Override
+    public Optional<Post> findById(Long id) {
+        return jdbcClient.sql("SELECT " + POST_COLUMNS + " FROM posts p WHERE p.id = :id AND p.deleted = FALSE")
+                .param("id", id)
+                .query(POST_ROW_MAPPER)
+                .optional()
+                .map(row -> row.toDomain(LoadedContents.load(this, row.id(), row.content(), row.contentCompressed()),
+                        tagDictionary.names(findTagIds(row.id()))));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return jdbcClient.sql("SELECT 1 FROM posts WHERE id = :id AND deleted = FALSE")
+                .param("id", id)
+                .query(Integer.class)
+                .optional()
+                .isPresent();
+    }
+
+    @Override
+    public List<PostHeader> findHeadersByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostHeader> byId = jdbcClient.sql("SELECT " + HEADER_COLUMNS + " FROM posts p " +
+                                                    "WHERE p.id IN (:ids) AND p.deleted = FALSE")
+                .param("ids", ids)
+                .query(HEADER_MAPPER)
+                .list().stream()
+                .collect(Collectors.toMap(PostHeader::id, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        jdbcClient.sql("DELETE FROM post_hashtags WHERE post_id = :id").param("id", id).update();
+        jdbcClient.sql("DELETE FROM post_search_texts WHERE post_id = :id").param("id", id).update();
+        jdbcClient.sql("DELETE FROM posts WHERE id = :id").param("id", id).update();
+    }
+
+    @Override
+    public long count() {
+        return jdbcClient.sql("SELECT COUNT(*) FROM posts WHERE deleted = FALSE")
+                .query(Long.class)
+                .single();
+    }
+
+    @Override
+    public List<Long> findDeletedIds(int limit) {
+        return jdbcClient.sql("SELECT id FROM posts WHERE deleted = TRUE ORDER BY id LIMIT :limit")
+                .param("limit", limit)
+                .query(Long.class)
+                .list();
+    }
+
+    @Override
+    public long countDeleted() {
+        return jdbcClient.sql("SELECT COUNT(*) FROM posts WHERE deleted = TRUE")
+                .query(Long.class)
+                .single();
+    }
+
+    @Override
+    public void adjustActiveCommentCount(Long postId, int delta) {
+        jdbcClient.sql("UPDATE posts SET active_comment_count = active_comment_count + :delta WHERE id = :id")
+                .param("delta", delta)
+                .param("id", postId)
+                .update();
+    }
+
+    @Override
+    public List<CounterDrift> findActiveCommentCountDrift() {
+        return jdbcClient.sql("SELECT p.id, p.active_comment_count, COUNT(c.id) AS actual FROM posts p " +
+                              "LEFT JOIN comments c ON c.post_id = p.id AND c.deleted = FALSE " +
+                              "WHERE p.deleted = FALSE " +
+                              "GROUP BY p.id, p.active_comment_count HAVING p.active_comment_count <> COUNT(c.id)")
+                .query((rs, rowNum) -> new CounterDrift(CounterDrift.Type.POST_ACTIVE_COMMENTS,
+                        rs.getLong("id"), rs.getInt("active_comment_count"), rs.getLong("actual")))
+                .list();
+    }
+
+    @Override
+    public PostSummaryPage findAll(int page, int size, String sort) {
+        Optional<PostSummaryPage> ranked = findRanked(null, page, size, sort);
+        if (ranked.isPresent()) {
+            return ranked.get();
+        }
+        return findPage(ListFilter.LIVE, page, size, sort);
+    }
+
+    @Override
+    public PostSummaryPage searchByTitle(String keyword, int page, int size, String sort) {
+        return findPage(ListFilter.titleContains(keyword), page, size, sort);
+    }
+
+    @Override
+    public PostSummaryPage searchByAuthor(String keyword, int page, int size, String sort) {
+        return findPage(ListFilter.authorContains(keyword), page, size, sort);
+    }
+
+    @Override
+    public PostSummaryPage searchByContent(String keyword, int page, int size, String sort) {
+        return findPage(ListFilter.contentContains(keyword), page, size, sort);
+    }
+
+    @Override
+    public PostSummaryPage searchByHashtag(String keyword, int page, int size, String sort) {
+        Optional<PostSummaryPage> ranked = findRanked(keyword, page, size, sort);
+        if (ranked.isPresent()) {
+            return ranked.get();
+        }
+        OptionalInt tagId = tagDictionary.findId(keyword);
+        if (tagId.isEmpty()) {
+            return new PostSummaryPage(List.of(), 0);
+        }
+        return findPage(ListFilter.hashtag(tagId.getAsInt()), page, size, sort);
+    }
+
+    // views/likes 정렬은 스냅샷의 id를 잘라 조회
+    private Optional<PostSummaryPage> findRanked(String hashtag, int page, int size, String sort) {
+        if (!"views".equals(sort) && !"likes".equals(sort)) {
+            return Optional.empty();
+        }
+        return rankingSnapshot.flatMap(snapshot -> snapshot.slice(sort, hashtag, page, size))
+                .map(slice -> new PostSummaryPage(
+                        findHeadersByIds(slice.postIds()),
+                        slice.totalElements(),
+                        slice.generatedAt()));
+    }
+
+    private PostSummaryPage findPage(ListFilter filter, int page, int size, String sort) {
+        Map<String, Object> pageParams = new HashMap<>(filter.params());
+        pageParams.put("limit", size);
+        pageParams.put("offset", (long) page * size);
+
+        List<PostHeader> rows = jdbcClient.sql("SELECT " + HEADER_COLUMNS + " FROM posts p WHERE " + filter.where() +
+                                               " ORDER BY " + orderBy(sort) + " LIMIT :limit OFFSET :offset")
+                .params(pageParams)
+                .query(HEADER_MAPPER)
+                .list();
+        return new PostSummaryPage(rows, count(filter));
+    }
+
+    // shard 프로필: 이 샤드의 앞쪽 limit건 (병합은 호출한 쪽)
+    TopHeaders findTop(ListFilter filter, int limit, String sort) {
+        Map<String, Object> topParams = new HashMap<>(filter.params());
+        topParams.put("limit", limit);
+
+        String likeCount = "likes".equals(sort) ? LIKE_COUNT : "0";
+        List<RankedHeader> rows = jdbcClient.sql("SELECT " + HEADER_COLUMNS + ", " + likeCount + " AS like_count " +
+                                                 "FROM posts p WHERE " + filter.where() +
+                                                 " ORDER BY " + orderBy(sort) + " LIMIT :limit")
+                .params(topParams)
+                .query((rs, rowNum) -> new RankedHeader(HEADER_MAPPER.mapRow(rs, rowNum), rs.getLong("like_count")))
+                .list();
+        return new TopHeaders(rows, count(filter));
+    }
+
+    private long count(ListFilter filter) {
+        return jdbcClient.sql("SELECT COUNT(*) FROM posts p WHERE " + filter.where())
+                .params(filter.params())
+                .query(Long.class)
+                .single();
+    }
+
+    private String orderBy(String sort) {
+        return switch (sort) {
+            case "views" -> "p.view_count DESC, p.created_at DESC, p.id DESC";
+            case "likes" -> LIKE_COUNT + " DESC, p.created_at DESC, p.id DESC";
+            default -> "p.created_at DESC, p.id DESC"; // latest
+        };
+    }
+
+    private static String containsPattern(String keyword) {
+        String escaped = keyword.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    // where 절은 이 클래스의 상수 조각만 받는다 (입력은 파라미터로 바인딩)
+    record ListFilter(String where, Map<String, ?> params) {
+
+        static final ListFilter LIVE = new ListFilter("p.deleted = FALSE", Map.of());
+
+        static ListFilter titleContains(String keyword) {
+            return new ListFilter("p.deleted = FALSE AND LOWER(p.title) LIKE :pattern ESCAPE '\\'",
+                    Map.of("pattern", containsPattern(keyword)));
+        }
+
+        static ListFilter authorContains(String keyword) {
+            return new ListFilter("p.deleted = FALSE AND LOWER(p.author) LIKE :pattern ESCAPE '\\'",
+                    Map.of("pattern", containsPattern(keyword)));
+        }
+
+        static ListFilter contentContains(String keyword) {
+            return new ListFilter("p.deleted = FALSE AND (LOWER(p.content) LIKE :pattern ESCAPE '\\' " +
+                                  "OR EXISTS (SELECT 1 FROM post_search_texts s " +
+                                  "WHERE s.post_id = p.id AND LOWER(s.content) LIKE :pattern ESCAPE '\\'))",
+                    Map.of("pattern", containsPattern(keyword)));
+        }
+
+        static ListFilter hashtag(int tagId) {
+            return new ListFilter("p.deleted = FALSE AND EXISTS " +
+                                  "(SELECT 1 FROM post_hashtags h WHERE h.post_id = p.id AND h.tag_id = :tagId)",
+                    Map.of("tagId", tagId));
+        }
+    }
+
+    // likeCount는 sort=likes일 때만 채운다
+    record RankedHeader(PostHeader header, long likeCount) {
+    }
+
+    record TopHeaders(List<RankedHeader> rows, long totalElements) {
+    }
+
+    private record PostRow(Long id, String title, String content, byte[] contentCompressed, String author,
+                           String password, int viewCount, int activeCommentCount, boolean deleted,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        Post toDomain(String text, List<String> hashtags) {
+            return Post.reconstitute(
+                    id, title, text, author, password,
+                    hashtags, viewCount, activeCommentCount, deleted, createdAt, updatedAt
+            );
+        }
+    }
+}
@@ -2,13 +2,18 @@ package com.board.cleancode.adapter.out.persistence;
 
 import com.board.cleancode.domain.model.Post;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+// 2차 캐시 대상 (카운터 증감 UPDATE는 해당 항목만 지운다)
 @Entity
 @Table(name = "posts")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.POSTS_REGION)
 public class PostJpaEntity {
 
     @Id
@@ -18,23 +23,50 @@ public class PostJpaEntity {
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    // 긴 본문은 contentCompressed에만 값이 있다
+    @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Lob
+    @Column
+    private byte[] contentCompressed;
+
+    // 압축한 본문의 원문 (본문 검색 전용, 0개 또는 1개)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "post_search_texts", joinColumns = @JoinColumn(name = "post_id"))
+    @Column(name = "content", columnDefinition = "TEXT")
+    private List<String> searchTexts = new ArrayList<>();
+
+    @Transient
+    private String text;
+
     @Column(nullable = false, length = 50)
     private String author;
 
     @Column(nullable = false)
     private String password;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "post_hashtags", joinColumns = @JoinColumn(name = "post_id"))
-    @Column(name = "hashtag", length = 30)
+    // 사전(tags)의 id 목록, 순서 열로 바뀐 자리만 다시 쓴다
+    @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = 20)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.POST_HASHTAGS_REGION)
+    @CollectionTable(name = "post_hashtags", joinColumns = @JoinColumn(name = "post_id"),
+            indexes = @Index(name = "idx_post_hashtags_tag", columnList = "tag_id, post_id"))
+    @OrderColumn(name = "hashtag_order")
+    @Convert(converter = TagIdConverter.class)
+    @Column(name = "tag_id")
     private List<String> hashtags = new ArrayList<>();
 
     @Column(nullable = false)
     private int viewCount;
 
+    // 증감 UPDATE로만 바꾼다
+    @Column(nullable = false, updatable = false)
+    private int activeCommentCount;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -44,25 +76,77 @@ public class PostJpaEntity {
     protected PostJpaEntity() {
     }
 
-    public static PostJpaEntity fromDomain(Post post) {
+    public static PostJpaEntity fromDomain(Post post, List<String> hashtags) {
         PostJpaEntity entity = new PostJpaEntity();
         entity.id = post.getId();
         entity.title = post.getTitle();
-        entity.content = post.getContent();
+        entity.applyContent(post.getContent());
         entity.author = post.getAuthor();
         entity.password = post.getPassword();
-        entity.hashtags = new ArrayList<>(post.getHashtags());
+        entity.hashtags = new ArrayList<>(hashtags);
         entity.viewCount = post.getViewCount();
+        entity.activeCommentCount = post.getActiveCommentCount();
+        entity.deleted = post.isDeleted();
         entity.createdAt = post.getCreatedAt();
         entity.updatedAt = post.getUpdatedAt();
         return entity;
     }
 
+    // 바뀐 필드만 더티 체킹에 걸린다
+    public void apply(Post post, List<String> hashtags) {
+        title = post.getTitle();
+        applyContent(post.getContent());
+        author = post.getAuthor();
+        password = post.getPassword();
+        viewCount = post.getViewCount();
+        deleted = post.isDeleted();
+        updatedAt = post.getUpdatedAt();
+        applyHashtags(hashtags);
+    }
+
+    private void applyContent(String updated) {
+        if (updated != null && updated.equals(text)) {
+            return;
+        }
+        ContentCodec.Stored storedContent = ContentCodec.store(updated);
+        content = storedContent.text();
+        contentCompressed = storedContent.compressed();
+        searchTexts.clear();
+        if (contentCompressed != null) {
+            searchTexts.add(updated);
+        }
+        text = updated;
+    }
+
+    private void applyHashtags(List<String> updated) {
+        for (int i = 0; i < updated.size(); i++) {
+            if (i >= hashtags.size()) {
+                hashtags.add(updated.get(i));
+            } else if (!hashtags.get(i).equals(updated.get(i))) {
+                hashtags.set(i, updated.get(i));
+            }
+        }
+        while (hashtags.size() > updated.size()) {
+            hashtags.remove(hashtags.size() - 1);
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
     public Post toDomain() {
+        if (text == null) {
+            text = ContentCodec.load(content, contentCompressed);
+        }
         return Post.reconstitute(
-                id, title, content, author, password,
-                new ArrayList<>(hashtags), viewCount,
-                createdAt, updatedAt
+                id, title, text, author, password,
+                List.copyOf(hashtags), viewCount, activeCommentCount,
+                deleted, createdAt, updatedAt
         );
     }
 }
@@ -3,45 +3,118 @@ package com.board.cleancode.adapter.out.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface PostJpaRepository extends JpaRepository<PostJpaEntity, Long> {
 
+    // 삭제 표시(tombstone)된 게시글은 모든 조회에서 제외한다
+    boolean existsByIdAndDeletedFalse(Long id);
+
+    long countByDeletedFalse();
+
+    @Query("SELECT new com.board.cleancode.adapter.out.persistence.CounterRow(p.id, p.activeCommentCount, COUNT(c)) " +
+           "FROM PostJpaEntity p LEFT JOIN CommentJpaEntity c ON c.postId = p.id AND c.deleted = false " +
+           "WHERE p.deleted = false " +
+           "GROUP BY p.id, p.activeCommentCount HAVING p.activeCommentCount <> COUNT(c)")
+    List<CounterRow> findActiveCommentCountDrift();
+
+    // 목록/검색은 필요한 컬럼만 읽는다
+    String HEADER = "SELECT new com.board.cleancode.adapter.out.persistence.PostHeaderRow(" +
+                    "p.id, p.title, p.author, p.viewCount, p.activeCommentCount, p.createdAt) ";
+    String HEADER_GROUP_BY = "GROUP BY p.id, p.title, p.author, p.viewCount, p.activeCommentCount, p.createdAt ";
+    String LIKE_ORDER = "ORDER BY COUNT(l) DESC, p.createdAt DESC";
+    // 압축한 본문은 post_search_texts의 원문으로 찾는다
+    String CONTENT_MATCHES = "(LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+                             "OR EXISTS (SELECT 1 FROM PostJpaEntity q JOIN q.searchTexts s " +
+                             "WHERE q.id = p.id AND LOWER(s) LIKE LOWER(CONCAT('%', :keyword, '%'))))";
+
+    @Query(HEADER + "FROM PostJpaEntity p WHERE p.id IN :ids AND p.deleted = false")
+    List<PostHeaderRow> findHeadersByIdIn(@Param("ids") Collection<Long> ids);
+
     // 기본 조회 (정렬은 Pageable로 전달)
-    Page<PostJpaEntity> findAll(Pageable pageable);
+    @Query(value = HEADER + "FROM PostJpaEntity p WHERE p.deleted = false",
+           countQuery = "SELECT COUNT(p) FROM PostJpaEntity p WHERE p.deleted = false")
+    Page<PostHeaderRow> findHeaders(Pageable pageable);
 
-    Page<PostJpaEntity> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+    @Query(value = HEADER + "FROM PostJpaEntity p " +
+                   "WHERE p.deleted = false AND LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))",
+           countQuery = "SELECT COUNT(p) FROM PostJpaEntity p " +
+                        "WHERE p.deleted = false AND LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<PostHeaderRow> findHeadersByTitle(@Param("keyword") String keyword, Pageable pageable);
 
-    Page<PostJpaEntity> findByAuthorContainingIgnoreCase(String author, Pageable pageable);
+    @Query(value = HEADER + "FROM PostJpaEntity p " +
+                   "WHERE p.deleted = false AND LOWER(p.author) LIKE LOWER(CONCAT('%', :keyword, '%'))",
+           countQuery = "SELECT COUNT(p) FROM PostJpaEntity p " +
+                        "WHERE p.deleted = false AND LOWER(p.author) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<PostHeaderRow> findHeadersByAuthor(@Param("keyword") String keyword, Pageable pageable);
 
-    Page<PostJpaEntity> findByContentContainingIgnoreCase(String content, Pageable pageable);
+    @Query(value = HEADER + "FROM PostJpaEntity p " +
+                   "WHERE p.deleted = false AND " + CONTENT_MATCHES,
+           countQuery = "SELECT COUNT(p) FROM PostJpaEntity p " +
+                        "WHERE p.deleted = false AND " + CONTENT_MATCHES)
+    Page<PostHeaderRow> findHeadersByContent(@Param("keyword") String keyword, Pageable pageable);
 
-    @Query("SELECT DISTINCT p FROM PostJpaEntity p JOIN p.hashtags h WHERE h = :hashtag")
-    Page<PostJpaEntity> findByHashtag(@Param("hashtag") String hashtag, Pageable pageable);
+    @Query(value = HEADER + "FROM PostJpaEntity p WHERE p.deleted = false " +
+                   "AND :hashtag MEMBER OF p.hashtags",
+           countQuery = "SELECT COUNT(p) FROM PostJpaEntity p WHERE p.deleted = false " +
+                        "AND :hashtag MEMBER OF p.hashtags")
+    Page<PostHeaderRow> findHeadersByHashtag(@Param("hashtag") String hashtag, Pageable pageable);
 
     // 좋아요 수로 정렬하는 쿼리 (LEFT JOIN + COUNT)
-    @Query("SELECT p FROM PostJpaEntity p LEFT JOIN LikeJpaEntity l ON p.id = l.postId " +
-           "GROUP BY p ORDER BY COUNT(l) DESC, p.createdAt DESC")
-    Page<PostJpaEntity> findAllOrderByLikeCountDesc(Pageable pageable);
-
-    @Query("SELECT p FROM PostJpaEntity p LEFT JOIN LikeJpaEntity l ON p.id = l.postId " +
-           "WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "GROUP BY p ORDER BY COUNT(l) DESC, p.createdAt DESC")
-    Page<PostJpaEntity> findByTitleContainingIgnoreCaseOrderByLikeCountDesc(@Param("keyword") String keyword, Pageable pageable);
-
-    @Query("SELECT p FROM PostJpaEntity p LEFT JOIN LikeJpaEntity l ON p.id = l.postId " +
-           "WHERE LOWER(p.author) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "GROUP BY p ORDER BY COUNT(l) DESC, p.createdAt DESC")
-    Page<PostJpaEntity> findByAuthorContainingIgnoreCaseOrderByLikeCountDesc(@Param("keyword") String keyword, Pageable pageable);
-
-    @Query("SELECT p FROM PostJpaEntity p LEFT JOIN LikeJpaEntity l ON p.id = l.postId " +
-           "WHERE LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "GROUP BY p ORDER BY COUNT(l) DESC, p.createdAt DESC")
-    Page<PostJpaEntity> findByContentContainingIgnoreCaseOrderByLikeCountDesc(@Param("keyword") String keyword, Pageable pageable);
-
-    @Query("SELECT p FROM PostJpaEntity p LEFT JOIN LikeJpaEntity l ON p.id = l.postId " +
-           "JOIN p.hashtags h WHERE h = :hashtag " +
-           "GROUP BY p ORDER BY COUNT(l) DESC, p.createdAt DESC")
-    Page<PostJpaEntity> findByHashtagOrderByLikeCountDesc(@Param("hashtag") String hashtag, Pageable pageable);
+    @Query(value = HEADER + "FROM PostJpaEntity p LEFT JOIN LikeJpaEntity l ON p.id = l.postId " +
+                   "WHERE p.deleted = false " + HEADER_GROUP_BY + LIKE_ORDER,
+           countQuery = "SELECT COUNT(p) FROM PostJpaEntity p WHERE p.deleted = false")
+    Page<PostHeaderRow> findHeadersOrderByLikeCount(Pageable pageable);
+
+    @Query(value = HEADER + "FROM PostJpaEntity p LEFT JOIN LikeJpaEntity l ON p.id = l.postId " +
+                   "WHERE p.deleted = false AND LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+                   HEADER_GROUP_BY + LIKE_ORDER,
+           countQuery = "SELECT COUNT(p) FROM PostJpaEntity p " +
+                        "WHERE p.deleted = false AND LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<PostHeaderRow> findHeadersByTitleOrderByLikeCount(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = HEADER + "FROM PostJpaEntity p LEFT JOIN LikeJpaEntity l ON p.id = l.postId " +
+                   "WHERE p.deleted = false AND LOWER(p.author) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+                   HEADER_GROUP_BY + LIKE_ORDER,
+           countQuery = "SELECT COUNT(p) FROM PostJpaEntity p " +
+                        "WHERE p.deleted = false AND LOWER(p.author) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<PostHeaderRow> findHeadersByAuthorOrderByLikeCount(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = HEADER + "FROM PostJpaEntity p LEFT JOIN LikeJpaEntity l ON p.id = l.postId " +
+                   "WHERE p.deleted = false AND " + CONTENT_MATCHES + " " +
+                   HEADER_GROUP_BY + LIKE_ORDER,
+           countQuery = "SELECT COUNT(p) FROM PostJpaEntity p " +
+                        "WHERE p.deleted = false AND " + CONTENT_MATCHES)
+    Page<PostHeaderRow> findHeadersByContentOrderByLikeCount(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = HEADER + "FROM PostJpaEntity p LEFT JOIN LikeJpaEntity l ON p.id = l.postId " +
+                   "WHERE p.deleted = false " +
+                   "AND :hashtag MEMBER OF p.hashtags " +
+                   HEADER_GROUP_BY + LIKE_ORDER,
+           countQuery = "SELECT COUNT(p) FROM PostJpaEntity p WHERE p.deleted = false " +
+                        "AND :hashtag MEMBER OF p.hashtags")
+    Page<PostHeaderRow> findHeadersByHashtagOrderByLikeCount(@Param("hashtag") String hashtag, Pageable pageable);
+
+    // 백그라운드 정리 대상 (삭제 표시된 게시글)
+    @Query("SELECT p.id FROM PostJpaEntity p WHERE p.deleted = true ORDER BY p.id")
+    List<Long> findDeletedIds(Pageable pageable);
+
+    long countByDeletedTrue();
+
+    // 랭킹 스냅샷 계산용 (id만 조회)
+    @Query("SELECT p.id FROM PostJpaEntity p WHERE p.deleted = false ORDER BY p.viewCount DESC, p.createdAt DESC")
+    List<Long> findLiveIdsOrderByViewCount();
+
+    @Query("SELECT p.id FROM PostJpaEntity p LEFT JOIN LikeJpaEntity l ON p.id = l.postId " +
+           "WHERE p.deleted = false " +
+           "GROUP BY p.id, p.createdAt ORDER BY COUNT(l) DESC, p.createdAt DESC")
+    List<Long> findLiveIdsOrderByLikeCount();
+
+    @Query("SELECT p.id, h FROM PostJpaEntity p JOIN p.hashtags h WHERE p.deleted = false")
+    List<Object[]> findLiveHashtagPairs();
 }
@@ -1,34 +1,91 @@
 package com.board.cleancode.adapter.out.persistence;
 
+import com.board.cleancode.domain.exception.PostNotFoundException;
+import com.board.cleancode.domain.model.CounterDrift;
 import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.model.PostHeader;
 import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.sql.DataSource;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
+@Profile("!jdbc & !memory & !shard")
 public class PostPersistenceAdapter implements PostRepositoryPort {
 
     private final PostJpaRepository jpaRepository;
-
-    public PostPersistenceAdapter(PostJpaRepository jpaRepository) {
+    private final TagDictionary tagDictionary;
+    private final PostRankingSnapshot rankingSnapshot;
+    private final JdbcClient jdbcClient;
+    private final Cache secondLevelCache;
+
+    public PostPersistenceAdapter(PostJpaRepository jpaRepository, TagDictionary tagDictionary,
+                                  PostRankingSnapshot rankingSnapshot, DataSource dataSource,
+                                  EntityManagerFactory entityManagerFactory) {
         this.jpaRepository = jpaRepository;
+        this.tagDictionary = tagDictionary;
+        this.rankingSnapshot = rankingSnapshot;
+        this.jdbcClient = JdbcClient.create(dataSource);
+        this.secondLevelCache = entityManagerFactory.getCache();
     }
 
+    // 기존 게시글은 merge하지 않고 영속 엔티티에 변경을 옮긴다
     @Override
+    @Transactional
     public Post save(Post post) {
-        PostJpaEntity entity = PostJpaEntity.fromDomain(post);
-        PostJpaEntity saved = jpaRepository.save(entity);
-        return saved.toDomain();
+        // 컨버터는 찾기만 하므로 새 태그를 먼저 올린다
+        List<String> hashtags = tagDictionary.canonicalize(post.getHashtags());
+        if (post.getId() == null) {
+            return jpaRepository.save(PostJpaEntity.fromDomain(post, hashtags)).toDomain();
+        }
+        PostJpaEntity entity = jpaRepository.findById(post.getId())
+                .orElseThrow(() -> new PostNotFoundException(post.getId()));
+        entity.apply(post, hashtags);
+        return entity.toDomain();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Post> findById(Long id) {
-        return jpaRepository.findById(id).map(PostJpaEntity::toDomain);
+        // 2차 캐시를 거치도록 식별자로 읽는다
+        return jpaRepository.findById(id)
+                .filter(entity -> !entity.isDeleted())
+                .map(PostJpaEntity::toDomain);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return jpaRepository.existsByIdAndDeletedFalse(id);
+    }
+
+    @Override
+    public List<PostHeader> findHeadersByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostHeaderRow> byId = jpaRepository.findHeadersByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostHeaderRow::id, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(PostHeaderRow::toDomain)
+                .toList();
     }
 
     @Override
@@ -38,72 +95,131 @@ public class PostPersistenceAdapter implements PostRepositoryPort {
 
     @Override
     public long count() {
-        return jpaRepository.count();
+        return jpaRepository.countByDeletedFalse();
+    }
+
+    @Override
+    public List<Long> findDeletedIds(int limit) {
+        return jpaRepository.findDeletedIds(PageRequest.of(0, limit));
+    }
+
+    @Override
+    public long countDeleted() {
+        return jpaRepository.countByDeletedTrue();
+    }
+
+    // SQL로 증감하고 이 게시글의 캐시 항목만 지운다 (커밋 뒤 한 번 더)
+    @Override
+    public void adjustActiveCommentCount(Long postId, int delta) {
+        jdbcClient.sql("UPDATE posts SET active_comment_count = active_comment_count + :delta WHERE id = :id")
+                .param("delta", delta)
+                .param("id", postId)
+                .update();
+        secondLevelCache.evict(PostJpaEntity.class, postId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    secondLevelCache.evict(PostJpaEntity.class, postId);
+                }
+            });
+        }
     }
 
     @Override
-    public PostPage findAll(int page, int size, String sort) {
+    public List<CounterDrift> findActiveCommentCountDrift() {
+        return jpaRepository.findActiveCommentCountDrift().stream()
+                .map(row -> new CounterDrift(CounterDrift.Type.POST_ACTIVE_COMMENTS,
+                        row.id(), row.stored(), row.actual()))
+                .toList();
+    }
+
+    @Override
+    public PostSummaryPage findAll(int page, int size, String sort) {
+        Optional<PostSummaryPage> ranked = findRanked(null, page, size, sort);
+        if (ranked.isPresent()) {
+            return ranked.get();
+        }
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<PostJpaEntity> result;
+        Page<PostHeaderRow> result;
         if ("likes".equals(sort)) {
-            result = jpaRepository.findAllOrderByLikeCountDesc(pageRequest);
+            result = jpaRepository.findHeadersOrderByLikeCount(pageRequest);
         } else {
             Sort sorting = getSortOrder(sort);
-            result = jpaRepository.findAll(PageRequest.of(page, size, sorting));
+            result = jpaRepository.findHeaders(PageRequest.of(page, size, sorting));
         }
-        return toPostPage(result);
+        return toSummaryPage(result);
     }
 
     @Override
-    public PostPage searchByTitle(String keyword, int page, int size, String sort) {
+    public PostSummaryPage searchByTitle(String keyword, int page, int size, String sort) {
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<PostJpaEntity> result;
+        Page<PostHeaderRow> result;
         if ("likes".equals(sort)) {
-            result = jpaRepository.findByTitleContainingIgnoreCaseOrderByLikeCountDesc(keyword, pageRequest);
+            result = jpaRepository.findHeadersByTitleOrderByLikeCount(keyword, pageRequest);
         } else {
             Sort sorting = getSortOrder(sort);
-            result = jpaRepository.findByTitleContainingIgnoreCase(keyword, PageRequest.of(page, size, sorting));
+            result = jpaRepository.findHeadersByTitle(keyword, PageRequest.of(page, size, sorting));
         }
-        return toPostPage(result);
+        return toSummaryPage(result);
     }
 
     @Override
-    public PostPage searchByAuthor(String keyword, int page, int size, String sort) {
+    public PostSummaryPage searchByAuthor(String keyword, int page, int size, String sort) {
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<PostJpaEntity> result;
+        Page<PostHeaderRow> result;
         if ("likes".equals(sort)) {
-            result = jpaRepository.findByAuthorContainingIgnoreCaseOrderByLikeCountDesc(keyword, pageRequest);
+            result = jpaRepository.findHeadersByAuthorOrderByLikeCount(keyword, pageRequest);
         } else {
             Sort sorting = getSortOrder(sort);
-            result = jpaRepository.findByAuthorContainingIgnoreCase(keyword, PageRequest.of(page, size, sorting));
+            result = jpaRepository.findHeadersByAuthor(keyword, PageRequest.of(page, size, sorting));
         }
-        return toPostPage(result);
+        return toSummaryPage(result);
     }
 
     @Override
-    public PostPage searchByContent(String keyword, int page, int size, String sort) {
+    public PostSummaryPage searchByContent(String keyword, int page, int size, String sort) {
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<PostJpaEntity> result;
+        Page<PostHeaderRow> result;
         if ("likes".equals(sort)) {
-            result = jpaRepository.findByContentContainingIgnoreCaseOrderByLikeCountDesc(keyword, pageRequest);
+            result = jpaRepository.findHeadersByContentOrderByLikeCount(keyword, pageRequest);
         } else {
             Sort sorting = getSortOrder(sort);
-            result = jpaRepository.findByContentContainingIgnoreCase(keyword, PageRequest.of(page, size, sorting));
+            result = jpaRepository.findHeadersByContent(keyword, PageRequest.of(page, size, sorting));
         }
-        return toPostPage(result);
+        return toSummaryPage(result);
     }
 
     @Override
-    public PostPage searchByHashtag(String keyword, int page, int size, String sort) {
+    public PostSummaryPage searchByHashtag(String keyword, int page, int size, String sort) {
+        Optional<PostSummaryPage> ranked = findRanked(keyword, page, size, sort);
+        if (ranked.isPresent()) {
+            return ranked.get();
+        }
+        if (tagDictionary.findId(keyword).isEmpty()) {
+            return new PostSummaryPage(List.of(), 0);
+        }
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<PostJpaEntity> result;
+        Page<PostHeaderRow> result;
         if ("likes".equals(sort)) {
-            result = jpaRepository.findByHashtagOrderByLikeCountDesc(keyword, pageRequest);
+            result = jpaRepository.findHeadersByHashtagOrderByLikeCount(keyword, pageRequest);
         } else {
             Sort sorting = getSortOrder(sort);
-            result = jpaRepository.findByHashtag(keyword, PageRequest.of(page, size, sorting));
+            result = jpaRepository.findHeadersByHashtag(keyword, PageRequest.of(page, size, sorting));
+        }
+        return toSummaryPage(result);
+    }
+
+    // views/likes 정렬은 스냅샷의 id를 잘라 조회
+    private Optional<PostSummaryPage> findRanked(String hashtag, int page, int size, String sort) {
+        if (!"views".equals(sort) && !"likes".equals(sort)) {
+            return Optional.empty();
         }
-        return toPostPage(result);
+        return rankingSnapshot.slice(sort, hashtag, page, size)
+                .map(slice -> new PostSummaryPage(
+                        findHeadersByIds(slice.postIds()),
+                        slice.totalElements(),
+                        slice.generatedAt()));
     }
 
     private Sort getSortOrder(String sort) {
@@ -113,10 +229,10 @@ public class PostPersistenceAdapter implements PostRepositoryPort {
         };
     }
 
-    private PostPage toPostPage(Page<PostJpaEntity> page) {
-        List<Post> posts = page.getContent().stream()
-                .map(PostJpaEntity::toDomain)
+    private PostSummaryPage toSummaryPage(Page<PostHeaderRow> page) {
+        List<PostHeader> posts = page.getContent().stream()
+                .map(PostHeaderRow::toDomain)
                 .toList();
-        return new PostPage(posts, page.getTotalElements());
+        return new PostSummaryPage(posts, page.getTotalElements());
     }
 }
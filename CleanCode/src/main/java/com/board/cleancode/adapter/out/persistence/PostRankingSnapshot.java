@@ -0,0 +1,104 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// sort=views / sort=likes 목록을 주기적으로 계산해 두는 id 스냅샷 (volatile 참조로 교체)
+@Component
+public class PostRankingSnapshot {
+
+    private final PostJpaRepository jpaRepository;
+    private final boolean enabled;
+    private final Duration maxStaleness;
+
+    private volatile Snapshot current;
+
+    public PostRankingSnapshot(PostJpaRepository jpaRepository,
+                               @Value("${board.ranking.snapshot.enabled:true}") boolean enabled,
+                               @Value("${board.ranking.max-staleness-ms:60000}") long maxStalenessMillis) {
+        this.jpaRepository = jpaRepository;
+        this.enabled = enabled;
+        this.maxStaleness = Duration.ofMillis(maxStalenessMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${board.ranking.refresh-interval-ms:10000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime generatedAt = LocalDateTime.now();
+        long[] byViews = toArray(jpaRepository.findLiveIdsOrderByViewCount());
+        long[] byLikes = toArray(jpaRepository.findLiveIdsOrderByLikeCount());
+
+        Map<Long, List<String>> hashtagsByPostId = new HashMap<>();
+        for (Object[] row : jpaRepository.findLiveHashtagPairs()) {
+            hashtagsByPostId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        current = new Snapshot(
+                byViews,
+                byLikes,
+                groupByHashtag(byViews, hashtagsByPostId),
+                groupByHashtag(byLikes, hashtagsByPostId),
+                generatedAt
+        );
+    }
+
+    // hashtag가 null이면 전체 목록, 스냅샷이 없거나 오래되었으면 empty
+    public Optional<RankedSlice> slice(String sort, String hashtag, int page, int size) {
+        Snapshot snapshot = current;
+        if (!enabled || snapshot == null
+                || snapshot.generatedAt().isBefore(LocalDateTime.now().minus(maxStaleness))) {
+            return Optional.empty();
+        }
+
+        long[] ids = snapshot.ids(sort, hashtag);
+        int from = (int) Math.min((long) page * size, ids.length);
+        int to = (int) Math.min((long) from + size, ids.length);
+        List<Long> pageIds = Arrays.stream(ids, from, to).boxed().toList();
+        return Optional.of(new RankedSlice(pageIds, ids.length, snapshot.generatedAt()));
+    }
+
+    private static Map<String, long[]> groupByHashtag(long[] orderedIds, Map<Long, List<String>> hashtagsByPostId) {
+        Map<String, List<Long>> grouped = new HashMap<>();
+        for (long id : orderedIds) {
+            for (String hashtag : hashtagsByPostId.getOrDefault(id, List.of())) {
+                grouped.computeIfAbsent(hashtag, tag -> new ArrayList<>()).add(id);
+            }
+        }
+        Map<String, long[]> result = new HashMap<>();
+        grouped.forEach((hashtag, ids) -> result.put(hashtag, toArray(ids)));
+        return Map.copyOf(result);
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private record Snapshot(long[] byViews, long[] byLikes,
+                            Map<String, long[]> byViewsPerHashtag, Map<String, long[]> byLikesPerHashtag,
+                            LocalDateTime generatedAt) {
+
+        long[] ids(String sort, String hashtag) {
+            boolean views = "views".equals(sort);
+            if (hashtag == null) {
+                return views ? byViews : byLikes;
+            }
+            long[] ids = (views ? byViewsPerHashtag : byLikesPerHashtag).get(hashtag);
+            return ids != null ? ids : new long[0];
+        }
+    }
+
+    public record RankedSlice(List<Long> postIds, long totalElements, LocalDateTime generatedAt) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+// 샤드 하나: 연결 풀과, 그 위에서 도는 JDBC 어댑터들 (게시글과 그 댓글/좋아요/핫 점수가 함께 있다)
+final class PostShard {
+
+    private static final Logger log = LoggerFactory.getLogger(PostShard.class);
+
+    private final int index;
+    private final HikariDataSource dataSource;
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final PostJdbcPersistenceAdapter posts;
+    private final CommentJdbcPersistenceAdapter comments;
+    private final LikeJdbcPersistenceAdapter likes;
+
+    PostShard(int index, HikariDataSource dataSource, TagDictionary tagDictionary) {
+        this.index = index;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+        this.posts = new PostJdbcPersistenceAdapter(jdbcClient, jdbcTemplate, tagDictionary, Optional.empty());
+        this.comments = new CommentJdbcPersistenceAdapter(jdbcClient);
+        this.likes = new LikeJdbcPersistenceAdapter(jdbcClient);
+    }
+
+    int index() {
+        return index;
+    }
+
+    JdbcClient jdbcClient() {
+        return jdbcClient;
+    }
+
+    JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    PostJdbcPersistenceAdapter posts() {
+        return posts;
+    }
+
+    CommentJdbcPersistenceAdapter comments() {
+        return comments;
+    }
+
+    LikeJdbcPersistenceAdapter likes() {
+        return likes;
+    }
+
+    // 처음 쓰일 때 연결을 트랜잭션에 묶고, 주 트랜잭션 커밋 직전에 커밋한다
+    PostShard join() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isJoined()) {
+            return this;
+        }
+        try {
+            Connection connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+            ConnectionHolder holder = new ConnectionHolder(connection);
+            holder.setSynchronizedWithTransaction(true);
+            TransactionSynchronizationManager.bindResource(dataSource, holder);
+            TransactionSynchronizationManager.registerSynchronization(new ShardTransaction(holder));
+        } catch (SQLException e) {
+            throw new CannotGetJdbcConnectionException("샤드 " + index + " 연결을 얻지 못했습니다.", e);
+        }
+        return this;
+    }
+
+    // 커밋 전 쓰기를 보려면 그 연결로 읽어야 한다
+    boolean isJoined() {
+        return TransactionSynchronizationManager.hasResource(dataSource);
+    }
+
+    void close() {
+        dataSource.close();
+    }
+
+    private final class ShardTransaction implements TransactionSynchronization {
+
+        private final ConnectionHolder holder;
+        private boolean committed;
+
+        private ShardTransaction(ConnectionHolder holder) {
+            this.holder = holder;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(dataSource);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(dataSource, holder);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            try {
+                holder.getConnection().commit();
+                committed = true;
+            } catch (SQLException e) {
+                throw new TransactionSystemException("샤드 " + index + " 커밋에 실패했습니다.", e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(dataSource);
+            Connection connection = holder.getConnection();
+            try {
+                if (!committed) {
+                    connection.rollback();
+                }
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.warn("샤드 트랜잭션 정리 실패: shard={}", index, e);
+            } finally {
+                holder.clear();
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.warn("샤드 연결 반환 실패: shard={}", index, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.adapter.out.persistence.PostJdbcPersistenceAdapter.ListFilter;
+import com.board.cleancode.adapter.out.persistence.PostJdbcPersistenceAdapter.RankedHeader;
+import com.board.cleancode.adapter.out.persistence.PostJdbcPersistenceAdapter.TopHeaders;
+import com.board.cleancode.domain.model.CounterDrift;
+import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.model.PostHeader;
+import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.PriorityQueue;
+
+// 게시글을 여러 샤드에 나눠 저장한다 (spring.profiles.active=shard)
+@Component
+@Profile("shard")
+public class PostShardedPersistenceAdapter implements PostRepositoryPort {
+
+    private final PostShards shards;
+    private final TagDictionary tagDictionary;
+
+    public PostShardedPersistenceAdapter(PostShards shards, TagDictionary tagDictionary) {
+        this.shards = shards;
+        this.tagDictionary = tagDictionary;
+    }
+
+    @Override
+    public Post save(Post post) {
+        PostShard shard = post.getId() == null ? shards.forNewPost() : shards.of(post.getId());
+        return shard.join().posts().save(post);
+    }
+
+    @Override
+    public Optional<Post> findById(Long id) {
+        return shards.of(id).join().posts().findById(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return shards.of(id).join().posts().existsById(id);
+    }
+
+    @Override
+    public List<PostHeader> findHeadersByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostHeader> byId = new HashMap<>();
+        shards.groupByShard(ids).forEach((shard, shardIds) ->
+                shard.join().posts().findHeadersByIds(shardIds)
+                        .forEach(header -> byId.put(header.id(), header)));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        shards.of(id).join().posts().deleteById(id);
+    }
+
+    @Override
+    public long count() {
+        return sum(shards.scatter(shard -> shard.posts().count()));
+    }
+
+    @Override
+    public List<Long> findDeletedIds(int limit) {
+        return flatten(shards.scatter(shard -> shard.posts().findDeletedIds(limit))).stream()
+                .sorted()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public long countDeleted() {
+        return sum(shards.scatter(shard -> shard.posts().countDeleted()));
+    }
+
+    @Override
+    public void adjustActiveCommentCount(Long postId, int delta) {
+        shards.of(postId).join().posts().adjustActiveCommentCount(postId, delta);
+    }
+
+    @Override
+    public List<CounterDrift> findActiveCommentCountDrift() {
+        return flatten(shards.scatter(shard -> shard.posts().findActiveCommentCountDrift()));
+    }
+
+    @Override
+    public PostSummaryPage findAll(int page, int size, String sort) {
+        return scatterPage(ListFilter.LIVE, page, size, sort);
+    }
+
+    @Override
+    public PostSummaryPage searchByTitle(String keyword, int page, int size, String sort) {
+        return scatterPage(ListFilter.titleContains(keyword), page, size, sort);
+    }
+
+    @Override
+    public PostSummaryPage searchByAuthor(String keyword, int page, int size, String sort) {
+        return scatterPage(ListFilter.authorContains(keyword), page, size, sort);
+    }
+
+    @Override
+    public PostSummaryPage searchByContent(String keyword, int page, int size, String sort) {
+        return scatterPage(ListFilter.contentContains(keyword), page, size, sort);
+    }
+
+    @Override
+    public PostSummaryPage searchByHashtag(String keyword, int page, int size, String sort) {
+        OptionalInt tagId = tagDictionary.findId(keyword);
+        if (tagId.isEmpty()) {
+            return new PostSummaryPage(List.of(), 0);
+        }
+        return scatterPage(ListFilter.hashtag(tagId.getAsInt()), page, size, sort);
+    }
+
+    // 샤드마다 앞에서부터 (page + 1) * size건을 받아 병합한다
+    private PostSummaryPage scatterPage(ListFilter filter, int page, int size, String sort) {
+        long rowsNeeded = ((long) page + 1) * size;
+        // 어떤 샤드도 이만큼 행을 갖지 않으므로 건수만 센다
+        int limit = rowsNeeded > Integer.MAX_VALUE ? 0 : (int) rowsNeeded;
+        List<TopHeaders> perShard = shards.scatter(shard ->
+                shard.posts().findTop(filter, limit, sort));
+
+        long totalElements = perShard.stream()
+                .mapToLong(TopHeaders::totalElements)
+                .sum();
+        List<PostHeader> content = merge(perShard.stream().map(TopHeaders::rows).toList(),
+                order(sort), (long) page * size, size);
+        return new PostSummaryPage(content, totalElements);
+    }
+
+    // k-way 병합
+    private static List<PostHeader> merge(List<List<RankedHeader>> sortedRuns, Comparator<RankedHeader> order,
+                                          long skip, int size) {
+        PriorityQueue<Run> heads = new PriorityQueue<>(Math.max(1, sortedRuns.size()),
+                Comparator.comparing(Run::head, order));
+        for (List<RankedHeader> run : sortedRuns) {
+            Iterator<RankedHeader> rows = run.iterator();
+            if (rows.hasNext()) {
+                heads.add(new Run(rows.next(), rows));
+            }
+        }
+
+        List<PostHeader> page = new ArrayList<>(size);
+        long position = 0;
+        while (!heads.isEmpty() && page.size() < size) {
+            Run run = heads.poll();
+            if (position++ >= skip) {
+                page.add(run.head().header());
+            }
+            if (run.rest().hasNext()) {
+                heads.add(new Run(run.rest().next(), run.rest()));
+            }
+        }
+        return page;
+    }
+
+    // PostJdbcPersistenceAdapter.orderBy와 같은 순서
+    private static Comparator<RankedHeader> order(String sort) {
+        Comparator<RankedHeader> latest = Comparator
+                .comparing((RankedHeader row) -> row.header().createdAt())
+                .thenComparing(row -> row.header().id())
+                .reversed();
+        return switch (sort) {
+            case "views" -> Comparator.comparingInt((RankedHeader row) -> row.header().viewCount())
+                    .reversed()
+                    .thenComparing(latest);
+            case "likes" -> Comparator.comparingLong(RankedHeader::likeCount)
+                    .reversed()
+                    .thenComparing(latest);
+            default -> latest;
+        };
+    }
+
+    private static long sum(List<Long> counts) {
+        return counts.stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    private static <T> List<T> flatten(List<? extends Collection<T>> perShard) {
+        return perShard.stream()
+                .flatMap(Collection::stream)
+                .toList();
+    }
+
+    private record Run(RankedHeader head, Iterator<RankedHeader> rest) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// shard 프로필: 게시글과 그 댓글/좋아요/핫 점수를 id로 정한 같은 샤드에 둔다
+// 샤드 번호는 (id - 1) % 샤드 수 (IDENTITY가 샤드 수만큼 건너뛴다)
+@Component
+@Profile("shard")
+@DependsOn("entityManagerFactory")
+public class PostShards implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PostShards.class);
+
+    private final List<PostShard> shards;
+    private final AtomicLong nextShard = new AtomicLong();
+    private final ExecutorService scatterExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 해시태그 사전은 주 DB에 하나만 둔다
+    public PostShards(DataSource dataSource,
+                      DataSourceProperties properties,
+                      TagDictionary tagDictionary,
+                      @Value("${board.shard.count:4}") int count,
+                      @Value("${board.shard.url:jdbc:h2:mem:board-shard-%d;DB_CLOSE_DELAY=-1}") String urlPattern,
+                      @Value("${board.shard.pool-size:5}") int poolSize) {
+        if (count < 1) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다: " + count);
+        }
+        List<PostShard> created = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            HikariDataSource shardDataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(String.format(urlPattern, index))
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            shardDataSource.setPoolName("shard-" + index);
+            shardDataSource.setMaximumPoolSize(poolSize);
+            copySchema(dataSource, shardDataSource, index, count);
+            created.add(new PostShard(index, shardDataSource, tagDictionary));
+        }
+        this.shards = List.copyOf(created);
+        log.info("샤드 준비 완료: count={}, url={}", count, urlPattern);
+    }
+
+    PostShard forNewPost() {
+        return shards.get((int) Math.floorMod(nextShard.getAndIncrement(), (long) shards.size()));
+    }
+
+    PostShard of(Long id) {
+        return shards.get((int) Math.floorMod(id - 1, (long) shards.size()));
+    }
+
+    int count() {
+        return shards.size();
+    }
+
+    Map<PostShard, List<Long>> groupByShard(Collection<Long> ids) {
+        Map<PostShard, List<Long>> grouped = new LinkedHashMap<>();
+        for (Long id : ids) {
+            grouped.computeIfAbsent(of(id), shard -> new ArrayList<>()).add(id);
+        }
+        return grouped;
+    }
+
+    // 모든 샤드에 같은 조회를 동시에 보낸다
+    <T> List<T> scatter(Function<PostShard, T> query) {
+        List<CompletableFuture<T>> remote = new ArrayList<>(shards.size());
+        for (PostShard shard : shards) {
+            remote.add(shard.isJoined() ? null : CompletableFuture.supplyAsync(() -> query.apply(shard), scatterExecutor));
+        }
+        List<T> results = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            CompletableFuture<T> future = remote.get(i);
+            results.add(future != null ? await(future) : query.apply(shards.get(i)));
+        }
+        return results;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scatterExecutor.shutdownNow();
+        shards.forEach(PostShard::close);
+    }
+
+    private static void copySchema(DataSource source, DataSource target, int index, int count) {
+        try (Connection from = source.getConnection();
+             Connection to = target.getConnection();
+             Statement read = from.createStatement();
+             Statement write = to.createStatement()) {
+            write.execute("DROP ALL OBJECTS");
+            try (ResultSet script = read.executeQuery("SCRIPT NODATA")) {
+                while (script.next()) {
+                    write.execute(script.getString(1));
+                }
+            }
+            for (String[] column : identityColumns(to)) {
+                String alter = "ALTER TABLE \"" + column[0] + "\" ALTER COLUMN \"" + column[1] + "\" ";
+                write.execute(alter + "SET INCREMENT BY " + count);
+                write.execute(alter + "RESTART WITH " + (index + 1));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("샤드 " + index + " 스키마를 만들지 못했습니다.", e);
+        }
+    }
+
+    private static List<String[]> identityColumns(Connection connection) throws SQLException {
+        List<String[]> columns = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "SELECT TABLE_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS "
+                             + "WHERE TABLE_SCHEMA = 'PUBLIC' AND IS_IDENTITY = 'YES'")) {
+            while (result.next()) {
+                columns.add(new String[]{result.getString(1), result.getString(2)});
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,78 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// 복제본에서 읽어도 되는지 판단한다 (복제 지연, 게스트의 최근 쓰기)
+public class ReadYourWrites {
+
+    private static final String GUEST_HEADER = "X-Guest-Id";
+    private static final int EVICT_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final long maxLagMillis;
+    private final LongSupplier replicatedUpTo;
+
+    // 게스트별 마지막 쓰기 커밋 시각 (epoch ms)
+    private final Map<String, Long> lastWriteByGuest = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(long windowMillis, long maxLagMillis, LongSupplier replicatedUpTo) {
+        this.windowMillis = windowMillis;
+        this.maxLagMillis = maxLagMillis;
+        this.replicatedUpTo = replicatedUpTo;
+    }
+
+    public boolean mustReadPrimary() {
+        long now = System.currentTimeMillis();
+        long replicated = replicatedUpTo.getAsLong();
+        if (now - replicated > maxLagMillis) {
+            return true;
+        }
+        String guest = currentGuest();
+        if (guest == null) {
+            return false;
+        }
+        Long lastWrite = lastWriteByGuest.get(guest);
+        // replicated는 복제 스냅숏을 뜨기 시작한 시각
+        return lastWrite != null && lastWrite >= replicated && now - lastWrite < windowMillis;
+    }
+
+    // 커밋된 쓰기만 남긴다
+    public void recordWriteOnCommit() {
+        String guest = currentGuest();
+        if (guest == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite(guest);
+            }
+        });
+    }
+
+    private void recordWrite(String guest) {
+        long now = System.currentTimeMillis();
+        if (lastWriteByGuest.size() > EVICT_THRESHOLD) {
+            lastWriteByGuest.values().removeIf(writtenAt -> now - writtenAt >= windowMillis);
+        }
+        lastWriteByGuest.merge(guest, now, Math::max);
+    }
+
+    // 게스트 id 헤더가 없으면 클라이언트 주소로 구분한다
+    private static String currentGuest() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String guestId = request.getHeader(GUEST_HEADER);
+        return guestId != null && !guestId.isBlank() ? guestId : request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,70 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// 읽기 전용 트랜잭션은 복제본으로, 나머지는 주 DB로 보낸다 (LazyConnectionDataSourceProxy 뒤에 둔다)
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Pool { PRIMARY, REPLICA }
+
+    private final ReadYourWrites readYourWrites;
+
+    private final Counter writes;
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReadYourWrites readYourWrites, MeterRegistry meterRegistry) {
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Pool.PRIMARY, primary, Pool.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.writes = Counter.builder("board.datasource.routed")
+                .tag("pool", "primary")
+                .tag("access", "write")
+                .register(meterRegistry);
+        this.primaryReads = Counter.builder("board.datasource.routed")
+                .tag("pool", "primary")
+                .tag("access", "read")
+                .register(meterRegistry);
+        this.replicaReads = Counter.builder("board.datasource.routed")
+                .tag("pool", "replica")
+                .tag("access", "read")
+                .register(meterRegistry);
+        Gauge.builder("board.datasource.read.offload.ratio", this, ReplicaRoutingDataSource::readOffloadRatio)
+                .description("읽기 전용 트랜잭션 중 복제본에서 처리한 비율")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // 트랜잭션 밖의 연결 (스키마 생성, 직접 실행하는 JDBC 등)
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Pool.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.recordWriteOnCommit();
+            writes.increment();
+            return Pool.PRIMARY;
+        }
+        if (readYourWrites.mustReadPrimary()) {
+            primaryReads.increment();
+            return Pool.PRIMARY;
+        }
+        replicaReads.increment();
+        return Pool.REPLICA;
+    }
+
+    private double readOffloadRatio() {
+        double replica = replicaReads.count();
+        double total = replica + primaryReads.count();
+        return total == 0 ? 0 : replica / total;
+    }
+}
@@ -0,0 +1,166 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 로컬용 복제 대체: 주 DB의 스냅숏을 주기적으로 복제본 H2에 통째로 복사한다
+@Component
+@Profile("replica")
+public class ReplicationStandIn {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicationStandIn.class);
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Timer syncTimer;
+
+    private volatile boolean schemaCopied;
+    // 마지막으로 반영한 스냅숏의 시작 시각 (0이면 아직 없음)
+    private volatile long replicatedUpTo;
+
+    public ReplicationStandIn(@Qualifier("primaryDataSource") DataSource primary,
+                              @Qualifier("replicaDataSource") DataSource replica,
+                              MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.syncTimer = Timer.builder("board.replica.sync")
+                .description("주 DB 전체를 복제본에 한 번 복사하는 데 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("board.replica.lag", this, ReplicationStandIn::lagMillis)
+                .description("복제본이 주 DB보다 뒤처진 시간 (ms)")
+                .register(meterRegistry);
+    }
+
+    public long replicatedUpTo() {
+        return replicatedUpTo;
+    }
+
+    // 복사 전까지는 모든 읽기가 주 DB로 간다
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        copySchema();
+        sync();
+    }
+
+    @Scheduled(fixedDelayString = "${board.replica.sync-interval-ms:1000}",
+               initialDelayString = "${board.replica.sync-interval-ms:1000}")
+    public synchronized void sync() {
+        if (!schemaCopied) {
+            return;
+        }
+        long snapshotAt = System.currentTimeMillis();
+        try {
+            syncTimer.recordCallable(this::copyAllTables);
+            replicatedUpTo = snapshotAt;
+        } catch (Exception e) {
+            log.warn("복제본 동기화 실패: lagMs={}", lagMillis(), e);
+        }
+    }
+
+    private synchronized void copySchema() {
+        try (Connection source = primary.getConnection();
+             Connection target = replica.getConnection();
+             Statement read = source.createStatement();
+             Statement write = target.createStatement()) {
+            write.execute("DROP ALL OBJECTS");
+            // 외래 키 검사는 주 DB에 맡긴다
+            write.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            try (ResultSet script = read.executeQuery("SCRIPT NODATA")) {
+                while (script.next()) {
+                    write.execute(script.getString(1));
+                }
+            }
+            schemaCopied = true;
+        } catch (SQLException e) {
+            throw new IllegalStateException("복제본 스키마를 만들지 못했습니다.", e);
+        }
+    }
+
+    private Integer copyAllTables() throws SQLException {
+        int rows = 0;
+        try (Connection source = primary.getConnection();
+             Connection target = replica.getConnection()) {
+            source.setAutoCommit(false);
+            source.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            target.setAutoCommit(false);
+            try {
+                for (String table : tables(source)) {
+                    rows += copyTable(source, target, table);
+                }
+                target.commit();
+            } catch (SQLException e) {
+                target.rollback();
+                throw e;
+            } finally {
+                source.rollback();
+            }
+        }
+        log.debug("복제본 동기화: rows={}", rows);
+        return rows;
+    }
+
+    private List<String> tables(Connection source) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = source.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                             + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (result.next()) {
+                tables.add(result.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    private int copyTable(Connection source, Connection target, String table) throws SQLException {
+        String quoted = "\"" + table + "\"";
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("DELETE FROM " + quoted);
+        }
+        int copied = 0;
+        try (Statement select = source.createStatement();
+             ResultSet rows = select.executeQuery("SELECT * FROM " + quoted)) {
+            int columns = rows.getMetaData().getColumnCount();
+            String placeholders = String.join(", ", Collections.nCopies(columns, "?"));
+            try (PreparedStatement insert = target.prepareStatement(
+                    "INSERT INTO " + quoted + " VALUES (" + placeholders + ")")) {
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        insert.setObject(i, rows.getObject(i));
+                    }
+                    insert.addBatch();
+                    if (++copied % INSERT_BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        }
+        return copied;
+    }
+
+    private double lagMillis() {
+        long replicated = replicatedUpTo;
+        return replicated == 0 ? Double.NaN : System.currentTimeMillis() - replicated;
+    }
+}
@@ -0,0 +1,50 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+// Hibernate 2차 캐시(JCache + Caffeine) 영역 (컨텍스트마다 캐시 매니저를 따로 둔다)
+@Configuration
+public class SecondLevelCacheConfig {
+
+    static final String POSTS_REGION = "board.posts";
+    static final String POST_HASHTAGS_REGION = "board.post-hashtags";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${board.cache.posts.max-entries:10000}") long postsMaxEntries,
+            @Value("${board.cache.posts.ttl-ms:600000}") long postsTtlMillis,
+            @Value("${board.cache.post-hashtags.max-entries:10000}") long hashtagsMaxEntries,
+            @Value("${board.cache.post-hashtags.ttl-ms:600000}") long hashtagsTtlMillis) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        cacheManager.createCache(POSTS_REGION, region(postsMaxEntries, postsTtlMillis));
+        cacheManager.createCache(POST_HASHTAGS_REGION, region(hashtagsMaxEntries, hashtagsTtlMillis));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    // 캐시 항목은 불변이므로 참조로 보관한다
+    private static CaffeineConfiguration<Object, Object> region(long maxEntries, long ttlMillis) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpiryPolicyFactory(
+                CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.MILLISECONDS, ttlMillis)));
+        return configuration;
+    }
+}
@@ -0,0 +1,133 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// tags 테이블의 id ↔ 이름 사전 (트랜잭션 밖에서 주 DB에 자동 커밋)
+@Component
+public class TagDictionary {
+
+    // 어떤 행과도 맞지 않는 id
+    static final int UNKNOWN_ID = 0;
+
+    private final JdbcClient jdbcClient;
+    // EntityManagerFactory와의 순환을 피해 나중에 꺼낸다
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final ConcurrentHashMap<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, String> namesById = new ConcurrentHashMap<>();
+    private volatile TransactionTemplate outsideTransaction;
+    private volatile boolean loaded;
+
+    public TagDictionary(DataSource dataSource, ObjectProvider<PlatformTransactionManager> transactionManager) {
+        this.jdbcClient = JdbcClient.create(dataSource);
+        this.transactionManager = transactionManager;
+    }
+
+    public List<Integer> register(List<String> names) {
+        ensureLoaded();
+        List<Integer> ids = new ArrayList<>(names.size());
+        for (String name : names) {
+            Integer id = idsByName.get(name);
+            ids.add(id != null ? id : outsideTransaction(() -> insert(name)));
+        }
+        return ids;
+    }
+
+    public List<String> canonicalize(List<String> names) {
+        return names(register(names));
+    }
+
+    public OptionalInt findId(String name) {
+        ensureLoaded();
+        Integer id = idsByName.get(name);
+        if (id == null) {
+            // 다른 노드가 추가했을 수 있다
+            id = outsideTransaction(() -> jdbcClient.sql("SELECT id FROM tags WHERE name = :name")
+                    .param("name", name)
+                    .query(Integer.class)
+                    .optional()
+                    .map(found -> put(found, name))
+                    .orElse(null));
+        }
+        return id != null ? OptionalInt.of(id) : OptionalInt.empty();
+    }
+
+    public String nameOf(int id) {
+        ensureLoaded();
+        String name = namesById.get(id);
+        if (name != null) {
+            return name;
+        }
+        return outsideTransaction(() -> jdbcClient.sql("SELECT name FROM tags WHERE id = :id")
+                        .param("id", id)
+                        .query(String.class)
+                        .optional())
+                .map(loadedName -> namesById.get(put(id, loadedName)))
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 해시태그 id: " + id));
+    }
+
+    // 불변 목록 (Post가 다시 복사하지 않는다)
+    public List<String> names(List<Integer> ids) {
+        String[] names = new String[ids.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = nameOf(ids.get(i));
+        }
+        return List.of(names);
+    }
+
+    private int insert(String name) {
+        jdbcClient.sql("MERGE INTO tags (name) KEY (name) VALUES (:name)")
+                .param("name", name)
+                .update();
+        Integer id = jdbcClient.sql("SELECT id FROM tags WHERE name = :name")
+                .param("name", name)
+                .query(Integer.class)
+                .single();
+        return put(id, name);
+    }
+
+    private int put(int id, String name) {
+        String canonical = namesById.computeIfAbsent(id, key -> name);
+        idsByName.putIfAbsent(canonical, id);
+        return id;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            outsideTransaction(() -> {
+                jdbcClient.sql("SELECT id, name FROM tags")
+                        .query((rs, rowNum) -> put(rs.getInt("id"), rs.getString("name")))
+                        .list();
+                return null;
+            });
+            loaded = true;
+        }
+    }
+
+    private <T> T outsideTransaction(Supplier<T> work) {
+        TransactionTemplate template = outsideTransaction;
+        if (template == null) {
+            template = new TransactionTemplate(transactionManager.getObject());
+            template.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+            outsideTransaction = template;
+        }
+        return template.execute(status -> work.get());
+    }
+}
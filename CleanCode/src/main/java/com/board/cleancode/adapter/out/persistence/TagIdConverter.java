@@ -0,0 +1,25 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// post_hashtags.tag_id ↔ 해시태그 이름 (사전에 없는 이름은 UNKNOWN_ID)
+@Converter
+public class TagIdConverter implements AttributeConverter<String, Integer> {
+
+    private final TagDictionary tagDictionary;
+
+    public TagIdConverter(TagDictionary tagDictionary) {
+        this.tagDictionary = tagDictionary;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String name) {
+        return name != null ? tagDictionary.findId(name).orElse(TagDictionary.UNKNOWN_ID) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return id != null ? tagDictionary.nameOf(id) : null;
+    }
+}
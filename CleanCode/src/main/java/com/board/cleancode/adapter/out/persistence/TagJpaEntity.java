@@ -0,0 +1,19 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import jakarta.persistence.*;
+
+// 해시태그 사전 테이블. 스키마만 JPA로 만들고 읽기/쓰기는 TagDictionary가 한다
+@Entity
+@Table(name = "tags")
+public class TagJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true, length = 30)
+    private String name;
+
+    protected TagJpaEntity() {
+    }
+}
@@ -0,0 +1,170 @@
+package com.board.cleancode.application.ranking;
+
+import com.board.cleancode.domain.event.CommentEvent;
+import com.board.cleancode.domain.event.LikeEvent;
+import com.board.cleancode.domain.event.PostEvent;
+import com.board.cleancode.domain.model.HotScore;
+import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.port.out.HotScoreRepositoryPort;
+import jakarta.annotation.PostConstruct;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// sort=hot 용 인메모리 랭킹. 이벤트마다 해당 게시글 점수만 갱신하고 주기적으로 저장한다.
+@Component
+public class HotPostRanking {
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble(Entry::score).reversed()
+            .thenComparing(entry -> entry.hotScore().postId(), Comparator.reverseOrder());
+
+    private final HotScoreRepositoryPort hotScoreRepository;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Set<Long> removed = ConcurrentHashMap.newKeySet();
+
+    public HotPostRanking(HotScoreRepositoryPort hotScoreRepository) {
+        this.hotScoreRepository = hotScoreRepository;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        entries.clear();
+        ranking.clear();
+        dirty.clear();
+        removed.clear();
+
+        hotScoreRepository.findAll().forEach(this::put);
+        for (HotScore score : hotScoreRepository.computeMissing()) {
+            put(score);
+            dirty.add(score.postId());
+        }
+    }
+
+    public HotPage page(int page, int size) {
+        List<Long> postIds = ranking.stream()
+                .skip((long) page * size)
+                .limit(size)
+                .map(entry -> entry.hotScore().postId())
+                .toList();
+        return new HotPage(postIds, entries.size());
+    }
+
+    @TransactionalEventListener
+    public void onPostEvent(PostEvent event) {
+        switch (event.type()) {
+            case CREATED -> register(event.post());
+            case VIEWED -> adjust(event.postId(), HotScore.VIEW_WEIGHT);
+            case DELETED -> remove(event.postId());
+            case UPDATED -> {
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLikeEvent(LikeEvent event) {
+        switch (event.type()) {
+            case LIKED -> adjust(event.postId(), HotScore.LIKE_WEIGHT);
+            case UNLIKED -> adjust(event.postId(), -HotScore.LIKE_WEIGHT);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCommentEvent(CommentEvent event) {
+        switch (event.type()) {
+            case CREATED -> adjust(event.postId(), HotScore.COMMENT_WEIGHT);
+            case DELETED -> adjust(event.postId(), -HotScore.COMMENT_WEIGHT);
+            case COMPACTED -> {
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.hot.persist-interval-ms:30000}")
+    public void persist() {
+        List<Long> removedIds = drain(removed);
+        if (!removedIds.isEmpty()) {
+            hotScoreRepository.deleteAllById(removedIds);
+        }
+
+        List<Long> dirtyIds = drain(dirty);
+        List<HotScore> scores = dirtyIds.stream()
+                .map(entries::get)
+                .filter(Objects::nonNull)
+                .map(Entry::hotScore)
+                .toList();
+        if (scores.isEmpty()) {
+            return;
+        }
+        try {
+            hotScoreRepository.saveAll(scores);
+        } catch (RuntimeException e) {
+            dirty.addAll(dirtyIds);
+            throw e;
+        }
+    }
+
+    private void register(Post post) {
+        put(HotScore.of(post.getId(), post.getCreatedAt()));
+        dirty.add(post.getId());
+    }
+
+    private void put(HotScore score) {
+        entries.compute(score.postId(), (id, previous) -> {
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            Entry next = new Entry(score, score.score());
+            ranking.add(next);
+            return next;
+        });
+    }
+
+    private void adjust(Long postId, double delta) {
+        Entry updated = entries.computeIfPresent(postId, (id, previous) -> {
+            ranking.remove(previous);
+            HotScore score = previous.hotScore().add(delta);
+            Entry next = new Entry(score, score.score());
+            ranking.add(next);
+            return next;
+        });
+        if (updated != null) {
+            dirty.add(postId);
+        }
+    }
+
+    private void remove(Long postId) {
+        Entry previous = entries.remove(postId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        dirty.remove(postId);
+        removed.add(postId);
+    }
+
+    private static List<Long> drain(Set<Long> ids) {
+        List<Long> drained = new ArrayList<>();
+        for (Long id : ids) {
+            if (ids.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+
+    private record Entry(HotScore hotScore, double score) {
+    }
+
+    public record HotPage(List<Long> postIds, long totalElements) {
+    }
+}
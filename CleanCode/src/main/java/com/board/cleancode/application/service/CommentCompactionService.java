@@ -0,0 +1,62 @@
+package com.board.cleancode.application.service;
+
+import com.board.cleancode.domain.event.CommentEvent;
+import com.board.cleancode.domain.model.Comment;
+import com.board.cleancode.domain.port.in.CompactDeletedCommentsUseCase;
+import com.board.cleancode.domain.port.out.CommentRepositoryPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional
+public class CommentCompactionService implements CompactDeletedCommentsUseCase {
+
+    private final CommentRepositoryPort commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CommentCompactionService(CommentRepositoryPort commentRepository,
+                                    ApplicationEventPublisher eventPublisher) {
+        this.commentRepository = commentRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // 삭제 표시된 댓글을 한 배치만 물리 삭제한다 (답글 먼저)
+    @Override
+    public CompactionResult compactNextBatch(int batchSize) {
+        List<Comment> replies = commentRepository.findDeletedReplies(batchSize);
+        if (!replies.isEmpty()) {
+            int deleted = commentRepository.deleteDeletedReplies(ids(replies));
+            publishCompacted(replies);
+            return new CompactionResult(deleted, 0);
+        }
+
+        List<Comment> comments = commentRepository.findCompactableRootComments(batchSize);
+        if (comments.isEmpty()) {
+            return CompactionResult.idle();
+        }
+        int deleted = commentRepository.deleteCompactableRootComments(ids(comments));
+        publishCompacted(comments);
+        return new CompactionResult(0, deleted);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPendingCompactions() {
+        return commentRepository.countCompactable();
+    }
+
+    private List<Long> ids(List<Comment> comments) {
+        return comments.stream()
+                .map(Comment::getId)
+                .toList();
+    }
+
+    // 목록 버전(ETag)이 바뀌도록 알린다
+    private void publishCompacted(List<Comment> comments) {
+        comments.forEach(comment ->
+                eventPublisher.publishEvent(new CommentEvent(CommentEvent.Type.COMPACTED, comment)));
+    }
+}
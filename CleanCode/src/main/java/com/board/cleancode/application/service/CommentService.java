@@ -1,44 +1,55 @@
 package com.board.cleancode.application.service;
 
+import com.board.cleancode.domain.event.CommentEvent;
 import com.board.cleancode.domain.exception.CommentNotFoundException;
 import com.board.cleancode.domain.exception.NestedReplyNotAllowedException;
 import com.board.cleancode.domain.exception.PasswordMismatchException;
 import com.board.cleancode.domain.exception.PostNotFoundException;
 import com.board.cleancode.domain.model.Comment;
+import com.board.cleancode.domain.model.CommentCursor;
 import com.board.cleancode.domain.port.in.CreateCommentUseCase;
 import com.board.cleancode.domain.port.in.CreateReplyUseCase;
 import com.board.cleancode.domain.port.in.DeleteCommentUseCase;
 import com.board.cleancode.domain.port.in.GetCommentListUseCase;
 import com.board.cleancode.domain.port.in.GetReplyListUseCase;
+import com.board.cleancode.domain.port.in.SubscribeCommentStreamUseCase;
 import com.board.cleancode.domain.port.out.CommentRepositoryPort;
 import com.board.cleancode.domain.port.out.PasswordEncryptorPort;
 import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class CommentService implements CreateCommentUseCase, GetCommentListUseCase, DeleteCommentUseCase,
-        CreateReplyUseCase, GetReplyListUseCase {
+        CreateReplyUseCase, GetReplyListUseCase, SubscribeCommentStreamUseCase {
 
     private final CommentRepositoryPort commentRepository;
     private final PostRepositoryPort postRepository;
     private final PasswordEncryptorPort passwordEncryptor;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommentService(CommentRepositoryPort commentRepository,
                           PostRepositoryPort postRepository,
-                          PasswordEncryptorPort passwordEncryptor) {
+                          PasswordEncryptorPort passwordEncryptor,
+                          ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
         this.passwordEncryptor = passwordEncryptor;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public Comment createComment(CreateCommentCommand command) {
-        postRepository.findById(command.postId())
-                .orElseThrow(() -> new PostNotFoundException(command.postId()));
+        if (!postRepository.existsById(command.postId())) {
+            throw new PostNotFoundException(command.postId());
+        }
 
         String encodedPassword = passwordEncryptor.encode(command.password());
         Comment comment = Comment.create(
@@ -47,14 +58,18 @@ public class CommentService implements CreateCommentUseCase, GetCommentListUseCa
                 encodedPassword,
                 command.content()
         );
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        postRepository.adjustActiveCommentCount(command.postId(), 1);
+        eventPublisher.publishEvent(new CommentEvent(CommentEvent.Type.CREATED, saved));
+        return saved;
     }
 
     @Override
     @Transactional(readOnly = true)
     public CommentPageResult getComments(Long postId, int page, int size) {
-        postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException(postId));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(postId);
+        }
 
         List<Comment> comments = commentRepository.findRootCommentsByPostIdOrderByCreatedAtDesc(postId, page, size);
         long totalElements = commentRepository.countRootCommentsByPostId(postId);
@@ -65,14 +80,26 @@ public class CommentService implements CreateCommentUseCase, GetCommentListUseCa
 
     @Override
     @Transactional(readOnly = true)
-    public long countActiveComments(Long postId) {
-        return commentRepository.countByPostIdAndDeletedFalse(postId);
+    public CommentCursorResult getComments(Long postId, CommentCursor cursor, int size) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(postId);
+        }
+
+        List<Comment> comments = commentRepository.findRootCommentsByPostIdBefore(postId, cursor, size + 1);
+        boolean hasMore = comments.size() > size;
+        if (hasMore) {
+            comments = comments.subList(0, size);
+        }
+        CommentCursor nextCursor = hasMore ? CommentCursor.from(comments.get(size - 1)) : null;
+
+        return new CommentCursorResult(comments, nextCursor, hasMore);
     }
 
     @Override
     public void deleteComment(DeleteCommentCommand command) {
-        postRepository.findById(command.postId())
-                .orElseThrow(() -> new PostNotFoundException(command.postId()));
+        if (!postRepository.existsById(command.postId())) {
+            throw new PostNotFoundException(command.postId());
+        }
 
         Comment comment = commentRepository.findById(command.commentId())
                 .orElseThrow(() -> new CommentNotFoundException(command.commentId()));
@@ -81,14 +108,22 @@ public class CommentService implements CreateCommentUseCase, GetCommentListUseCa
             throw new PasswordMismatchException();
         }
 
-        comment.markDeleted();
-        commentRepository.save(comment);
+        // 동시에 삭제 요청이 와도 카운터는 한 번만 감소하도록 조건부 UPDATE 결과로 판단
+        if (commentRepository.markDeletedIfActive(comment.getId())) {
+            comment.markDeleted();
+            postRepository.adjustActiveCommentCount(comment.getPostId(), -1);
+            if (comment.isReply()) {
+                commentRepository.adjustActiveReplyCount(comment.getParentId(), -1);
+            }
+            eventPublisher.publishEvent(new CommentEvent(CommentEvent.Type.DELETED, comment));
+        }
     }
 
     @Override
     public Comment createReply(CreateReplyCommand command) {
-        postRepository.findById(command.postId())
-                .orElseThrow(() -> new PostNotFoundException(command.postId()));
+        if (!postRepository.existsById(command.postId())) {
+            throw new PostNotFoundException(command.postId());
+        }
 
         Comment parentComment = commentRepository.findById(command.parentCommentId())
                 .orElseThrow(() -> new CommentNotFoundException(command.parentCommentId()));
@@ -105,17 +140,26 @@ public class CommentService implements CreateCommentUseCase, GetCommentListUseCa
                 encodedPassword,
                 command.content()
         );
-        return commentRepository.save(reply);
+        Comment saved = commentRepository.save(reply);
+        // 부모 댓글이 압축으로 지워졌다면 롤백한다
+        if (!commentRepository.adjustActiveReplyCount(command.parentCommentId(), 1)) {
+            throw new CommentNotFoundException(command.parentCommentId());
+        }
+        postRepository.adjustActiveCommentCount(command.postId(), 1);
+        eventPublisher.publishEvent(new CommentEvent(CommentEvent.Type.CREATED, saved));
+        return saved;
     }
 
     @Override
     @Transactional(readOnly = true)
     public ReplyPageResult getReplies(Long postId, Long parentCommentId, int page, int size) {
-        postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException(postId));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(postId);
+        }
 
-        commentRepository.findById(parentCommentId)
-                .orElseThrow(() -> new CommentNotFoundException(parentCommentId));
+        if (!commentRepository.existsById(parentCommentId)) {
+            throw new CommentNotFoundException(parentCommentId);
+        }
 
         List<Comment> replies = commentRepository.findRepliesByParentIdOrderByCreatedAtAsc(parentCommentId, page, size);
         long totalElements = commentRepository.countRepliesByParentId(parentCommentId);
@@ -126,7 +170,37 @@ public class CommentService implements CreateCommentUseCase, GetCommentListUseCa
 
     @Override
     @Transactional(readOnly = true)
-    public long countActiveReplies(Long parentCommentId) {
-        return commentRepository.countRepliesByParentIdAndDeletedFalse(parentCommentId);
+    public ReplyCursorResult getReplies(Long postId, Long parentCommentId, CommentCursor cursor, int size) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(postId);
+        }
+
+        if (!commentRepository.existsById(parentCommentId)) {
+            throw new CommentNotFoundException(parentCommentId);
+        }
+
+        List<Comment> replies = commentRepository.findRepliesByParentIdAfter(parentCommentId, cursor, size + 1);
+        boolean hasMore = replies.size() > size;
+        if (hasMore) {
+            replies = replies.subList(0, size);
+        }
+        CommentCursor nextCursor = hasMore ? CommentCursor.from(replies.get(size - 1)) : null;
+
+        return new ReplyCursorResult(replies, nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<Comment>> getReplyPreviews(List<Long> parentCommentIds, int limit) {
+        return commentRepository.findFirstRepliesByParentIds(parentCommentIds, limit).stream()
+                .collect(Collectors.groupingBy(Comment::getParentId, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void checkSubscribable(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(postId);
+        }
     }
 }
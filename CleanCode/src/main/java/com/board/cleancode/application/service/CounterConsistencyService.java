@@ -0,0 +1,32 @@
+package com.board.cleancode.application.service;
+
+import com.board.cleancode.domain.model.CounterDrift;
+import com.board.cleancode.domain.port.in.CheckCounterConsistencyUseCase;
+import com.board.cleancode.domain.port.out.CommentRepositoryPort;
+import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class CounterConsistencyService implements CheckCounterConsistencyUseCase {
+
+    private final PostRepositoryPort postRepository;
+    private final CommentRepositoryPort commentRepository;
+
+    public CounterConsistencyService(PostRepositoryPort postRepository,
+                                     CommentRepositoryPort commentRepository) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    @Override
+    public List<CounterDrift> findDrift() {
+        List<CounterDrift> drifts = new ArrayList<>(postRepository.findActiveCommentCountDrift());
+        drifts.addAll(commentRepository.findActiveReplyCountDrift());
+        return drifts;
+    }
+}
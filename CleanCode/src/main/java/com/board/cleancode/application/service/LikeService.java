@@ -1,5 +1,6 @@
 package com.board.cleancode.application.service;
 
+import com.board.cleancode.domain.event.LikeEvent;
 import com.board.cleancode.domain.exception.AlreadyLikedException;
 import com.board.cleancode.domain.exception.NotLikedException;
 import com.board.cleancode.domain.exception.PostNotFoundException;
@@ -9,6 +10,7 @@ import com.board.cleancode.domain.port.in.LikePostUseCase;
 import com.board.cleancode.domain.port.in.UnlikePostUseCase;
 import com.board.cleancode.domain.port.out.LikeRepositoryPort;
 import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,36 +20,43 @@ public class LikeService implements LikePostUseCase, UnlikePostUseCase, GetLikeI
 
     private final LikeRepositoryPort likeRepository;
     private final PostRepositoryPort postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LikeService(LikeRepositoryPort likeRepository, PostRepositoryPort postRepository) {
+    public LikeService(LikeRepositoryPort likeRepository, PostRepositoryPort postRepository,
+                       ApplicationEventPublisher eventPublisher) {
         this.likeRepository = likeRepository;
         this.postRepository = postRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public LikeResult likePost(Long postId, String guestId) {
-        postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException(postId));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(postId);
+        }
 
         if (likeRepository.existsByPostIdAndGuestId(postId, guestId)) {
             throw new AlreadyLikedException();
         }
 
         likeRepository.save(Like.create(postId, guestId));
+        eventPublisher.publishEvent(new LikeEvent(LikeEvent.Type.LIKED, postId, guestId));
         int likeCount = likeRepository.countByPostId(postId);
         return new LikeResult(likeCount, true);
     }
 
     @Override
     public LikeResult unlikePost(Long postId, String guestId) {
-        postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException(postId));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(postId);
+        }
 
         if (!likeRepository.existsByPostIdAndGuestId(postId, guestId)) {
             throw new NotLikedException();
         }
 
         likeRepository.deleteByPostIdAndGuestId(postId, guestId);
+        eventPublisher.publishEvent(new LikeEvent(LikeEvent.Type.UNLIKED, postId, guestId));
         int likeCount = likeRepository.countByPostId(postId);
         return new LikeResult(likeCount, false);
     }
@@ -0,0 +1,56 @@
+package com.board.cleancode.application.service;
+
+import com.board.cleancode.domain.port.in.PurgeDeletedPostsUseCase;
+import com.board.cleancode.domain.port.out.CommentRepositoryPort;
+import com.board.cleancode.domain.port.out.LikeRepositoryPort;
+import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional
+public class PostPurgeService implements PurgeDeletedPostsUseCase {
+
+    private final PostRepositoryPort postRepository;
+    private final CommentRepositoryPort commentRepository;
+    private final LikeRepositoryPort likeRepository;
+
+    public PostPurgeService(PostRepositoryPort postRepository,
+                            CommentRepositoryPort commentRepository,
+                            LikeRepositoryPort likeRepository) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+    }
+
+    // 삭제 표시된 게시글 하나를 한 배치만 정리한다 (댓글 → 좋아요 → 게시글)
+    @Override
+    public PurgeResult purgeNextBatch(int batchSize) {
+        List<Long> pending = postRepository.findDeletedIds(1);
+        if (pending.isEmpty()) {
+            return PurgeResult.idle();
+        }
+        Long postId = pending.get(0);
+
+        int commentsDeleted = commentRepository.deleteBatchByPostId(postId, batchSize);
+        if (commentsDeleted > 0) {
+            return new PurgeResult(postId, commentsDeleted, 0, false);
+        }
+
+        int likesDeleted = likeRepository.deleteBatchByPostId(postId, batchSize);
+        if (likesDeleted > 0) {
+            return new PurgeResult(postId, 0, likesDeleted, false);
+        }
+
+        postRepository.deleteById(postId);
+        return new PurgeResult(postId, 0, 0, true);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPendingPurges() {
+        return postRepository.countDeleted();
+    }
+}
@@ -1,5 +1,8 @@
 package com.board.cleancode.application.service;
 
+import com.board.cleancode.application.ranking.HotPostRanking;
+import com.board.cleancode.application.ranking.HotPostRanking.HotPage;
+import com.board.cleancode.domain.event.PostEvent;
 import com.board.cleancode.domain.exception.PasswordMismatchException;
 import com.board.cleancode.domain.exception.PostNotFoundException;
 import com.board.cleancode.domain.model.Post;
@@ -13,7 +16,8 @@ import com.board.cleancode.domain.port.out.CommentRepositoryPort;
 import com.board.cleancode.domain.port.out.LikeRepositoryPort;
 import com.board.cleancode.domain.port.out.PasswordEncryptorPort;
 import com.board.cleancode.domain.port.out.PostRepositoryPort;
-import com.board.cleancode.domain.port.out.PostRepositoryPort.PostPage;
+import com.board.cleancode.domain.port.out.PostRepositoryPort.PostSummaryPage;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,15 +31,21 @@ public class PostService implements CreatePostUseCase, GetPostUseCase, UpdatePos
     private final CommentRepositoryPort commentRepository;
     private final LikeRepositoryPort likeRepository;
     private final PasswordEncryptorPort passwordEncryptor;
+    private final HotPostRanking hotPostRanking;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PostService(PostRepositoryPort postRepository,
                        CommentRepositoryPort commentRepository,
                        LikeRepositoryPort likeRepository,
-                       PasswordEncryptorPort passwordEncryptor) {
+                       PasswordEncryptorPort passwordEncryptor,
+                       HotPostRanking hotPostRanking,
+                       ApplicationEventPublisher eventPublisher) {
         this.postRepository = postRepository;
         this.commentRepository = commentRepository;
         this.likeRepository = likeRepository;
         this.passwordEncryptor = passwordEncryptor;
+        this.hotPostRanking = hotPostRanking;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -48,7 +58,9 @@ public class PostService implements CreatePostUseCase, GetPostUseCase, UpdatePos
                 encodedPassword,
                 command.hashtags()
         );
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(new PostEvent(PostEvent.Type.CREATED, saved));
+        return saved;
     }
 
     @Override
@@ -57,7 +69,9 @@ public class PostService implements CreatePostUseCase, GetPostUseCase, UpdatePos
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new PostNotFoundException(id));
         post.incrementViewCount();
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(new PostEvent(PostEvent.Type.VIEWED, saved));
+        return saved;
     }
 
     @Override
@@ -70,7 +84,9 @@ public class PostService implements CreatePostUseCase, GetPostUseCase, UpdatePos
         }
 
         post.update(command.title(), command.content(), command.hashtags());
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(new PostEvent(PostEvent.Type.UPDATED, saved));
+        return saved;
     }
 
     @Override
@@ -82,19 +98,21 @@ public class PostService implements CreatePostUseCase, GetPostUseCase, UpdatePos
             throw new PasswordMismatchException();
         }
 
-        commentRepository.deleteByPostId(command.id());
-        likeRepository.deleteByPostId(command.id());
-        postRepository.deleteById(command.id());
+        // 댓글/좋아요 정리와 실제 삭제는 PostPurgeService가 백그라운드에서 수행
+        post.markDeleted();
+        postRepository.save(post);
+        eventPublisher.publishEvent(new PostEvent(PostEvent.Type.DELETED, post));
     }
 
     @Override
     @Transactional(readOnly = true)
     public PostListResult getPostList(PostListQuery query) {
-        PostPage postPage;
+        PostSummaryPage postPage;
         String sort = query.sort() != null ? query.sort() : "latest";
+        boolean searching = query.searchType() != null && !query.searchType().isEmpty()
+                && query.keyword() != null && !query.keyword().isEmpty();
 
-        if (query.searchType() != null && !query.searchType().isEmpty()
-                && query.keyword() != null && !query.keyword().isEmpty()) {
+        if (searching) {
             postPage = switch (query.searchType()) {
                 case "title" -> postRepository.searchByTitle(query.keyword(), query.page(), query.size(), sort);
                 case "author" -> postRepository.searchByAuthor(query.keyword(), query.page(), query.size(), sort);
@@ -102,6 +120,10 @@ public class PostService implements CreatePostUseCase, GetPostUseCase, UpdatePos
                 case "hashtag" -> postRepository.searchByHashtag(query.keyword(), query.page(), query.size(), sort);
                 default -> postRepository.findAll(query.page(), query.size(), sort);
             };
+        } else if ("hot".equals(sort)) {
+            // 순위는 인메모리 인덱스에서 계산하고, 해당 페이지의 게시글만 id로 조회
+            HotPage hotPage = hotPostRanking.page(query.page(), query.size());
+            postPage = new PostSummaryPage(postRepository.findHeadersByIds(hotPage.postIds()), hotPage.totalElements());
         } else {
             postPage = postRepository.findAll(query.page(), query.size(), sort);
         }
@@ -109,8 +131,8 @@ public class PostService implements CreatePostUseCase, GetPostUseCase, UpdatePos
         List<PostSummary> summaries = postPage.content().stream()
                 .map(post -> new PostSummary(
                         post,
-                        (int) commentRepository.countByPostIdAndDeletedFalse(post.getId()),
-                        likeRepository.countByPostId(post.getId())))
+                        post.activeCommentCount(),
+                        likeRepository.countByPostId(post.id())))
                 .toList();
 
         long totalPostCount = postRepository.count();
@@ -126,7 +148,8 @@ public class PostService implements CreatePostUseCase, GetPostUseCase, UpdatePos
                 postPage.totalElements(),
                 totalPages,
                 totalPostCount,
-                totalCommentCount
+                totalCommentCount,
+                postPage.rankedAt()
         );
     }
 
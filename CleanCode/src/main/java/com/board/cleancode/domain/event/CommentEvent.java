@@ -0,0 +1,16 @@
+package com.board.cleancode.domain.event;
+
+import com.board.cleancode.domain.model.Comment;
+
+public record CommentEvent(Type type, Comment comment) {
+
+    public enum Type {
+        CREATED, DELETED,
+        // 이미 삭제 표시된 댓글이 물리적으로 지워짐 (활성 집계에는 영향 없음)
+        COMPACTED
+    }
+
+    public Long postId() {
+        return comment.getPostId();
+    }
+}
@@ -0,0 +1,8 @@
+package com.board.cleancode.domain.event;
+
+public record LikeEvent(Type type, Long postId, String guestId) {
+
+    public enum Type {
+        LIKED, UNLIKED
+    }
+}
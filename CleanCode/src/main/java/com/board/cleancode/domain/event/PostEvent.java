@@ -0,0 +1,14 @@
+package com.board.cleancode.domain.event;
+
+import com.board.cleancode.domain.model.Post;
+
+public record PostEvent(Type type, Post post) {
+
+    public enum Type {
+        CREATED, UPDATED, VIEWED, DELETED
+    }
+
+    public Long postId() {
+        return post.getId();
+    }
+}
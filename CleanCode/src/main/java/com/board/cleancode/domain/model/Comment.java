@@ -11,6 +11,7 @@ public class Comment {
     private String password;
     private String content;
     private boolean deleted;
+    private int activeReplyCount;
     private LocalDateTime createdAt;
 
     private Comment() {
@@ -41,7 +42,8 @@ public class Comment {
     }
 
     public static Comment reconstitute(Long id, Long postId, Long parentId, String author, String password,
-                                       String content, boolean deleted, LocalDateTime createdAt) {
+                                       String content, boolean deleted, int activeReplyCount,
+                                       LocalDateTime createdAt) {
         Comment comment = new Comment();
         comment.id = id;
         comment.postId = postId;
@@ -50,6 +52,7 @@ public class Comment {
         comment.password = password;
         comment.content = content;
         comment.deleted = deleted;
+        comment.activeReplyCount = activeReplyCount;
         comment.createdAt = createdAt;
         return comment;
     }
@@ -90,6 +93,11 @@ public class Comment {
         return deleted;
     }
 
+    // 삭제되지 않은 답글 수 (비정규화 카운터)
+    public int getActiveReplyCount() {
+        return activeReplyCount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
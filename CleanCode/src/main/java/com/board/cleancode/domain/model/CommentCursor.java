@@ -0,0 +1,11 @@
+package com.board.cleancode.domain.model;
+
+import java.time.LocalDateTime;
+
+// (작성 시각, id) 기준 위치. 같은 시각에 작성된 댓글도 id로 순서가 고정된다
+public record CommentCursor(LocalDateTime createdAt, Long id) {
+
+    public static CommentCursor from(Comment comment) {
+        return new CommentCursor(comment.getCreatedAt(), comment.getId());
+    }
+}
@@ -0,0 +1,14 @@
+package com.board.cleancode.domain.model;
+
+// 비정규화 카운터의 저장값과 실제 집계값이 어긋난 대상
+public record CounterDrift(Type type, Long targetId, long stored, long actual) {
+
+    public enum Type {
+        POST_ACTIVE_COMMENTS,
+        COMMENT_ACTIVE_REPLIES
+    }
+
+    public long difference() {
+        return stored - actual;
+    }
+}
@@ -0,0 +1,35 @@
+package com.board.cleancode.domain.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// 로그 스케일 참여도 + 작성 시각 가중치 (시간이 지날수록 상대적으로 점수가 낮아지는 효과)
+public record HotScore(Long postId, LocalDateTime createdAt, double engagement) {
+
+    public static final double VIEW_WEIGHT = 1.0;
+    public static final double LIKE_WEIGHT = 5.0;
+    public static final double COMMENT_WEIGHT = 3.0;
+
+    // 45000초(12.5시간)마다 참여도 10배와 같은 가치
+    private static final double DECAY_SECONDS = 45_000.0;
+    private static final long EPOCH_SECONDS = LocalDateTime.of(2024, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    public static HotScore of(Long postId, LocalDateTime createdAt) {
+        return new HotScore(postId, createdAt, 0.0);
+    }
+
+    public static HotScore fromActivity(Long postId, LocalDateTime createdAt,
+                                        long viewCount, long likeCount, long commentCount) {
+        double engagement = viewCount * VIEW_WEIGHT + likeCount * LIKE_WEIGHT + commentCount * COMMENT_WEIGHT;
+        return new HotScore(postId, createdAt, engagement);
+    }
+
+    public HotScore add(double delta) {
+        return new HotScore(postId, createdAt, Math.max(0.0, engagement + delta));
+    }
+
+    public double score() {
+        double age = createdAt.toEpochSecond(ZoneOffset.UTC) - EPOCH_SECONDS;
+        return Math.log10(Math.max(engagement, 1.0)) + age / DECAY_SECONDS;
+    }
+}
@@ -1,8 +1,6 @@
 package com.board.cleancode.domain.model;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 public class Post {
@@ -12,8 +10,11 @@ public class Post {
     private String content;
     private String author;
     private String password;
+    // 불변 목록 (이미 불변이면 다시 복사하지 않는다)
     private List<String> hashtags;
     private int viewCount;
+    private int activeCommentCount;
+    private boolean deleted;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -27,8 +28,9 @@ public class Post {
         post.content = content;
         post.author = author;
         post.password = encodedPassword;
-        post.hashtags = hashtags != null ? new ArrayList<>(hashtags) : new ArrayList<>();
+        post.hashtags = hashtags != null ? List.copyOf(hashtags) : List.of();
         post.viewCount = 0;
+        post.deleted = false;
         post.createdAt = LocalDateTime.now();
         post.updatedAt = LocalDateTime.now();
         return post;
@@ -36,6 +38,7 @@ public class Post {
 
     public static Post reconstitute(Long id, String title, String content, String author,
                                     String password, List<String> hashtags, int viewCount,
+                                    int activeCommentCount, boolean deleted,
                                     LocalDateTime createdAt, LocalDateTime updatedAt) {
         Post post = new Post();
         post.id = id;
@@ -43,8 +46,10 @@ public class Post {
         post.content = content;
         post.author = author;
         post.password = password;
-        post.hashtags = hashtags != null ? new ArrayList<>(hashtags) : new ArrayList<>();
+        post.hashtags = hashtags != null ? List.copyOf(hashtags) : List.of();
         post.viewCount = viewCount;
+        post.activeCommentCount = activeCommentCount;
+        post.deleted = deleted;
         post.createdAt = createdAt;
         post.updatedAt = updatedAt;
         return post;
@@ -53,7 +58,7 @@ public class Post {
     public void update(String title, String content, List<String> hashtags) {
         this.title = title;
         this.content = content;
-        this.hashtags = hashtags != null ? new ArrayList<>(hashtags) : new ArrayList<>();
+        this.hashtags = hashtags != null ? List.copyOf(hashtags) : List.of();
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -66,6 +71,11 @@ public class Post {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public void markDeleted() {
+        this.deleted = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public Long getId() {
         return id;
     }
@@ -87,13 +97,22 @@ public class Post {
     }
 
     public List<String> getHashtags() {
-        return Collections.unmodifiableList(hashtags);
+        return hashtags;
     }
 
     public int getViewCount() {
         return viewCount;
     }
 
+    // 삭제되지 않은 댓글/답글 수 (비정규화 카운터)
+    public int getActiveCommentCount() {
+        return activeCommentCount;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
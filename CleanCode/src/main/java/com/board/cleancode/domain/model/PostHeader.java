@@ -0,0 +1,8 @@
+package com.board.cleancode.domain.model;
+
+import java.time.LocalDateTime;
+
+// 목록에 표시하는 게시글 요약. 본문과 해시태그는 담지 않는다
+public record PostHeader(Long id, String title, String author, int viewCount,
+                         int activeCommentCount, LocalDateTime createdAt) {
+}
@@ -0,0 +1,11 @@
+package com.board.cleancode.domain.port.in;
+
+import com.board.cleancode.domain.model.CounterDrift;
+
+import java.util.List;
+
+public interface CheckCounterConsistencyUseCase {
+
+    // 비정규화 카운터를 실제 데이터로 다시 집계해 어긋난 대상만 반환
+    List<CounterDrift> findDrift();
+}
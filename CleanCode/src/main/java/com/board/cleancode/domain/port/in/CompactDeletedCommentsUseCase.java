@@ -0,0 +1,21 @@
+package com.board.cleancode.domain.port.in;
+
+public interface CompactDeletedCommentsUseCase {
+
+    CompactionResult compactNextBatch(int batchSize);
+
+    long countPendingCompactions();
+
+    record CompactionResult(
+            int repliesDeleted,
+            int commentsDeleted
+    ) {
+        public static CompactionResult idle() {
+            return new CompactionResult(0, 0);
+        }
+
+        public boolean isIdle() {
+            return repliesDeleted == 0 && commentsDeleted == 0;
+        }
+    }
+}
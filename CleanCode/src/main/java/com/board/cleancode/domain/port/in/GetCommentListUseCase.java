@@ -1,6 +1,7 @@
 package com.board.cleancode.domain.port.in;
 
 import com.board.cleancode.domain.model.Comment;
+import com.board.cleancode.domain.model.CommentCursor;
 
 import java.util.List;
 
@@ -8,7 +9,8 @@ public interface GetCommentListUseCase {
 
     CommentPageResult getComments(Long postId, int page, int size);
 
-    long countActiveComments(Long postId);
+    // 카운트 쿼리 없이 size+1건을 조회해 hasMore를 판단
+    CommentCursorResult getComments(Long postId, CommentCursor cursor, int size);
 
     record CommentPageResult(
             List<Comment> content,
@@ -18,4 +20,11 @@ public interface GetCommentListUseCase {
             boolean hasMore
     ) {
     }
+
+    record CommentCursorResult(
+            List<Comment> content,
+            CommentCursor nextCursor,
+            boolean hasMore
+    ) {
+    }
 }
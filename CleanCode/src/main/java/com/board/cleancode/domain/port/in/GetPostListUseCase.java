@@ -1,7 +1,8 @@
 package com.board.cleancode.domain.port.in;
 
-import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.model.PostHeader;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface GetPostListUseCase {
@@ -14,7 +15,7 @@ public interface GetPostListUseCase {
         }
     }
 
-    record PostSummary(Post post, int commentCount, int likeCount) {
+    record PostSummary(PostHeader post, int commentCount, int likeCount) {
     }
 
     record PostListResult(
@@ -24,7 +25,8 @@ public interface GetPostListUseCase {
             long totalElements,
             int totalPages,
             long totalPostCount,
-            long totalCommentCount
+            long totalCommentCount,
+            LocalDateTime rankedAt
     ) {
     }
 }
@@ -1,14 +1,18 @@
 package com.board.cleancode.domain.port.in;
 
 import com.board.cleancode.domain.model.Comment;
+import com.board.cleancode.domain.model.CommentCursor;
 
 import java.util.List;
+import java.util.Map;
 
 public interface GetReplyListUseCase {
 
     ReplyPageResult getReplies(Long postId, Long parentCommentId, int page, int size);
 
-    long countActiveReplies(Long parentCommentId);
+    ReplyCursorResult getReplies(Long postId, Long parentCommentId, CommentCursor cursor, int size);
+
+    Map<Long, List<Comment>> getReplyPreviews(List<Long> parentCommentIds, int limit);
 
     record ReplyPageResult(
             List<Comment> content,
@@ -18,4 +22,11 @@ public interface GetReplyListUseCase {
             boolean hasMore
     ) {
     }
+
+    record ReplyCursorResult(
+            List<Comment> content,
+            CommentCursor nextCursor,
+            boolean hasMore
+    ) {
+    }
 }
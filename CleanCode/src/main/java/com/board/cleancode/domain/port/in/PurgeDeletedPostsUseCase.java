@@ -0,0 +1,23 @@
+package com.board.cleancode.domain.port.in;
+
+public interface PurgeDeletedPostsUseCase {
+
+    PurgeResult purgeNextBatch(int batchSize);
+
+    long countPendingPurges();
+
+    record PurgeResult(
+            Long postId,
+            int commentsDeleted,
+            int likesDeleted,
+            boolean postPurged
+    ) {
+        public static PurgeResult idle() {
+            return new PurgeResult(null, 0, 0, false);
+        }
+
+        public boolean isIdle() {
+            return postId == null;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.board.cleancode.domain.port.in;
+
+public interface SubscribeCommentStreamUseCase {
+
+    // 구독 전에 게시글 존재만 확인 (없으면 PostNotFoundException)
+    void checkSubscribable(Long postId);
+}
@@ -1,6 +1,8 @@
 package com.board.cleancode.domain.port.out;
 
 import com.board.cleancode.domain.model.Comment;
+import com.board.cleancode.domain.model.CommentCursor;
+import com.board.cleancode.domain.model.CounterDrift;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,23 +13,48 @@ public interface CommentRepositoryPort {
 
     Optional<Comment> findById(Long id);
 
+    boolean existsById(Long id);
+
     List<Comment> findByPostIdOrderByCreatedAtDesc(Long postId, int page, int size);
 
     List<Comment> findRootCommentsByPostIdOrderByCreatedAtDesc(Long postId, int page, int size);
 
     List<Comment> findRepliesByParentIdOrderByCreatedAtAsc(Long parentId, int page, int size);
 
-    long countByPostId(Long postId);
+    // cursor가 null이면 처음부터 조회
+    List<Comment> findRootCommentsByPostIdBefore(Long postId, CommentCursor cursor, int limit);
+
+    List<Comment> findRepliesByParentIdAfter(Long parentId, CommentCursor cursor, int limit);
 
-    long countByPostIdAndDeletedFalse(Long postId);
+    List<Comment> findFirstRepliesByParentIds(List<Long> parentIds, int limit);
+
+    long countByPostId(Long postId);
 
     long countRootCommentsByPostId(Long postId);
 
     long countRepliesByParentId(Long parentId);
 
-    long countRepliesByParentIdAndDeletedFalse(Long parentId);
+    // 삭제되지 않은 댓글만 삭제 표시하고, 실제로 바뀌었으면 true
+    boolean markDeletedIfActive(Long commentId);
+
+    // 활성 답글 수 카운터 증감 (delta: +1 / -1), 대상 댓글이 이미 없으면 false
+    boolean adjustActiveReplyCount(Long commentId, int delta);
 
-    void deleteByPostId(Long postId);
+    List<CounterDrift> findActiveReplyCountDrift();
+
+    int deleteBatchByPostId(Long postId, int batchSize);
 
     long countAllByDeletedFalse();
+
+    // 삭제 표시된 댓글의 물리 삭제 (압축) 대상
+    List<Comment> findDeletedReplies(int limit);
+
+    // 삭제 표시되었고 답글이 하나도 남지 않은 일반 댓글
+    List<Comment> findCompactableRootComments(int limit);
+
+    int deleteDeletedReplies(List<Long> ids);
+
+    int deleteCompactableRootComments(List<Long> ids);
+
+    long countCompactable();
 }
@@ -0,0 +1,17 @@
+package com.board.cleancode.domain.port.out;
+
+import com.board.cleancode.domain.model.HotScore;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface HotScoreRepositoryPort {
+
+    List<HotScore> findAll();
+
+    List<HotScore> computeMissing();
+
+    void saveAll(Collection<HotScore> scores);
+
+    void deleteAllById(Collection<Long> postIds);
+}
@@ -12,5 +12,5 @@ public interface LikeRepositoryPort {
 
     int countByPostId(Long postId);
 
-    void deleteByPostId(Long postId);
+    int deleteBatchByPostId(Long postId, int batchSize);
 }
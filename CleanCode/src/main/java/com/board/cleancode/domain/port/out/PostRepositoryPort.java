@@ -1,7 +1,10 @@
 package com.board.cleancode.domain.port.out;
 
+import com.board.cleancode.domain.model.CounterDrift;
 import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.model.PostHeader;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,20 +14,39 @@ public interface PostRepositoryPort {
 
     Optional<Post> findById(Long id);
 
+    // 존재 확인만 필요한 경우 본문/해시태그를 읽지 않는다
+    boolean existsById(Long id);
+
+    // 주어진 id 순서대로 요약을 반환한다 (삭제 표시된 게시글은 빠진다)
+    List<PostHeader> findHeadersByIds(List<Long> ids);
+
     void deleteById(Long id);
 
     long count();
 
-    record PostPage(List<Post> content, long totalElements) {
+    List<Long> findDeletedIds(int limit);
+
+    long countDeleted();
+
+    // 활성 댓글 수 카운터 증감 (delta: +1 / -1)
+    void adjustActiveCommentCount(Long postId, int delta);
+
+    List<CounterDrift> findActiveCommentCountDrift();
+
+    // rankedAt: 랭킹 스냅샷으로 응답한 경우 스냅샷 생성 시각, 실시간 조회면 null
+    record PostSummaryPage(List<PostHeader> content, long totalElements, LocalDateTime rankedAt) {
+        public PostSummaryPage(List<PostHeader> content, long totalElements) {
+            this(content, totalElements, null);
+        }
     }
 
-    PostPage findAll(int page, int size, String sort);
+    PostSummaryPage findAll(int page, int size, String sort);
 
-    PostPage searchByTitle(String keyword, int page, int size, String sort);
+    PostSummaryPage searchByTitle(String keyword, int page, int size, String sort);
 
-    PostPage searchByAuthor(String keyword, int page, int size, String sort);
+    PostSummaryPage searchByAuthor(String keyword, int page, int size, String sort);
 
-    PostPage searchByContent(String keyword, int page, int size, String sort);
+    PostSummaryPage searchByContent(String keyword, int page, int size, String sort);
 
-    PostPage searchByHashtag(String keyword, int page, int size, String sort);
+    PostSummaryPage searchByHashtag(String keyword, int page, int size, String sort);
 }
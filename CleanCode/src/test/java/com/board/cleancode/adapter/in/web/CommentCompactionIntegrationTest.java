@@ -0,0 +1,157 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CreateCommentRequest;
+import com.board.cleancode.adapter.in.web.dto.CreatePostRequest;
+import com.board.cleancode.adapter.in.web.dto.DeleteCommentRequest;
+import com.board.cleancode.domain.port.in.CheckCounterConsistencyUseCase;
+import com.board.cleancode.domain.port.in.CompactDeletedCommentsUseCase;
+import com.board.cleancode.domain.port.in.CompactDeletedCommentsUseCase.CompactionResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class CommentCompactionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CompactDeletedCommentsUseCase compactDeletedCommentsUseCase;
+
+    @Autowired
+    private CheckCounterConsistencyUseCase checkCounterConsistencyUseCase;
+
+    private static final String BASE_URL = "/api/posts";
+    private static final String PASSWORD = "test1234";
+
+    private Long createTestPost() throws Exception {
+        CreatePostRequest request = new CreatePostRequest("테스트 제목", "테스트 내용", "작성자", PASSWORD, null);
+        MvcResult result = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private Long createTestComment(Long postId) throws Exception {
+        return idOf(mockMvc.perform(post(BASE_URL + "/{postId}/comments", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateCommentRequest("댓글작성자", PASSWORD, "댓글"))))
+                .andExpect(status().isCreated())
+                .andReturn());
+    }
+
+    private Long createTestReply(Long postId, Long commentId) throws Exception {
+        return idOf(mockMvc.perform(post(BASE_URL + "/{postId}/comments/{commentId}/replies", postId, commentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateCommentRequest("답글작성자", PASSWORD, "답글"))))
+                .andExpect(status().isCreated())
+                .andReturn());
+    }
+
+    private Long idOf(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private void deleteComment(Long postId, Long commentId) throws Exception {
+        mockMvc.perform(delete(BASE_URL + "/{postId}/comments/{commentId}", postId, commentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DeleteCommentRequest(PASSWORD))))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("압축은 삭제된 답글과 답글이 남지 않은 삭제 댓글만 배치 단위로 지운다")
+    void compact_removesDeletedRepliesThenOrphanedComments() throws Exception {
+        Long postId = createTestPost();
+
+        Long liveComment = createTestComment(postId);
+        Long deletedReply = createTestReply(postId, liveComment);
+        createTestReply(postId, liveComment);
+
+        Long deletedWithDeletedReply = createTestComment(postId);
+        Long replyOfDeleted = createTestReply(postId, deletedWithDeletedReply);
+
+        Long deletedWithoutReply = createTestComment(postId);
+
+        Long deletedWithLiveReply = createTestComment(postId);
+        createTestReply(postId, deletedWithLiveReply);
+
+        deleteComment(postId, deletedReply);
+        deleteComment(postId, replyOfDeleted);
+        deleteComment(postId, deletedWithDeletedReply);
+        deleteComment(postId, deletedWithoutReply);
+        deleteComment(postId, deletedWithLiveReply);
+        assertThat(compactDeletedCommentsUseCase.countPendingCompactions()).isEqualTo(4);
+
+        int replies = 0;
+        int comments = 0;
+        CompactionResult result;
+        while (!(result = compactDeletedCommentsUseCase.compactNextBatch(1)).isIdle()) {
+            assertThat(result.repliesDeleted() + result.commentsDeleted()).isEqualTo(1);
+            replies += result.repliesDeleted();
+            comments += result.commentsDeleted();
+        }
+
+        assertThat(replies).isEqualTo(2);
+        assertThat(comments).isEqualTo(2);
+        assertThat(compactDeletedCommentsUseCase.countPendingCompactions()).isZero();
+        assertThat(checkCounterConsistencyUseCase.findDrift()).isEmpty();
+
+        // 답글이 남은 삭제 댓글은 "삭제된 댓글입니다"로 계속 보인다
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[*].id", containsInAnyOrder(
+                        liveComment.intValue(), deletedWithLiveReply.intValue())))
+                .andExpect(jsonPath("$.content[*].replyCount", containsInAnyOrder(1, 1)));
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments/{commentId}/replies", postId, liveComment))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.totalElements").value(1));
+        mockMvc.perform(get(BASE_URL + "/{id}", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(3));
+    }
+
+    @Test
+    @DisplayName("압축으로 지워진 댓글에는 답글을 달 수 없다")
+    void compact_thenReplyToCompactedComment_returns404() throws Exception {
+        Long postId = createTestPost();
+        Long commentId = createTestComment(postId);
+        deleteComment(postId, commentId);
+
+        while (!compactDeletedCommentsUseCase.compactNextBatch(100).isIdle()) {
+            // 대상이 없어질 때까지 압축
+        }
+
+        mockMvc.perform(post(BASE_URL + "/{postId}/comments/{commentId}/replies", postId, commentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateCommentRequest("답글작성자", PASSWORD, "답글"))))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -4,20 +4,28 @@ import com.board.cleancode.adapter.in.web.dto.CreateCommentRequest;
 import com.board.cleancode.adapter.in.web.dto.CreatePostRequest;
 import com.board.cleancode.adapter.in.web.dto.DeleteCommentRequest;
 import com.board.cleancode.adapter.in.web.dto.DeletePostRequest;
+import com.board.cleancode.domain.model.CounterDrift;
+import com.board.cleancode.domain.port.in.CheckCounterConsistencyUseCase;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +41,12 @@ class CommentControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CheckCounterConsistencyUseCase checkCounterConsistencyUseCase;
+
     private static final String PASSWORD = "test1234";
 
     private Long createTestPost() throws Exception {
@@ -528,6 +542,246 @@ class CommentControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/posts/{postId}/comments?replyPreview - 답글 미리보기 포함")
+    class GetCommentsWithReplyPreview {
+
+        private void createReplies(Long postId, Long commentId, int count) throws Exception {
+            for (int i = 0; i < count; i++) {
+                CreateCommentRequest request = new CreateCommentRequest("작성자" + i, PASSWORD, "답글" + i);
+                mockMvc.perform(post("/api/posts/{postId}/comments/{commentId}/replies", postId, commentId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                        .andExpect(status().isCreated());
+            }
+        }
+
+        @Test
+        @DisplayName("각 댓글마다 오래된순으로 최대 replyPreview개의 답글이 포함된다")
+        void getComments_includesReplyPreviews() throws Exception {
+            Long postId = createTestPost();
+            Long commentId1 = createTestComment(postId);
+            Long commentId2 = createTestComment(postId);
+            createReplies(postId, commentId1, 4);
+            createReplies(postId, commentId2, 1);
+
+            // 최신순이므로 commentId2가 먼저 온다
+            mockMvc.perform(get("/api/posts/{postId}/comments", postId).param("replyPreview", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(commentId2))
+                    .andExpect(jsonPath("$.content[0].replies", hasSize(1)))
+                    .andExpect(jsonPath("$.content[1].id").value(commentId1))
+                    .andExpect(jsonPath("$.content[1].replyCount").value(4))
+                    .andExpect(jsonPath("$.content[1].replies", hasSize(2)))
+                    .andExpect(jsonPath("$.content[1].replies[0].content").value("답글0"))
+                    .andExpect(jsonPath("$.content[1].replies[1].content").value("답글1"))
+                    .andExpect(jsonPath("$.content[1].replies[0].parentId").value(commentId1));
+        }
+
+        @Test
+        @DisplayName("답글이 없는 댓글은 빈 목록이 포함된다")
+        void getComments_noReplies_emptyPreview() throws Exception {
+            Long postId = createTestPost();
+            createTestComment(postId);
+
+            mockMvc.perform(get("/api/posts/{postId}/comments", postId).param("replyPreview", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].replies", hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("replyPreview를 지정하지 않으면 replies 필드가 없다")
+        void getComments_withoutReplyPreview_noRepliesField() throws Exception {
+            Long postId = createTestPost();
+            Long commentId = createTestComment(postId);
+            createReplies(postId, commentId, 1);
+
+            mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].replies").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("replyPreview가 허용 범위를 벗어나면 400을 반환한다")
+        void getComments_invalidReplyPreview_returns400() throws Exception {
+            Long postId = createTestPost();
+
+            mockMvc.perform(get("/api/posts/{postId}/comments", postId).param("replyPreview", "11"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/posts/{postId}/comments", postId).param("replyPreview", "-1"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("cursor 파라미터 - 커서 기반 페이징")
+    class CursorPaging {
+
+        private List<Long> readAllByCursor(String url, Object... uriVars) throws Exception {
+            List<Long> ids = new ArrayList<>();
+            String cursor = "";
+            while (true) {
+                MvcResult result = mockMvc.perform(get(url, uriVars)
+                                .param("cursor", cursor)
+                                .param("size", "3"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.totalElements").doesNotExist())
+                        .andReturn();
+                JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+                body.get("content").forEach(node -> ids.add(node.get("id").asLong()));
+                if (!body.get("hasMore").asBoolean()) {
+                    return ids;
+                }
+                cursor = body.get("nextCursor").asText();
+            }
+        }
+
+        @Test
+        @DisplayName("댓글을 최신순으로 중복/누락 없이 끝까지 조회한다")
+        void getComments_cursor_readsAllInOrder() throws Exception {
+            Long postId = createTestPost();
+            List<Long> created = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                created.add(createTestComment(postId));
+            }
+
+            List<Long> read = readAllByCursor("/api/posts/{postId}/comments", postId);
+
+            Collections.reverse(created);
+            assertThat(read).containsExactlyElementsOf(created);
+        }
+
+        @Test
+        @DisplayName("마지막 페이지는 hasMore=false이고 nextCursor가 없다")
+        void getComments_cursor_lastPage() throws Exception {
+            Long postId = createTestPost();
+            createTestComment(postId);
+            createTestComment(postId);
+
+            mockMvc.perform(get("/api/posts/{postId}/comments", postId)
+                            .param("cursor", "")
+                            .param("size", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.content[0].replyCount").value(0))
+                    .andExpect(jsonPath("$.hasMore").value(false))
+                    .andExpect(jsonPath("$.nextCursor").isEmpty());
+        }
+
+        @Test
+        @DisplayName("답글을 오래된순으로 중복/누락 없이 끝까지 조회한다")
+        void getReplies_cursor_readsAllInOrder() throws Exception {
+            Long postId = createTestPost();
+            Long commentId = createTestComment(postId);
+            List<Long> created = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                CreateCommentRequest request = new CreateCommentRequest("작성자" + i, PASSWORD, "답글" + i);
+                MvcResult result = mockMvc.perform(post("/api/posts/{postId}/comments/{commentId}/replies", postId, commentId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                        .andExpect(status().isCreated())
+                        .andReturn();
+                created.add(objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong());
+            }
+
+            List<Long> read = readAllByCursor("/api/posts/{postId}/comments/{commentId}/replies", postId, commentId);
+
+            assertThat(read).containsExactlyElementsOf(created);
+        }
+
+        @Test
+        @DisplayName("잘못된 cursor는 400을 반환한다")
+        void getComments_invalidCursor_returns400() throws Exception {
+            Long postId = createTestPost();
+
+            mockMvc.perform(get("/api/posts/{postId}/comments", postId).param("cursor", "not-a-cursor"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("size가 허용 범위를 벗어나면 댓글/답글 모두 400을 반환한다")
+        void cursor_sizeOutOfRange_returns400() throws Exception {
+            Long postId = createTestPost();
+            Long commentId = createTestComment(postId);
+
+            mockMvc.perform(get("/api/posts/{postId}/comments", postId).param("cursor", "").param("size", "101"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("size는 1 이상 100 이하만 허용됩니다."));
+            mockMvc.perform(get("/api/posts/{postId}/comments/{commentId}/replies", postId, commentId)
+                            .param("cursor", "").param("size", "0"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/posts/{postId}/comments/{commentId}/replies", postId, commentId)
+                            .param("cursor", "").param("size", "101"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("비정규화 카운터 (활성 댓글 수 / 활성 답글 수)")
+    class DenormalizedCounters {
+
+        private Long createReply(Long postId, Long commentId) throws Exception {
+            CreateCommentRequest request = new CreateCommentRequest("답글작성자", PASSWORD, "답글");
+            MvcResult result = mockMvc.perform(post("/api/posts/{postId}/comments/{commentId}/replies", postId, commentId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+        }
+
+        private void deleteComment(Long postId, Long commentId) throws Exception {
+            mockMvc.perform(delete("/api/posts/{postId}/comments/{commentId}", postId, commentId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new DeleteCommentRequest(PASSWORD))))
+                    .andExpect(status().isNoContent());
+        }
+
+        private List<CounterDrift> driftOf(Long postId, Long commentId) {
+            return checkCounterConsistencyUseCase.findDrift().stream()
+                    .filter(drift -> drift.type() == CounterDrift.Type.POST_ACTIVE_COMMENTS
+                            ? drift.targetId().equals(postId)
+                            : drift.targetId().equals(commentId))
+                    .toList();
+        }
+
+        @Test
+        @DisplayName("작성/삭제에 따라 카운터가 증감하고, 같은 댓글을 두 번 삭제해도 한 번만 감소한다")
+        void counters_followCreateAndDelete() throws Exception {
+            Long postId = createTestPost();
+            Long commentId = createTestComment(postId);
+            Long replyId1 = createReply(postId, commentId);
+            createReply(postId, commentId);
+
+            deleteComment(postId, replyId1);
+            deleteComment(postId, replyId1);
+
+            mockMvc.perform(get("/api/posts/{id}", postId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.commentCount").value(2))
+                    .andExpect(jsonPath("$.comments.content[0].replyCount").value(1));
+            assertThat(driftOf(postId, commentId)).isEmpty();
+        }
+
+        @Test
+        @DisabledIfSystemProperty(named = "spring.profiles.active", matches = ".*memory.*",
+                disabledReason = "SQL로 카운터를 직접 어긋나게 만든다")
+        @DisplayName("정합성 검사는 실제 집계와 어긋난 카운터를 보고한다")
+        void consistencyCheck_reportsDrift() throws Exception {
+            Long postId = createTestPost();
+            Long commentId = createTestComment(postId);
+            createReply(postId, commentId);
+
+            jdbcTemplate.update("UPDATE posts SET active_comment_count = 7 WHERE id = ?", postId);
+            jdbcTemplate.update("UPDATE comments SET active_reply_count = 0 WHERE id = ?", commentId);
+
+            assertThat(driftOf(postId, commentId))
+                    .containsExactlyInAnyOrder(
+                            new CounterDrift(CounterDrift.Type.POST_ACTIVE_COMMENTS, postId, 7, 2),
+                            new CounterDrift(CounterDrift.Type.COMMENT_ACTIVE_REPLIES, commentId, 0, 1));
+        }
+    }
+
     @Nested
     @DisplayName("부모 댓글 삭제 시 답글 유지")
     class ParentCommentDeletion {
@@ -0,0 +1,203 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CreateCommentRequest;
+import com.board.cleancode.adapter.in.web.dto.CreatePostRequest;
+import com.board.cleancode.adapter.in.web.dto.DeleteCommentRequest;
+import com.board.cleancode.adapter.in.web.dto.DeletePostRequest;
+import com.board.cleancode.support.BoardDataCleaner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 버전은 커밋 이후 이벤트로 올라가므로 트랜잭션 롤백 없이 실행하고 직접 정리한다
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Import(BoardDataCleaner.class)
+class CommentETagIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoardDataCleaner boardDataCleaner;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final String BASE_URL = "/api/posts";
+    private static final String PASSWORD = "test1234";
+
+    @AfterEach
+    void cleanUp() {
+        boardDataCleaner.clean();
+    }
+
+    private Long createTestPost() throws Exception {
+        CreatePostRequest request = new CreatePostRequest("테스트 제목", "테스트 내용", "작성자", PASSWORD, null);
+        MvcResult result = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private Long createTestComment(Long postId) throws Exception {
+        MvcResult result = mockMvc.perform(post(BASE_URL + "/{postId}/comments", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateCommentRequest("댓글작성자", PASSWORD, "댓글"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private void createTestReply(Long postId, Long commentId) throws Exception {
+        mockMvc.perform(post(BASE_URL + "/{postId}/comments/{commentId}/replies", postId, commentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateCommentRequest("답글작성자", PASSWORD, "답글"))))
+                .andExpect(status().isCreated());
+    }
+
+    private String commentListETag(Long postId) throws Exception {
+        return mockMvc.perform(get(BASE_URL + "/{postId}/comments", postId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private String replyListETag(Long postId, Long commentId) throws Exception {
+        return mockMvc.perform(get(BASE_URL + "/{postId}/comments/{commentId}/replies", postId, commentId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    @Test
+    @DisplayName("댓글 목록은 약한 ETag를 주고, 일치하는 If-None-Match에는 SQL 없이 304를 반환한다")
+    void comments_notModified_withoutQueries() throws Exception {
+        Long postId = createTestPost();
+        createTestComment(postId);
+        String eTag = commentListETag(postId);
+        assertThat(eTag).startsWith("W/\"");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments", postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 작성, 답글 작성, 댓글 삭제는 댓글 목록의 ETag를 바꾼다")
+    void comments_eTagChangesOnWrites() throws Exception {
+        Long postId = createTestPost();
+        String initial = commentListETag(postId);
+
+        Long commentId = createTestComment(postId);
+        String afterComment = commentListETag(postId);
+        assertThat(afterComment).isNotEqualTo(initial);
+
+        createTestReply(postId, commentId);
+        String afterReply = commentListETag(postId);
+        assertThat(afterReply).isNotEqualTo(afterComment);
+
+        mockMvc.perform(delete(BASE_URL + "/{postId}/comments/{commentId}", postId, commentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DeleteCommentRequest(PASSWORD))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments", postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, afterReply))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].deleted").value(true));
+    }
+
+    @Test
+    @DisplayName("답글 목록의 ETag는 해당 부모 댓글의 답글이 바뀔 때만 바뀐다")
+    void replies_eTagScopedToParent() throws Exception {
+        Long postId = createTestPost();
+        Long commentId = createTestComment(postId);
+        Long otherCommentId = createTestComment(postId);
+        String eTag = replyListETag(postId, commentId);
+
+        createTestReply(postId, otherCommentId);
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments/{commentId}/replies", postId, commentId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        createTestReply(postId, commentId);
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments/{commentId}/replies", postId, commentId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].content").value("답글"));
+    }
+
+    @Test
+    @DisplayName("게시글이 삭제되면 이전 ETag로 요청해도 404를 반환한다")
+    void comments_postDeleted_invalidatesETag() throws Exception {
+        Long postId = createTestPost();
+        Long commentId = createTestComment(postId);
+        String commentsETag = commentListETag(postId);
+        String repliesETag = replyListETag(postId, commentId);
+
+        mockMvc.perform(delete(BASE_URL + "/{id}", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DeletePostRequest(PASSWORD))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments", postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, commentsETag))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments/{commentId}/replies", postId, commentId)
+                        .header(HttpHeaders.IF_NONE_MATCH, repliesETag))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("게시글 삭제는 다른 게시글의 댓글/답글 목록 ETag를 바꾸지 않는다")
+    void postDeleted_keepsOtherPostsETags() throws Exception {
+        Long keptPostId = createTestPost();
+        Long commentId = createTestComment(keptPostId);
+        String commentsETag = commentListETag(keptPostId);
+        String repliesETag = replyListETag(keptPostId, commentId);
+
+        Long deletedPostId = createTestPost();
+        mockMvc.perform(delete(BASE_URL + "/{id}", deletedPostId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DeletePostRequest(PASSWORD))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments", keptPostId)
+                        .header(HttpHeaders.IF_NONE_MATCH, commentsETag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments/{commentId}/replies", keptPostId, commentId)
+                        .header(HttpHeaders.IF_NONE_MATCH, repliesETag))
+                .andExpect(status().isNotModified());
+    }
+}
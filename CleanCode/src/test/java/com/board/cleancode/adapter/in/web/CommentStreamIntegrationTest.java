@@ -0,0 +1,148 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CreateCommentRequest;
+import com.board.cleancode.adapter.in.web.dto.CreatePostRequest;
+import com.board.cleancode.adapter.in.web.dto.DeleteCommentRequest;
+import com.board.cleancode.support.BoardDataCleaner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 스트림은 커밋 이후 이벤트로 전달되므로 트랜잭션 롤백 없이 실행하고 직접 정리한다
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(BoardDataCleaner.class)
+class CommentStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoardDataCleaner boardDataCleaner;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final String BASE_URL = "/api/posts";
+    private static final String PASSWORD = "test1234";
+    private static final long DELIVERY_TIMEOUT_MS = 5000;
+
+    @AfterEach
+    void cleanUp() {
+        boardDataCleaner.clean();
+    }
+
+    private Long createTestPost() throws Exception {
+        CreatePostRequest request = new CreatePostRequest("테스트 제목", "테스트 내용", "작성자", PASSWORD, null);
+        MvcResult result = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private Long createTestComment(Long postId, String content) throws Exception {
+        MvcResult result = mockMvc.perform(post(BASE_URL + "/{postId}/comments", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateCommentRequest("댓글작성자", PASSWORD, content))))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private MvcResult subscribe(Long postId) throws Exception {
+        return mockMvc.perform(get(BASE_URL + "/{postId}/comments/stream", postId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    // 전달은 가상 스레드에서 비동기로 이뤄지므로 기대한 내용이 나타날 때까지 기다린다
+    private String awaitStream(MvcResult stream, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + DELIVERY_TIMEOUT_MS;
+        String body = stream.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = stream.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+
+    @Test
+    @DisplayName("구독 중인 게시글에 댓글과 답글이 작성되면 created 이벤트로 전달된다")
+    void stream_deliversCreatedCommentsAndReplies() throws Exception {
+        Long postId = createTestPost();
+        MvcResult stream = subscribe(postId);
+
+        Long commentId = createTestComment(postId, "실시간 댓글");
+        mockMvc.perform(post(BASE_URL + "/{postId}/comments/{commentId}/replies", postId, commentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateCommentRequest("답글작성자", PASSWORD, "실시간 답글"))))
+                .andExpect(status().isCreated());
+
+        String body = awaitStream(stream, "실시간 답글");
+        assertThat(body).contains("event:created");
+        assertThat(body).contains("id:" + commentId);
+        assertThat(body).contains("\"content\":\"실시간 댓글\"");
+        assertThat(body).contains("\"parentId\":" + commentId);
+        assertThat(body.indexOf("실시간 댓글")).isLessThan(body.indexOf("실시간 답글"));
+    }
+
+    @Test
+    @DisplayName("삭제된 댓글은 내용이 가려진 deleted 이벤트로 전달된다")
+    void stream_deliversDeletedComment() throws Exception {
+        Long postId = createTestPost();
+        Long commentId = createTestComment(postId, "지워질 댓글");
+        MvcResult stream = subscribe(postId);
+
+        mockMvc.perform(delete(BASE_URL + "/{postId}/comments/{commentId}", postId, commentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DeleteCommentRequest(PASSWORD))))
+                .andExpect(status().isNoContent());
+
+        String body = awaitStream(stream, "event:deleted");
+        assertThat(body).contains("event:deleted");
+        assertThat(body).contains("\"deleted\":true");
+        assertThat(body).doesNotContain("지워질 댓글");
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 댓글은 전달되지 않는다")
+    void stream_ignoresOtherPosts() throws Exception {
+        Long postId = createTestPost();
+        Long otherPostId = createTestPost();
+        MvcResult stream = subscribe(postId);
+
+        createTestComment(otherPostId, "다른 게시글 댓글");
+        createTestComment(postId, "내 게시글 댓글");
+
+        String body = awaitStream(stream, "내 게시글 댓글");
+        assertThat(body).contains("내 게시글 댓글");
+        assertThat(body).doesNotContain("다른 게시글 댓글");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글의 스트림을 구독하면 404를 반환한다")
+    void stream_postNotFound() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments/stream", 999L))
+                .andExpect(status().isNotFound());
+    }
+}
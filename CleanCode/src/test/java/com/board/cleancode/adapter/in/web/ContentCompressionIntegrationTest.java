@@ -0,0 +1,158 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CreateCommentRequest;
+import com.board.cleancode.adapter.in.web.dto.CreatePostRequest;
+import com.board.cleancode.adapter.in.web.dto.UpdatePostRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisabledIfSystemProperty(named = "spring.profiles.active", matches = ".*memory.*",
+        disabledReason = "DB 컬럼에 저장된 압축 형식을 검증한다")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ContentCompressionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final String PASSWORD = "test1234";
+
+    // 반복이 많은 로그 형태의 긴 본문
+    private static String longLog(String marker) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 400; i++) {
+            builder.append("2024-01-01 12:00:").append(i % 60).append(" INFO  [main] c.b.c.Service - request handled\n");
+        }
+        return builder.append(marker).append('\n').toString();
+    }
+
+    private Long createPost(String content) throws Exception {
+        CreatePostRequest request = new CreatePostRequest("제목", content, "작성자", PASSWORD, List.of("로그"));
+        MvcResult result = mockMvc.perform(post("/api/posts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private Map<String, Object> storedPost(Long postId) {
+        entityManager.flush();
+        entityManager.clear();
+        return jdbcTemplate.queryForMap(
+                "SELECT content, content_compressed FROM posts WHERE id = ?", postId);
+    }
+
+    @Test
+    @DisplayName("긴 본문은 압축 저장되고 조회 시 원문 그대로 반환된다")
+    void longContent_storedCompressed_readBackIntact() throws Exception {
+        String content = longLog("ERROR NullPointerException");
+        Long postId = createPost(content);
+
+        Map<String, Object> stored = storedPost(postId);
+        assertThat(stored.get("CONTENT")).isNull();
+        assertThat((byte[]) stored.get("CONTENT_COMPRESSED")).hasSizeLessThan(content.length() / 2);
+
+        mockMvc.perform(get("/api/posts/{id}", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value(content));
+    }
+
+    @Test
+    @DisplayName("짧은 본문은 압축하지 않고, 수정으로 짧아지면 원문으로 다시 저장된다")
+    void shortContent_storedPlain() throws Exception {
+        Long postId = createPost(longLog("marker"));
+
+        UpdatePostRequest update = new UpdatePostRequest("제목", "짧은 본문", PASSWORD, List.of());
+        mockMvc.perform(put("/api/posts/{id}", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        Map<String, Object> stored = storedPost(postId);
+        assertThat(stored.get("CONTENT")).isEqualTo("짧은 본문");
+        assertThat(stored.get("CONTENT_COMPRESSED")).isNull();
+    }
+
+    @Test
+    @DisplayName("압축 저장된 게시글도 본문 끝부분의 검색어로 찾는다")
+    void searchByContent_matchesWholeCompressedBody() throws Exception {
+        Long compressedId = createPost("ERROR OutOfMemoryError\n" + longLog("FATAL StackOverflowError"));
+        Long plainId = createPost("짧은 본문 OutOfMemoryError");
+        Long unrelatedId = createPost("관계없는 본문");
+        assertThat(storedPost(compressedId).get("CONTENT_COMPRESSED")).isNotNull();
+
+        mockMvc.perform(get("/api/posts")
+                        .param("searchType", "content")
+                        .param("keyword", "outofmemoryerror"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts", hasSize(2)))
+                .andExpect(jsonPath("$.posts[0].id").value(plainId))
+                .andExpect(jsonPath("$.posts[1].id").value(compressedId));
+
+        mockMvc.perform(get("/api/posts")
+                        .param("searchType", "content")
+                        .param("keyword", "stackoverflowerror"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts", hasSize(1)))
+                .andExpect(jsonPath("$.posts[0].id").value(compressedId));
+
+        mockMvc.perform(get("/api/posts")
+                        .param("searchType", "content")
+                        .param("keyword", "관계없는"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts", hasSize(1)))
+                .andExpect(jsonPath("$.posts[0].id").value(unrelatedId));
+    }
+
+    @Test
+    @DisplayName("긴 댓글도 압축 저장되고 목록에서 원문으로 반환된다")
+    void longComment_roundTrip() throws Exception {
+        Long postId = createPost("본문");
+        String content = longLog("comment");
+        mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateCommentRequest("작성자", PASSWORD, content))))
+                .andExpect(status().isCreated());
+        entityManager.flush();
+        entityManager.clear();
+
+        Integer compressedRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM comments WHERE post_id = ? AND content IS NULL AND content_compressed IS NOT NULL",
+                Integer.class, postId);
+        assertThat(compressedRows).isEqualTo(1);
+
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].content").value(content));
+    }
+}
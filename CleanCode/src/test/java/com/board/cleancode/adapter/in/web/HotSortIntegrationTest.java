@@ -0,0 +1,124 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CreateCommentRequest;
+import com.board.cleancode.adapter.in.web.dto.CreatePostRequest;
+import com.board.cleancode.application.ranking.HotPostRanking;
+import com.board.cleancode.support.BoardDataCleaner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 랭킹은 커밋 이후 이벤트로 갱신되므로 트랜잭션 롤백 없이 실행하고 직접 정리한다
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(BoardDataCleaner.class)
+class HotSortIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoardDataCleaner boardDataCleaner;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HotPostRanking hotPostRanking;
+
+    private static final String BASE_URL = "/api/posts";
+    private static final String PASSWORD = "test1234";
+
+    @AfterEach
+    void cleanUp() {
+        boardDataCleaner.clean();
+    }
+
+    private Long createTestPost(String title) throws Exception {
+        CreatePostRequest request = new CreatePostRequest(title, "내용", "작성자", PASSWORD, null);
+        MvcResult result = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private void likePost(Long postId, String guestId) throws Exception {
+        mockMvc.perform(post(BASE_URL + "/{postId}/likes", postId)
+                        .header("X-Guest-Id", guestId))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("sort=hot은 좋아요/조회/댓글 활동이 많은 게시글을 먼저 반환한다")
+    void sort_hot_ordersByEngagement() throws Exception {
+        Long id1 = createTestPost("첫번째 글");
+        Long id2 = createTestPost("두번째 글");
+        Long id3 = createTestPost("세번째 글");
+
+        likePost(id1, "guest1");
+        likePost(id1, "guest2");
+        likePost(id1, "guest3");
+
+        mockMvc.perform(get(BASE_URL + "/{id}", id2)).andExpect(status().isOk());
+        mockMvc.perform(get(BASE_URL + "/{id}", id2)).andExpect(status().isOk());
+        mockMvc.perform(post(BASE_URL + "/{postId}/comments", id2)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateCommentRequest("댓글작성자", PASSWORD, "댓글"))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get(BASE_URL).param("sort", "hot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.posts", hasSize(3)))
+                .andExpect(jsonPath("$.posts[0].id").value(id1))
+                .andExpect(jsonPath("$.posts[1].id").value(id2))
+                .andExpect(jsonPath("$.posts[2].id").value(id3));
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 sort=hot 결과에서 제외되고, 재구성 후에도 순위가 유지된다")
+    void sort_hot_excludesDeletedAndSurvivesRebuild() throws Exception {
+        Long id1 = createTestPost("첫번째 글");
+        Long id2 = createTestPost("두번째 글");
+        likePost(id1, "guest1");
+
+        mockMvc.perform(delete(BASE_URL + "/{id}", id2)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isNoContent());
+
+        hotPostRanking.persist();
+        hotPostRanking.rebuild();
+
+        mockMvc.perform(get(BASE_URL).param("sort", "hot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts", hasSize(1)))
+                .andExpect(jsonPath("$.posts[0].id").value(id1));
+    }
+
+    @Test
+    @DisplayName("sort=hot은 검색과 함께 사용하면 400을 반환한다")
+    void sort_hot_withSearch_returns400() throws Exception {
+        mockMvc.perform(get(BASE_URL)
+                        .param("sort", "hot")
+                        .param("searchType", "title")
+                        .param("keyword", "글"))
+                .andExpect(status().isBadRequest());
+    }
+}
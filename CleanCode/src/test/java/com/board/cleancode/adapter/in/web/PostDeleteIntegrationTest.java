@@ -0,0 +1,156 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CreateCommentRequest;
+import com.board.cleancode.adapter.in.web.dto.CreatePostRequest;
+import com.board.cleancode.adapter.in.web.dto.DeletePostRequest;
+import com.board.cleancode.domain.port.in.PurgeDeletedPostsUseCase;
+import com.board.cleancode.domain.port.in.PurgeDeletedPostsUseCase.PurgeResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Transactional
+class PostDeleteIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PurgeDeletedPostsUseCase purgeDeletedPostsUseCase;
+
+    private static final String BASE_URL = "/api/posts";
+    private static final String PASSWORD = "test1234";
+
+    private Long createPostWithChildren(int childCount) throws Exception {
+        CreatePostRequest request = new CreatePostRequest(
+                "테스트 제목", "테스트 내용", "작성자", PASSWORD, List.of("태그1", "태그2")
+        );
+        MvcResult result = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long postId = objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+
+        for (int i = 0; i < childCount; i++) {
+            CreateCommentRequest comment = new CreateCommentRequest("댓글작성자", PASSWORD, "댓글 " + i);
+            mockMvc.perform(post(BASE_URL + "/{postId}/comments", postId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(comment)))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(post(BASE_URL + "/{postId}/likes", postId)
+                            .header("X-Guest-Id", UUID.randomUUID().toString()))
+                    .andExpect(status().isOk());
+        }
+        return postId;
+    }
+
+    private long countStatementsForDelete(Long postId) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(delete(BASE_URL + "/{id}", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DeletePostRequest(PASSWORD))))
+                .andExpect(status().isNoContent());
+        entityManager.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 실행되는 SQL 수는 댓글/좋아요 수와 무관하게 일정하다")
+    void deletePost_constantStatementCount() throws Exception {
+        Long smallPostId = createPostWithChildren(2);
+        Long largePostId = createPostWithChildren(20);
+
+        long smallCount = countStatementsForDelete(smallPostId);
+        long largeCount = countStatementsForDelete(largePostId);
+
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 후 댓글과 좋아요 조회 시 404를 반환한다")
+    void deletePost_removesChildren() throws Exception {
+        Long postId = createPostWithChildren(3);
+
+        countStatementsForDelete(postId);
+
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments", postId))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post(BASE_URL + "/{postId}/likes", postId)
+                        .header("X-Guest-Id", UUID.randomUUID().toString()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 정리 전에도 목록과 전체 게시글 수에서 제외된다")
+    void deletePost_hiddenFromListBeforePurge() throws Exception {
+        Long postId = createPostWithChildren(2);
+
+        countStatementsForDelete(postId);
+
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalPostCount").value(0))
+                .andExpect(jsonPath("$.totalCommentCount").value(0))
+                .andExpect(jsonPath("$.posts", hasSize(0)));
+        assertThat(purgeDeletedPostsUseCase.countPendingPurges()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("백그라운드 정리는 배치 단위로 댓글과 좋아요를 지운 뒤 게시글을 삭제한다")
+    void purge_deletesChildrenInBatchesThenPost() throws Exception {
+        Long postId = createPostWithChildren(5);
+        countStatementsForDelete(postId);
+
+        int comments = 0;
+        int likes = 0;
+        PurgeResult result;
+        do {
+            result = purgeDeletedPostsUseCase.purgeNextBatch(2);
+            assertThat(result.postId()).isEqualTo(postId);
+            comments += result.commentsDeleted();
+            likes += result.likesDeleted();
+        } while (!result.postPurged());
+
+        assertThat(comments).isEqualTo(5);
+        assertThat(likes).isEqualTo(5);
+        assertThat(purgeDeletedPostsUseCase.countPendingPurges()).isZero();
+        assertThat(purgeDeletedPostsUseCase.purgeNextBatch(2).isIdle()).isTrue();
+    }
+}
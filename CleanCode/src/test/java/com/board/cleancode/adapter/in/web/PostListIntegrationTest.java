@@ -170,6 +170,13 @@ class PostListIntegrationTest {
                     .andExpect(status().isBadRequest());
         }
 
+        @Test
+        @DisplayName("음수 page면 400을 반환한다")
+        void paging_negativePage_returns400() throws Exception {
+            mockMvc.perform(get(BASE_URL).param("page", "-1"))
+                    .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("기본 size는 10이다")
         void paging_defaultSize() throws Exception {
@@ -0,0 +1,109 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CreatePostRequest;
+import com.board.cleancode.adapter.in.web.dto.DeletePostRequest;
+import com.board.cleancode.support.BoardDataCleaner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 캐시 세대는 커밋 이후 이벤트로 올라가므로 트랜잭션 롤백 없이 실행하고 직접 정리한다.
+// 테스트마다 API로 글을 먼저 만들어 앞선 테스트가 남긴 항목을 낡은 것으로 만든다.
+@SpringBootTest(properties = {
+        "board.list-cache.enabled=true",
+        "board.list-cache.revalidate-after-ms=600000",
+        "board.list-cache.max-staleness-ms=600000"
+})
+@AutoConfigureMockMvc
+@Import(BoardDataCleaner.class)
+class PostListResponseCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoardDataCleaner boardDataCleaner;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final String BASE_URL = "/api/posts";
+    private static final String PASSWORD = "test1234";
+
+    @AfterEach
+    void cleanUp() {
+        boardDataCleaner.clean();
+    }
+
+    private Long createTestPost(String title) throws Exception {
+        CreatePostRequest request = new CreatePostRequest(title, "내용", "작성자", PASSWORD, null);
+        MvcResult result = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    @Test
+    @DisplayName("조회수/좋아요만 바뀌면 캐시된 목록을 그대로 내고, 새 글이 생기면 바로 다시 계산한다")
+    void counterChanges_servedFromCache_untilPostCreated() throws Exception {
+        Long first = createTestPost("첫번째 글");
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.posts", hasSize(1)))
+                .andExpect(jsonPath("$.posts[0].viewCount").value(0));
+
+        mockMvc.perform(get(BASE_URL + "/{id}", first)).andExpect(status().isOk());
+        mockMvc.perform(post(BASE_URL + "/{postId}/likes", first).header("X-Guest-Id", "guest1"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts[0].viewCount").value(0))
+                .andExpect(jsonPath("$.posts[0].likeCount").value(0));
+
+        Long second = createTestPost("두번째 글");
+
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.posts[0].id").value(second))
+                .andExpect(jsonPath("$.posts[1].id").value(first))
+                .andExpect(jsonPath("$.posts[1].viewCount").value(1))
+                .andExpect(jsonPath("$.posts[1].likeCount").value(1));
+    }
+
+    @Test
+    @DisplayName("삭제된 글은 허용 지연과 관계없이 바로 목록에서 빠진다")
+    void deletedPost_leavesCachedListImmediately() throws Exception {
+        Long kept = createTestPost("남는 글");
+        Long deleted = createTestPost("지울 글");
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(jsonPath("$.posts", hasSize(2)));
+
+        mockMvc.perform(delete(BASE_URL + "/{id}", deleted)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DeletePostRequest(PASSWORD))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts", hasSize(1)))
+                .andExpect(jsonPath("$.posts[0].id").value(kept));
+    }
+}
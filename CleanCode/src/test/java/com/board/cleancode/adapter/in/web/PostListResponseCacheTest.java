@@ -0,0 +1,230 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.PostListResponse;
+import com.board.cleancode.domain.event.LikeEvent;
+import com.board.cleancode.domain.event.PostEvent;
+import com.board.cleancode.domain.port.in.GetPostListUseCase.PostListQuery;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 이벤트 리스너는 커밋 이후에 불리므로 여기서는 직접 호출해 커밋된 쓰기를 흉내 낸다
+class PostListResponseCacheTest {
+
+    private static final PostListQuery FIRST_PAGE = new PostListQuery(0, 10, null, null, "latest");
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    private PostListResponseCache cache(long maxStalenessMillis, String... profiles) {
+        return cache(maxStalenessMillis, maxStalenessMillis, profiles);
+    }
+
+    private PostListResponseCache cache(long revalidateAfterMillis, long maxStalenessMillis, String... profiles) {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles(profiles);
+        return new PostListResponseCache(objectMapper, meterRegistry, environment,
+                true, 2, revalidateAfterMillis, maxStalenessMillis, 100);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("board.list-cache.requests").tag("result", result).counter().count();
+    }
+
+    // 부를 때마다 totalPostCount가 하나씩 늘어난 응답을 만든다
+    private Supplier<PostListResponse> loader() {
+        return () -> new PostListResponse(loads.incrementAndGet(), 0, List.of(), 0, 10, 0, 0, null);
+    }
+
+    private long totalPostCount(byte[] body) throws Exception {
+        return objectMapper.readTree(body).get("totalPostCount").asLong();
+    }
+
+    private static PostEvent postEvent(PostEvent.Type type) {
+        return new PostEvent(type, null);
+    }
+
+    @Test
+    @DisplayName("쓰기가 없으면 같은 키는 한 번만 계산하고, 검색어 없는 검색은 일반 목록과 같은 항목을 쓴다")
+    void sameKey_loadsOnce() throws Exception {
+        PostListResponseCache cache = cache(60_000);
+
+        byte[] first = cache.get(FIRST_PAGE, loader());
+        byte[] again = cache.get(new PostListQuery(0, 10, "title", "", "latest"), loader());
+        cache.get(new PostListQuery(0, 20, null, null, "latest"), loader());
+
+        assertThat(again).isSameAs(first);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("카운터만 바뀌면 허용 지연 안에서는 이전 응답을 내고, 게시글이 바뀌면 바로 다시 계산한다")
+    void counterWrites_tolerated_structuralWrites_reload() throws Exception {
+        PostListResponseCache cache = cache(60_000);
+        cache.get(FIRST_PAGE, loader());
+
+        cache.onPostEvent(postEvent(PostEvent.Type.VIEWED));
+        cache.onLikeEvent(new LikeEvent(LikeEvent.Type.LIKED, 1L, "guest"));
+        assertThat(totalPostCount(cache.get(FIRST_PAGE, loader()))).isEqualTo(1);
+
+        cache.onPostEvent(postEvent(PostEvent.Type.CREATED));
+        assertThat(totalPostCount(cache.get(FIRST_PAGE, loader()))).isEqualTo(2);
+        assertThat(totalPostCount(cache.get(FIRST_PAGE, loader()))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("허용 지연이 지난 항목은 카운터 변경만 있어도 다시 계산한다")
+    void counterWrites_beyondStaleness_reload() throws Exception {
+        PostListResponseCache cache = cache(0);
+        cache.get(FIRST_PAGE, loader());
+        Thread.sleep(5);
+
+        cache.onPostEvent(postEvent(PostEvent.Type.VIEWED));
+
+        assertThat(totalPostCount(cache.get(FIRST_PAGE, loader()))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("쓰기가 없어도 허용 지연이 지난 항목은 다시 계산한다 (랭킹 스냅샷 갱신, isNew 기준 시각)")
+    void quietBoard_beyondStaleness_reload() throws Exception {
+        PostListResponseCache cache = cache(0, 20);
+        cache.get(FIRST_PAGE, loader());
+        assertThat(totalPostCount(cache.get(FIRST_PAGE, loader()))).isEqualTo(1);
+
+        Thread.sleep(30);
+
+        assertThat(totalPostCount(cache.get(FIRST_PAGE, loader()))).isEqualTo(2);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("캐시 범위 밖의 페이지와 replica 프로필은 캐시하지 않는다")
+    void caches_onlyLeadingPagesOutsideReplica() {
+        assertThat(cache(60_000).caches(new PostListQuery(2, 10, null, null, "latest"))).isTrue();
+        assertThat(cache(60_000).caches(new PostListQuery(3, 10, null, null, "latest"))).isFalse();
+        assertThat(cache(60_000, "replica").caches(FIRST_PAGE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비어 있는 키에 동시에 들어온 요청은 한 요청의 계산 결과를 함께 받는다")
+    void concurrentMisses_loadOnce() throws Exception {
+        PostListResponseCache cache = cache(60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<PostListResponse> slowLoader = () -> {
+            await(release);
+            return loader().get();
+        };
+
+        List<Future<byte[]>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(executor.submit(() -> cache.get(FIRST_PAGE, slowLoader)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<byte[]> response : responses) {
+            assertThat(totalPostCount(response.get(5, TimeUnit.SECONDS))).isEqualTo(1);
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("카운터만 바뀐 항목은 한 요청만 다시 계산하고, 그동안 다른 요청은 이전 응답을 바로 받는다")
+    void counterStaleEntry_revalidatedByOneRequest() throws Exception {
+        PostListResponseCache cache = cache(0, 60_000);
+        cache.get(FIRST_PAGE, loader());
+        Thread.sleep(5);
+        cache.onPostEvent(postEvent(PostEvent.Type.VIEWED));
+
+        CountDownLatch release = new CountDownLatch(1);
+        Future<byte[]> revalidating = revalidateBlocked(cache, release);
+
+        List<Future<byte[]>> others = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            others.add(executor.submit(() -> cache.get(FIRST_PAGE, loader())));
+        }
+        for (Future<byte[]> other : others) {
+            assertThat(totalPostCount(other.get(5, TimeUnit.SECONDS))).isEqualTo(1);
+        }
+
+        release.countDown();
+        assertThat(totalPostCount(revalidating.get(5, TimeUnit.SECONDS))).isEqualTo(2);
+        assertThat(loads).hasValue(2);
+        assertThat(requests("stale")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("게시글이 바뀐 뒤에는 다시 계산하는 동안에도 이전 응답을 내지 않고 결과를 기다린다")
+    void structuralChange_waitsForRevalidation() throws Exception {
+        PostListResponseCache cache = cache(60_000);
+        cache.get(FIRST_PAGE, loader());
+        cache.onPostEvent(postEvent(PostEvent.Type.DELETED));
+
+        CountDownLatch release = new CountDownLatch(1);
+        Future<byte[]> revalidating = revalidateBlocked(cache, release);
+
+        List<Future<byte[]>> others = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            others.add(executor.submit(() -> cache.get(FIRST_PAGE, loader())));
+        }
+        Thread.sleep(100);
+        assertThat(others).noneMatch(Future::isDone);
+
+        release.countDown();
+        assertThat(totalPostCount(revalidating.get(5, TimeUnit.SECONDS))).isEqualTo(2);
+        for (Future<byte[]> other : others) {
+            assertThat(totalPostCount(other.get(5, TimeUnit.SECONDS))).isEqualTo(2);
+        }
+        assertThat(loads).hasValue(2);
+        assertThat(requests("stale")).isZero();
+        assertThat(requests("wait")).isEqualTo(4);
+    }
+
+    // 다시 계산을 맡은 요청이 release 전까지 끝나지 않도록 붙잡아 둔다
+    private Future<byte[]> revalidateBlocked(PostListResponseCache cache, CountDownLatch release) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<byte[]> revalidating = executor.submit(() -> cache.get(FIRST_PAGE, () -> {
+            started.countDown();
+            await(release);
+            return loader().get();
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return revalidating;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CreatePostRequest;
+import com.board.cleancode.adapter.out.persistence.PostRankingSnapshot;
+import com.board.cleancode.support.BoardDataCleaner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisabledIfSystemProperty(named = "spring.profiles.active", matches = ".*memory.*",
+        disabledReason = "DB 랭킹 스냅샷을 검증한다 (memory 프로필은 정렬 인덱스로 바로 응답)")
+@SpringBootTest(properties = {
+        "board.ranking.snapshot.enabled=true",
+        "board.ranking.refresh-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+@Import(BoardDataCleaner.class)
+class RankingSnapshotIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoardDataCleaner boardDataCleaner;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PostRankingSnapshot rankingSnapshot;
+
+    private static final String BASE_URL = "/api/posts";
+    private static final String PASSWORD = "test1234";
+
+    @AfterEach
+    void cleanUp() {
+        boardDataCleaner.clean();
+        rankingSnapshot.refresh();
+    }
+
+    private Long createTestPost(String title, List<String> hashtags) throws Exception {
+        CreatePostRequest request = new CreatePostRequest(title, "내용", "작성자", PASSWORD, hashtags);
+        MvcResult result = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    @Test
+    @DisplayName("sort=views는 스냅샷 순서로 응답하고 스냅샷 생성 시각을 포함한다")
+    void sort_views_servedFromSnapshot() throws Exception {
+        Long id1 = createTestPost("첫번째 글", List.of("자바"));
+        Long id2 = createTestPost("두번째 글", List.of("자바", "스프링"));
+
+        mockMvc.perform(get(BASE_URL + "/{id}", id1)).andExpect(status().isOk());
+        rankingSnapshot.refresh();
+
+        // 스냅샷 이후의 조회는 다음 갱신 전까지 순서에 반영되지 않는다
+        mockMvc.perform(get(BASE_URL + "/{id}", id2)).andExpect(status().isOk());
+        mockMvc.perform(get(BASE_URL + "/{id}", id2)).andExpect(status().isOk());
+
+        mockMvc.perform(get(BASE_URL).param("sort", "views"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rankedAt").isNotEmpty())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.posts[0].id").value(id1))
+                .andExpect(jsonPath("$.posts[1].id").value(id2))
+                .andExpect(jsonPath("$.posts[1].viewCount").value(2));
+
+        rankingSnapshot.refresh();
+
+        mockMvc.perform(get(BASE_URL).param("sort", "views"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts[0].id").value(id2))
+                .andExpect(jsonPath("$.posts[1].id").value(id1));
+    }
+
+    @Test
+    @DisplayName("해시태그 검색의 sort=likes도 해시태그별 스냅샷으로 응답한다")
+    void searchByHashtag_sortLikes_servedFromSnapshot() throws Exception {
+        Long id1 = createTestPost("첫번째 글", List.of("자바"));
+        Long id2 = createTestPost("두번째 글", List.of("자바", "스프링"));
+        createTestPost("세번째 글", List.of("스프링"));
+
+        mockMvc.perform(post(BASE_URL + "/{postId}/likes", id1).header("X-Guest-Id", "guest1"))
+                .andExpect(status().isOk());
+        rankingSnapshot.refresh();
+
+        mockMvc.perform(get(BASE_URL)
+                        .param("searchType", "hashtag")
+                        .param("keyword", "자바")
+                        .param("sort", "likes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rankedAt").isNotEmpty())
+                .andExpect(jsonPath("$.posts", hasSize(2)))
+                .andExpect(jsonPath("$.posts[0].id").value(id1))
+                .andExpect(jsonPath("$.posts[1].id").value(id2));
+    }
+
+    @Test
+    @DisplayName("sort=latest는 스냅샷을 사용하지 않는다")
+    void sort_latest_notFromSnapshot() throws Exception {
+        createTestPost("첫번째 글", null);
+        rankingSnapshot.refresh();
+
+        mockMvc.perform(get(BASE_URL).param("sort", "latest"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rankedAt").doesNotExist());
+    }
+}
@@ -0,0 +1,119 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CreatePostRequest;
+import com.board.cleancode.adapter.out.persistence.ReplicationStandIn;
+import com.board.cleancode.application.ranking.HotPostRanking;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 복제는 테스트가 standIn.sync()를 부를 때만 일어나도록 주기와 허용 지연을 길게 잡는다.
+// 쓰기 게스트 고정은 커밋 이후에 기록되므로 트랜잭션 롤백 없이 실행하고 직접 정리한다
+@SpringBootTest(properties = {
+        "board.replica.sync-interval-ms=3600000",
+        "board.replica.max-lag-ms=3600000",
+        "board.replica.read-your-writes-ms=60000",
+        "board.ranking.snapshot.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("replica")
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReplicationStandIn standIn;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private HotPostRanking hotPostRanking;
+
+    private static final String BASE_URL = "/api/posts";
+    private static final String WRITER = "writer";
+    private static final String READER = "reader";
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM likes");
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM post_hashtags");
+        jdbcTemplate.update("DELETE FROM post_hot_scores");
+        jdbcTemplate.update("DELETE FROM posts");
+        standIn.sync();
+        hotPostRanking.rebuild();
+    }
+
+    private void createPost(String guestId) throws Exception {
+        CreatePostRequest request = new CreatePostRequest("복제 테스트", "내용", "작성자", "test1234", null);
+        mockMvc.perform(post(BASE_URL)
+                        .header("X-Guest-Id", guestId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    private double routed(String pool, String access) {
+        return meterRegistry.get("board.datasource.routed")
+                .tag("pool", pool)
+                .tag("access", access)
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("쓴 게스트는 복제 전에도 주 DB에서 자기 글을 읽고, 다른 게스트는 복제본에서 복제된 뒤에 본다")
+    void readYourWrites_thenReplicaAfterSync() throws Exception {
+        createPost(WRITER);
+
+        double primaryReads = routed("primary", "read");
+        mockMvc.perform(get(BASE_URL).header("X-Guest-Id", WRITER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts", hasSize(1)));
+        assertThat(routed("primary", "read")).isGreaterThan(primaryReads);
+
+        double replicaReads = routed("replica", "read");
+        mockMvc.perform(get(BASE_URL).header("X-Guest-Id", READER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts", hasSize(0)));
+        assertThat(routed("replica", "read")).isGreaterThan(replicaReads);
+
+        standIn.sync();
+
+        mockMvc.perform(get(BASE_URL).header("X-Guest-Id", READER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts", hasSize(1)));
+
+        // 자기 쓰기가 복제된 뒤에는 쓴 게스트의 읽기도 복제본으로 간다
+        replicaReads = routed("replica", "read");
+        mockMvc.perform(get(BASE_URL).header("X-Guest-Id", WRITER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts", hasSize(1)));
+        assertThat(routed("replica", "read")).isGreaterThan(replicaReads);
+
+        assertThat(meterRegistry.get("board.datasource.read.offload.ratio").gauge().value())
+                .isBetween(0.0, 1.0);
+    }
+}
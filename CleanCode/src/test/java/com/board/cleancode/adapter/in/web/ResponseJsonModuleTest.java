@@ -0,0 +1,97 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CommentListResponse;
+import com.board.cleancode.adapter.in.web.dto.CommentResponse;
+import com.board.cleancode.adapter.in.web.dto.PostListResponse;
+import com.board.cleancode.adapter.in.web.dto.PostResponse;
+import com.board.cleancode.adapter.in.web.dto.PostSummaryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 직접 쓰는 직렬화기가 리플렉션 기반 기본 직렬화와 같은 JSON을 만드는지 비교한다 (스프링 부트 기본값: ISO 문자열 시각)
+class ResponseJsonModuleTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 3, 2, 0, 0);
+
+    private final ObjectMapper reflective = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper streaming = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new ResponseJsonModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private void assertSameJson(Object response) throws Exception {
+        String expected = reflective.writeValueAsString(response);
+        String actual = streaming.writeValueAsString(response);
+
+        assertThat(streaming.readTree(actual)).isEqualTo(reflective.readTree(expected));
+    }
+
+    private static PostSummaryResponse summary(long id, String title) {
+        return new PostSummaryResponse(id, title, "작성자", CREATED_AT, 2, 10, 3, true);
+    }
+
+    private static CommentResponse comment(Long id, Long parentId, Long replyCount, List<CommentResponse> replies) {
+        return new CommentResponse(id, parentId, "댓글러", "댓글 \"인용\"\n줄바꿈", CREATED_AT, false, replyCount, replies);
+    }
+
+    @Test
+    @DisplayName("목록 응답: rankedAt이 없으면 빠지고, 있으면 ISO 문자열로 쓴다")
+    void postList() throws Exception {
+        List<PostSummaryResponse> posts = List.of(summary(1, "첫 글"), summary(2, "따옴표 \" 와 \\ 역슬래시"));
+
+        assertSameJson(new PostListResponse(5, 7, posts, 0, 20, 1, 2, null));
+        assertSameJson(new PostListResponse(5, 7, posts, 0, 20, 1, 2, UPDATED_AT));
+        assertSameJson(new PostListResponse(0, 0, List.of(), 3, 20, 0, 0, null));
+    }
+
+    @Test
+    @DisplayName("상세 응답: null인 필드(댓글, 좋아요 여부 등)는 쓰지 않는다")
+    void post() throws Exception {
+        CommentListResponse comments = new CommentListResponse(
+                List.of(comment(10L, null, 1L, List.of(comment(11L, 10L, null, null)))), 0, 20, 1, false);
+
+        assertSameJson(new PostResponse(1L, "제목", "본문", "작성자", List.of("java", "spring"),
+                4, 0, 0, CREATED_AT, UPDATED_AT, null, null));
+        assertSameJson(new PostResponse(1L, "제목", "본문", "작성자", List.of(),
+                4, 2, 1, CREATED_AT, UPDATED_AT, comments, true));
+        assertSameJson(new PostResponse(null, null, null, null, null, 0, 0, 0, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("댓글 목록: parentId/replyCount는 null이어도 쓰고 replies는 null이면 뺀다")
+    void commentList() throws Exception {
+        assertSameJson(new CommentListResponse(List.of(
+                comment(1L, null, null, null),
+                comment(2L, null, 0L, List.of()),
+                comment(3L, null, 2L, List.of(comment(4L, 3L, null, null), comment(5L, 3L, null, null)))
+        ), 1, 20, 43, true));
+    }
+
+    @Test
+    @DisplayName("시각을 숫자 배열로 쓰도록 설정한 ObjectMapper에서는 JSR-310 형식을 따른다")
+    void timestampsAsArrays() throws Exception {
+        ObjectMapper arrays = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new ResponseJsonModule())
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        PostSummaryResponse response = summary(1, "제목");
+
+        assertThat(arrays.readTree(arrays.writeValueAsString(response)).get("createdAt").isArray()).isTrue();
+    }
+}
@@ -0,0 +1,205 @@
+package com.board.cleancode.adapter.in.web;
+
+import com.board.cleancode.adapter.in.web.dto.CreateCommentRequest;
+import com.board.cleancode.adapter.in.web.dto.CreatePostRequest;
+import com.board.cleancode.application.ranking.HotPostRanking;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 샤드 3개로 띄워 게시글 배치, 댓글/좋아요 동일 샤드 배치, 샤드를 가로지르는 목록 병합을 확인한다.
+// 목록 조회가 다른 스레드에서 샤드를 읽는 경로를 타도록 트랜잭션 롤백 없이 실행하고 샤드마다 직접 정리한다
+@SpringBootTest(properties = {
+        "board.shard.count=3",
+        "board.ranking.snapshot.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("shard")
+class ShardedPersistenceIntegrationTest {
+
+    private static final int SHARDS = 3;
+    private static final String BASE_URL = "/api/posts";
+    private static final String PASSWORD = "test1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HotPostRanking hotPostRanking;
+
+    private final List<JdbcTemplate> shards = IntStream.range(0, SHARDS)
+            .mapToObj(index -> new JdbcTemplate(new DriverManagerDataSource(
+                    "jdbc:h2:mem:board-shard-" + index + ";DB_CLOSE_DELAY=-1", "sa", "")))
+            .toList();
+
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        for (int i = 0; i < 12; i++) {
+            postIds.add(createPost("글 " + i, i % 4 == 0 ? List.of("shard") : List.of()));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (JdbcTemplate shard : shards) {
+            shard.update("DELETE FROM likes");
+            shard.update("DELETE FROM comments");
+            shard.update("DELETE FROM post_hashtags");
+            shard.update("DELETE FROM post_hot_scores");
+            shard.update("DELETE FROM posts");
+        }
+        hotPostRanking.rebuild();
+    }
+
+    private Long createPost(String title, List<String> hashtags) throws Exception {
+        CreatePostRequest request = new CreatePostRequest(title, "내용", "작성자", PASSWORD, hashtags);
+        MvcResult result = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private Long createComment(Long postId) throws Exception {
+        CreateCommentRequest request = new CreateCommentRequest("댓글러", PASSWORD, "댓글");
+        MvcResult result = mockMvc.perform(post(BASE_URL + "/{postId}/comments", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private void like(Long postId) throws Exception {
+        mockMvc.perform(post(BASE_URL + "/{postId}/likes", postId)
+                        .header("X-Guest-Id", UUID.randomUUID().toString()))
+                .andExpect(status().isOk());
+    }
+
+    private JsonNode list(String query) throws Exception {
+        MvcResult result = mockMvc.perform(get(BASE_URL + query))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private static List<String> titles(JsonNode page) {
+        List<String> titles = new ArrayList<>();
+        page.get("posts").forEach(post -> titles.add(post.get("title").asText()));
+        return titles;
+    }
+
+    private static int shardOf(Long id) {
+        return (int) ((id - 1) % SHARDS);
+    }
+
+    private long rows(int shard, String sql, Object... args) {
+        Long count = shards.get(shard).queryForObject(sql, Long.class, args);
+        return count != null ? count : 0;
+    }
+
+    @Test
+    @DisplayName("게시글은 샤드에 고르게 나뉘고, 각 샤드의 id는 (id - 1) % 샤드 수가 샤드 번호가 되도록 발급된다")
+    void posts_spreadAcrossShards() {
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertThat(rows(shard, "SELECT COUNT(*) FROM posts")).isEqualTo(4);
+            assertThat(rows(shard, "SELECT COUNT(*) FROM posts WHERE MOD(id - 1, ?) <> ?", SHARDS, shard)).isZero();
+        }
+        assertThat(postIds).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("댓글과 좋아요는 게시글과 같은 샤드에 저장되고, 댓글 id로도 그 샤드를 찾는다")
+    void commentsAndLikes_colocatedWithPost() throws Exception {
+        Long postId = postIds.get(4);
+        int home = shardOf(postId);
+
+        Long commentId = createComment(postId);
+        like(postId);
+
+        assertThat(shardOf(commentId)).isEqualTo(home);
+        for (int shard = 0; shard < SHARDS; shard++) {
+            long expected = shard == home ? 1 : 0;
+            assertThat(rows(shard, "SELECT COUNT(*) FROM comments WHERE post_id = ?", postId)).isEqualTo(expected);
+            assertThat(rows(shard, "SELECT COUNT(*) FROM likes WHERE post_id = ?", postId)).isEqualTo(expected);
+        }
+        mockMvc.perform(get(BASE_URL + "/{postId}/comments/{commentId}/replies", postId, commentId))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(BASE_URL + "/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("글 4"));
+    }
+
+    @Test
+    @DisplayName("최신순 목록은 모든 샤드의 결과를 병합해 페이지를 나눈다")
+    void latest_mergedAcrossShards() throws Exception {
+        JsonNode first = list("?page=0&size=10");
+        JsonNode second = list("?page=1&size=10");
+
+        assertThat(first.get("totalElements").asLong()).isEqualTo(12);
+        assertThat(titles(first)).containsExactly(
+                "글 11", "글 10", "글 9", "글 8", "글 7", "글 6", "글 5", "글 4", "글 3", "글 2");
+        assertThat(titles(second)).containsExactly("글 1", "글 0");
+    }
+
+    @Test
+    @DisplayName("샤드당 읽을 행 수가 int를 넘는 page는 빈 페이지와 전체 건수를 돌려준다")
+    void hugePage_returnsEmptyPage() throws Exception {
+        JsonNode page = list("?page=" + Integer.MAX_VALUE + "&size=20");
+
+        assertThat(page.get("totalElements").asLong()).isEqualTo(12);
+        assertThat(titles(page)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요순 목록은 샤드별 좋아요 수로 병합한다")
+    void likes_mergedAcrossShards() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            like(postIds.get(1));
+        }
+        for (int i = 0; i < 2; i++) {
+            like(postIds.get(6));
+        }
+        like(postIds.get(8));
+
+        JsonNode page = list("?page=0&size=10&sort=likes");
+
+        assertThat(titles(page)).startsWith("글 1", "글 6", "글 8", "글 11", "글 10");
+    }
+
+    @Test
+    @DisplayName("해시태그 검색은 여러 샤드에 흩어진 게시글을 모아 센다")
+    void hashtag_searchAcrossShards() throws Exception {
+        JsonNode page = list("?searchType=hashtag&keyword=shard&size=10");
+
+        assertThat(page.get("totalElements").asLong()).isEqualTo(3);
+        assertThat(titles(page)).containsExactly("글 8", "글 4", "글 0");
+    }
+}
@@ -0,0 +1,143 @@
+package com.board.cleancode.adapter.out.memory;
+
+import com.board.cleancode.domain.model.Comment;
+import com.board.cleancode.domain.model.Like;
+import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.model.PostHeader;
+import com.board.cleancode.domain.port.out.PostRepositoryPort.PostSummaryPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentLogJournalTest {
+
+    // 기록 수십 건마다 세그먼트가 넘어가도록 작게 잡는다
+    private static final int SEGMENT_BYTES = 4096;
+
+    @TempDir
+    private Path directory;
+
+    private SegmentLogJournal journal;
+    private PostInMemoryAdapter posts;
+    private CommentInMemoryAdapter comments;
+    private LikeInMemoryAdapter likes;
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    private void open() {
+        if (journal != null) {
+            journal.close();
+        }
+        journal = new SegmentLogJournal(directory.toString(), SEGMENT_BYTES, "always", 2);
+        InMemoryBoardStore store = new InMemoryBoardStore(Optional.of(journal));
+        store.open();
+        posts = new PostInMemoryAdapter(store);
+        comments = new CommentInMemoryAdapter(store);
+        likes = new LikeInMemoryAdapter(store);
+    }
+
+    private long filesStartingWith(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)).count();
+        }
+    }
+
+    // 게시글 30건 (5건마다 삭제), 게시글마다 댓글/답글과 좋아요, 일부 조회수 증가
+    private Long writeWorkload() {
+        Long lastPostId = null;
+        for (int i = 0; i < 30; i++) {
+            Post post = posts.save(Post.create("제목 " + i, "본문 " + i, "작성자", "encoded", List.of("java")));
+            lastPostId = post.getId();
+
+            Comment comment = comments.save(Comment.create(post.getId(), "댓글작성자", "encoded", "댓글 " + i));
+            comments.save(Comment.createReply(post.getId(), comment.getId(), "답글작성자", "encoded", "답글"));
+            comments.adjustActiveReplyCount(comment.getId(), 1);
+            posts.adjustActiveCommentCount(post.getId(), 2);
+
+            for (int guest = 0; guest <= i % 3; guest++) {
+                likes.save(Like.create(post.getId(), "guest-" + guest));
+            }
+            for (int view = 0; view < i; view++) {
+                Post viewed = posts.findById(post.getId()).orElseThrow();
+                viewed.incrementViewCount();
+                posts.save(viewed);
+            }
+            if (i % 5 == 0) {
+                Post deleted = posts.findById(post.getId()).orElseThrow();
+                deleted.markDeleted();
+                posts.save(deleted);
+            }
+        }
+        return lastPostId;
+    }
+
+    private void assertWorkloadRestored(Long lastPostId) {
+        PostSummaryPage byViews = posts.findAll(0, 3, "views");
+        assertThat(byViews.totalElements()).isEqualTo(24);
+        assertThat(byViews.content()).extracting(PostHeader::title).containsExactly("제목 29", "제목 28", "제목 27");
+        assertThat(byViews.content().get(0).activeCommentCount()).isEqualTo(2);
+
+        PostSummaryPage byLikes = posts.findAll(0, 1, "likes");
+        assertThat(likes.countByPostId(byLikes.content().get(0).id())).isEqualTo(3);
+
+        assertThat(posts.searchByHashtag("java", 0, 10, "latest").totalElements()).isEqualTo(24);
+        assertThat(posts.countDeleted()).isEqualTo(6);
+        assertThat(comments.countByPostId(lastPostId)).isEqualTo(2);
+        assertThat(comments.countAllByDeletedFalse()).isEqualTo(48);
+        assertThat(posts.findActiveCommentCountDrift()).isEmpty();
+        assertThat(comments.findActiveReplyCountDrift()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 열면 세그먼트 로그를 재생해 같은 상태와 인덱스를 복원한다")
+    void reopen_replaysSegments() throws IOException {
+        open();
+        Long lastPostId = writeWorkload();
+        assertThat(filesStartingWith("segment-")).isGreaterThan(1);
+
+        open();
+
+        assertWorkloadRestored(lastPostId);
+        // 정리된 id를 다시 쓰지 않고 이어서 발급한다
+        assertThat(posts.save(Post.create("새 글", "본문", "작성자", "encoded", List.of())).getId())
+                .isGreaterThan(lastPostId);
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후에는 이전 세그먼트를 지우고, 체크포인트와 이후 세그먼트로 복원한다")
+    void checkpoint_replacesOlderSegments() throws IOException {
+        open();
+        Long lastPostId = writeWorkload();
+        long segmentsBefore = filesStartingWith("segment-");
+
+        journal.compact();
+        assertThat(filesStartingWith("checkpoint-")).isEqualTo(1);
+        assertThat(filesStartingWith("segment-")).isEqualTo(1).isLessThan(segmentsBefore);
+
+        // 체크포인트 이후의 변경은 새 세그먼트에서 재생된다
+        Post post = posts.findById(lastPostId).orElseThrow();
+        post.markDeleted();
+        posts.save(post);
+        likes.deleteBatchByPostId(lastPostId, 10);
+
+        open();
+
+        assertThat(posts.findById(lastPostId)).isEmpty();
+        assertThat(likes.countByPostId(lastPostId)).isZero();
+        assertThat(posts.count()).isEqualTo(23);
+        assertThat(posts.countDeleted()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,30 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCodecTest {
+
+    private static final String LONG_CONTENT = "2026-10-19 INFO 요청을 처리했습니다. ".repeat(200);
+
+    @Test
+    @DisplayName("긴 본문은 압축해 저장하고, 읽을 때 원문으로 풀린다")
+    void longContent_roundTrip() {
+        ContentCodec.Stored stored = ContentCodec.store(LONG_CONTENT);
+
+        assertThat(stored.text()).isNull();
+        assertThat(stored.compressed()).isNotNull();
+        assertThat(ContentCodec.load(stored.text(), stored.compressed())).isEqualTo(LONG_CONTENT);
+    }
+
+    @Test
+    @DisplayName("짧은 본문은 원문으로 저장한다")
+    void shortContent_storedPlain() {
+        ContentCodec.Stored stored = ContentCodec.store("짧은 본문");
+
+        assertThat(stored.text()).isEqualTo("짧은 본문");
+        assertThat(stored.compressed()).isNull();
+    }
+}
@@ -0,0 +1,55 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadedContentsTest {
+
+    private static final String LONG_CONTENT = "2026-10-19 INFO 요청을 처리했습니다. ".repeat(200);
+
+    private final Object owner = new Object();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(owner);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션에서 읽은 본문을 그대로 저장하면 바뀌지 않은 것으로 본다")
+    void loadedContent_unchanged() {
+        TransactionSynchronizationManager.initSynchronization();
+        String loaded = LoadedContents.load(owner, 1L, null, ContentCodec.store(LONG_CONTENT).compressed());
+
+        assertThat(loaded).isEqualTo(LONG_CONTENT);
+        assertThat(LoadedContents.unchanged(owner, 1L, loaded)).isTrue();
+        assertThat(LoadedContents.unchanged(owner, 1L, loaded + "수정")).isFalse();
+        assertThat(LoadedContents.unchanged(owner, 2L, loaded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장한 본문으로 바꿔 기억하므로 다시 예전 본문을 저장하면 바뀐 것으로 본다")
+    void remember_replacesLoadedContent() {
+        TransactionSynchronizationManager.initSynchronization();
+        LoadedContents.load(owner, 1L, LONG_CONTENT, null);
+
+        LoadedContents.remember(owner, 1L, "수정한 본문");
+
+        assertThat(LoadedContents.unchanged(owner, 1L, LONG_CONTENT)).isFalse();
+        assertThat(LoadedContents.unchanged(owner, 1L, "수정한 본문")).isTrue();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 읽은 본문은 기억하지 않는다")
+    void outsideTransaction_notRemembered() {
+        String loaded = LoadedContents.load(owner, 1L, LONG_CONTENT, null);
+
+        assertThat(LoadedContents.unchanged(owner, 1L, loaded)).isFalse();
+    }
+}
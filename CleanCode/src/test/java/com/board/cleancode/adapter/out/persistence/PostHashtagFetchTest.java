@@ -0,0 +1,133 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.model.PostHeader;
+import com.board.cleancode.domain.port.out.PostRepositoryPort.PostSummaryPage;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 매 조회 전에 2차 캐시를 비워 DB에서 읽을 때 실행되는 SQL 수를 센다.
+// 스냅샷 갱신과 삭제 정리 스케줄러가 통계에 섞이지 않도록 끄거나 주기를 길게 잡는다
+@SpringBootTest(properties = {
+        "board.ranking.snapshot.enabled=false",
+        "board.purge.interval-ms=3600000"
+})
+@DisabledIfSystemProperty(named = "spring.profiles.active", matches = ".*(jdbc|memory|replica).*",
+        disabledReason = "JPA 저장소 어댑터의 해시태그 로딩을 검사한다")
+class PostHashtagFetchTest {
+
+    private static final int POSTS = 25;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private PostPersistenceAdapter postPersistenceAdapter;
+
+    @Autowired
+    private PostJpaRepository postJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < POSTS; i++) {
+            postIds.add(postPersistenceAdapter.save(
+                    Post.create("제목 " + i, "본문", "작성자", "encoded", List.of("java", "spring", "jpa"))).getId());
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM post_hashtags");
+        jdbcTemplate.update("DELETE FROM posts");
+        evictCaches();
+    }
+
+    private void evictCaches() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private void startCounting() {
+        evictCaches();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("목록 한 페이지는 페이지 조회와 카운트 두 번이며 해시태그를 읽지 않는다")
+    void findAll_doesNotLoadHashtags() {
+        startCounting();
+
+        PostSummaryPage page = postPersistenceAdapter.findAll(0, PAGE_SIZE, "latest");
+
+        assertThat(page.content()).hasSize(PAGE_SIZE);
+        assertThat(page.totalElements()).isEqualTo(POSTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("해시태그 검색은 행이 해시태그 수만큼 늘지 않고 두 번의 SQL로 끝난다")
+    void searchByHashtag_doesNotMultiplyRows() {
+        startCounting();
+
+        PostSummaryPage page = postPersistenceAdapter.searchByHashtag("java", 0, PAGE_SIZE, "latest");
+
+        assertThat(page.content()).hasSize(PAGE_SIZE);
+        assertThat(page.content()).extracting(PostHeader::id).doesNotHaveDuplicates();
+        assertThat(page.totalElements()).isEqualTo(POSTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("단건 조회는 게시글 한 번, 해시태그 한 번을 읽는다")
+    void findById_loadsHashtagsOnce() {
+        startCounting();
+
+        Post post = postPersistenceAdapter.findById(postIds.get(0)).orElseThrow();
+
+        assertThat(post.getHashtags()).containsExactly("java", "spring", "jpa");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글 여러 건의 해시태그는 IN 조회 한 번으로 채워진다")
+    void findAllById_batchesHashtags() {
+        List<Long> pageIds = postIds.subList(0, PAGE_SIZE);
+        startCounting();
+
+        List<Post> posts = transactionTemplate.execute(status ->
+                postJpaRepository.findAllById(pageIds).stream()
+                        .map(PostJpaEntity::toDomain)
+                        .toList());
+
+        assertThat(posts).hasSize(PAGE_SIZE)
+                .allSatisfy(post -> assertThat(post.getHashtags()).containsExactly("java", "spring", "jpa"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
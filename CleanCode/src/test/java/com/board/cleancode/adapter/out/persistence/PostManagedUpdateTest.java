@@ -0,0 +1,114 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.Post;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서비스처럼 한 트랜잭션에서 읽고 고친 뒤 저장할 때, 커밋 시점에 나가는 SQL만 센다.
+// 스냅샷 갱신과 삭제 정리 스케줄러가 통계에 섞이지 않도록 끄거나 주기를 길게 잡는다
+@SpringBootTest(properties = {
+        "board.ranking.snapshot.enabled=false",
+        "board.purge.interval-ms=3600000"
+})
+@DisabledIfSystemProperty(named = "spring.profiles.active", matches = ".*(jdbc|memory|replica).*",
+        disabledReason = "JPA 저장소 어댑터의 더티 체킹을 검사한다")
+class PostManagedUpdateTest {
+
+    @Autowired
+    private PostPersistenceAdapter postPersistenceAdapter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = postPersistenceAdapter.save(
+                Post.create("제목", "본문", "작성자", "encoded", List.of("java", "spring", "jpa"))).getId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM post_hashtags");
+        jdbcTemplate.update("DELETE FROM posts");
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    // 게시글과 해시태그를 읽어 둔 뒤부터 세므로 저장과 커밋에서 나가는 SQL만 남는다
+    private void updateInTransaction(Consumer<Post> change) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = postPersistenceAdapter.findById(postId).orElseThrow();
+            statistics.clear();
+            change.accept(post);
+            postPersistenceAdapter.save(post);
+        });
+    }
+
+    @Test
+    @DisplayName("조회수 증가는 게시글 UPDATE 한 번이며 다시 읽거나 해시태그를 다시 쓰지 않는다")
+    void incrementViewCount_updatesPostOnly() {
+        updateInTransaction(Post::incrementViewCount);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+        assertThat(postPersistenceAdapter.findById(postId).orElseThrow().getViewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("바뀐 것이 없는 저장은 SQL을 내보내지 않는다")
+    void unchangedSave_issuesNoStatements() {
+        updateInTransaction(post -> { });
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("해시태그는 바뀐 자리만 고치고 붙은 자리만 추가하며 순서를 지킨다")
+    void updateHashtags_appliesPositionalDiff() {
+        updateInTransaction(post -> post.update("제목", "본문", List.of("java", "boot", "jpa", "redis")));
+
+        // 게시글 UPDATE, 1번 자리 UPDATE, 3번 자리 INSERT
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(statistics.getCollectionUpdateCount()).isEqualTo(1);
+        assertThat(postPersistenceAdapter.findById(postId).orElseThrow().getHashtags())
+                .containsExactly("java", "boot", "jpa", "redis");
+    }
+
+    @Test
+    @DisplayName("해시태그가 줄면 뒤쪽 자리만 지운다")
+    void shrinkHashtags_deletesTail() {
+        updateInTransaction(post -> post.update("제목", "본문", List.of("java")));
+
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(postPersistenceAdapter.findById(postId).orElseThrow().getHashtags())
+                .containsExactly("java");
+    }
+}
@@ -0,0 +1,166 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.Post;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 트랜잭션 없이 어댑터를 호출하므로 호출마다 새 영속성 컨텍스트로 읽는다. 같은 게시글을 다시 읽으면 2차 캐시에서 채워진다
+@SpringBootTest
+@DisabledIfSystemProperty(named = "spring.profiles.active", matches = ".*(jdbc|memory|replica).*",
+        disabledReason = "JPA 저장소 어댑터의 2차 캐시를 검사한다")
+class PostSecondLevelCacheTest {
+
+    @Autowired
+    private PostPersistenceAdapter postPersistenceAdapter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM post_hashtags");
+        jdbcTemplate.update("DELETE FROM posts");
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private Long createPost() {
+        return postPersistenceAdapter.save(
+                Post.create("제목", "본문", "작성자", "encoded", List.of("java", "spring"))).getId();
+    }
+
+    // 첫 조회로 게시글과 해시태그 컬렉션을 캐시에 올린다
+    private Post readTwice(Long postId) {
+        postPersistenceAdapter.findById(postId).orElseThrow();
+        statistics.clear();
+        return postPersistenceAdapter.findById(postId).orElseThrow();
+    }
+
+    private long hits(String region) {
+        return statistics.getDomainDataRegionStatistics(region).getHitCount();
+    }
+
+    @Test
+    @DisplayName("다시 읽은 게시글과 해시태그는 SQL 없이 2차 캐시에서 채워진다")
+    void findById_servedFromCache() {
+        Long postId = createPost();
+
+        Post post = readTwice(postId);
+
+        assertThat(post.getTitle()).isEqualTo("제목");
+        assertThat(post.getHashtags()).containsExactly("java", "spring");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(hits(SecondLevelCacheConfig.POSTS_REGION)).isEqualTo(1);
+        assertThat(hits(SecondLevelCacheConfig.POST_HASHTAGS_REGION)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("save로 수정하면 캐시 항목이 새 제목과 해시태그로 바뀐다")
+    void save_replacesCachedEntry() {
+        Long postId = createPost();
+        Post post = readTwice(postId);
+
+        post.update("새 제목", "새 본문", List.of("jpa"));
+        postPersistenceAdapter.save(post);
+        statistics.clear();
+
+        Post updated = postPersistenceAdapter.findById(postId).orElseThrow();
+        assertThat(updated.getTitle()).isEqualTo("새 제목");
+        assertThat(updated.getContent()).isEqualTo("새 본문");
+        assertThat(updated.getHashtags()).containsExactly("jpa");
+        assertThat(hits(SecondLevelCacheConfig.POSTS_REGION)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제 표시로 저장한 게시글은 캐시에 남아 있어도 조회되지 않는다")
+    void save_markDeleted_hidesCachedPost() {
+        Long postId = createPost();
+        Post post = readTwice(postId);
+
+        post.markDeleted();
+        postPersistenceAdapter.save(post);
+
+        assertThat(postPersistenceAdapter.findById(postId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteById는 캐시 항목을 지운다")
+    void deleteById_evictsEntry() {
+        Long postId = createPost();
+        readTwice(postId);
+        assertThat(entityManagerFactory.getCache().contains(PostJpaEntity.class, postId)).isTrue();
+
+        postPersistenceAdapter.deleteById(postId);
+
+        assertThat(entityManagerFactory.getCache().contains(PostJpaEntity.class, postId)).isFalse();
+        assertThat(postPersistenceAdapter.findById(postId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("활성 댓글 수 증감 UPDATE 이후에는 캐시가 아닌 새 값을 읽는다")
+    void adjustActiveCommentCount_evictsEntry() {
+        Long postId = createPost();
+        readTwice(postId);
+
+        transactionTemplate.executeWithoutResult(status -> postPersistenceAdapter.adjustActiveCommentCount(postId, 3));
+
+        assertThat(entityManagerFactory.getCache().contains(PostJpaEntity.class, postId)).isFalse();
+        assertThat(postPersistenceAdapter.findById(postId).orElseThrow().getActiveCommentCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회와 댓글이 있어도 본 게시글은 새 조회수로, 다른 게시글은 그대로 캐시에서 읽는다")
+    void viewAndComment_keepCachedEntries() {
+        Long viewedId = createPost();
+        Long otherId = createPost();
+        readTwice(viewedId);
+        readTwice(otherId);
+
+        // PostService.getPost와 같은 순서: 읽고, 조회수를 올려 저장한다
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = postPersistenceAdapter.findById(viewedId).orElseThrow();
+            post.incrementViewCount();
+            postPersistenceAdapter.save(post);
+        });
+        statistics.clear();
+        Post viewed = postPersistenceAdapter.findById(viewedId).orElseThrow();
+        assertThat(viewed.getViewCount()).isEqualTo(1);
+        assertThat(hits(SecondLevelCacheConfig.POSTS_REGION)).isEqualTo(1);
+
+        transactionTemplate.executeWithoutResult(status -> postPersistenceAdapter.adjustActiveCommentCount(viewedId, 1));
+        statistics.clear();
+        postPersistenceAdapter.findById(otherId).orElseThrow();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(hits(SecondLevelCacheConfig.POSTS_REGION)).isEqualTo(1);
+
+        Post commented = postPersistenceAdapter.findById(viewedId).orElseThrow();
+        assertThat(commented.getViewCount()).isEqualTo(1);
+        assertThat(commented.getActiveCommentCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// H2 EXPLAIN 결과에서 인덱스 조건 없이 테이블 전체를 읽는 구간을 찾는다
+// 예) FROM "PUBLIC"."COMMENTS" "C1_0" /* PUBLIC.COMMENTS.tableScan */
+//     FROM "PUBLIC"."COMMENTS" "C1_0" /* PUBLIC.IDX_COMMENTS_POST_PARENT_CREATED: POST_ID = ?1 */
+class QueryPlanAdvisor {
+
+    private static final Pattern TABLE_ACCESS =
+            Pattern.compile("\"PUBLIC\"\\.\"(\\w+)\"(?:\\s+\"?\\w+\"?)?\\s*/\\*\\s*([^*]+?)\\s*\\*/");
+
+    // 파라미터로 특정 게시글/부모 댓글을 지정하는 조회는 반드시 인덱스를 타야 한다
+    private static final Pattern KEYED_PREDICATE =
+            Pattern.compile("\\b(post_id|parent_id)\\s*(=\\s*\\?|in\\s*\\(\\s*\\?)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<String> guardedTables;
+
+    QueryPlanAdvisor(JdbcTemplate jdbcTemplate, Set<String> guardedTables) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.guardedTables = guardedTables;
+    }
+
+    List<Finding> inspect(Collection<String> statements) {
+        List<Finding> findings = new ArrayList<>();
+        for (String sql : statements) {
+            if (!isExplainable(sql)) {
+                continue;
+            }
+            String plan;
+            try {
+                plan = explain(sql);
+            } catch (DataAccessException e) {
+                findings.add(new Finding(sql, null, "EXPLAIN 실패: " + e.getMostSpecificCause().getMessage(), false));
+                continue;
+            }
+            Matcher matcher = TABLE_ACCESS.matcher(plan);
+            while (matcher.find()) {
+                String table = matcher.group(1);
+                String access = matcher.group(2);
+                // 인덱스 조건(":")이 없으면 테이블 또는 인덱스 전체를 훑는다
+                if (guardedTables.contains(table) && !access.contains(":")) {
+                    boolean keyed = KEYED_PREDICATE.matcher(sql.toLowerCase(Locale.ROOT)).find();
+                    findings.add(new Finding(sql, table, plan, keyed));
+                }
+            }
+        }
+        return findings;
+    }
+
+    private boolean isExplainable(String sql) {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        return lower.startsWith("select") || lower.startsWith("update") || lower.startsWith("delete");
+    }
+
+    // H2의 EXPLAIN은 파라미터 값을 바인딩하지 않아도 실행 계획을 돌려준다
+    private String explain(String sql) {
+        List<String> rows = jdbcTemplate.query(
+                connection -> connection.prepareStatement("EXPLAIN " + sql),
+                (rs, rowNum) -> rs.getString(1));
+        return String.join("\n", rows);
+    }
+
+    // keyed: post_id/parent_id 파라미터 조건이 있는데도 전체 스캔하는 경우 (실패 대상)
+    record Finding(String sql, String table, String plan, boolean keyed) {
+    }
+}
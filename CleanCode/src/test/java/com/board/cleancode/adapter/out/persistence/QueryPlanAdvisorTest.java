@@ -0,0 +1,171 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.adapter.in.web.dto.CreateCommentRequest;
+import com.board.cleancode.adapter.in.web.dto.CreatePostRequest;
+import com.board.cleancode.adapter.in.web.dto.DeleteCommentRequest;
+import com.board.cleancode.adapter.in.web.dto.DeletePostRequest;
+import com.board.cleancode.adapter.out.persistence.QueryPlanAdvisor.Finding;
+import com.board.cleancode.domain.port.in.CompactDeletedCommentsUseCase;
+import com.board.cleancode.domain.port.in.PurgeDeletedPostsUseCase;
+import com.board.cleancode.support.BoardDataCleaner;
+import com.board.cleancode.support.SqlCapturingDataSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 스위트 마지막에 실행되어(junit-platform.properties) 앞선 테스트가 DataSource로 보낸 모든 SQL의 실행 계획을 검사한다
+@Order(Integer.MAX_VALUE)
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(BoardDataCleaner.class)
+class QueryPlanAdvisorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryPlanAdvisorTest.class);
+
+    private static final int SEEDED_POSTS = 200;
+    private static final int COMMENTS_PER_POST = 10;
+    private static final int LIKES_PER_POST = 5;
+    private static final Set<String> GUARDED_TABLES = Set.of("COMMENTS", "LIKES");
+    private static final String PASSWORD = "test1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoardDataCleaner boardDataCleaner;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PurgeDeletedPostsUseCase purgeDeletedPostsUseCase;
+
+    @Autowired
+    private CompactDeletedCommentsUseCase compactDeletedCommentsUseCase;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO posts (title, content, author, password, view_count, active_comment_count, deleted, " +
+                "created_at, updated_at) " +
+                "SELECT 'seed', 'seed', 'seed', 'seed', 0, 0, FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, " + SEEDED_POSTS + ")");
+        jdbcTemplate.update("INSERT INTO comments (post_id, parent_id, author, password, content, deleted, active_reply_count, " +
+                "created_at) " +
+                "SELECT p.id, NULL, 'seed', 'seed', 'seed', FALSE, 0, CURRENT_TIMESTAMP " +
+                "FROM posts p, SYSTEM_RANGE(1, " + COMMENTS_PER_POST + ")");
+        jdbcTemplate.update("INSERT INTO comments (post_id, parent_id, author, password, content, deleted, active_reply_count, " +
+                "created_at) " +
+                "SELECT c.post_id, c.id, 'seed', 'seed', 'seed', FALSE, 0, CURRENT_TIMESTAMP " +
+                "FROM comments c WHERE c.parent_id IS NULL");
+        jdbcTemplate.update("INSERT INTO likes (post_id, guest_id) " +
+                "SELECT p.id, CONCAT('seed-', x) FROM posts p, SYSTEM_RANGE(1, " + LIKES_PER_POST + ")");
+        // 실제 데이터 분포로 선택도를 갱신해야 옵티마이저가 운영과 비슷한 계획을 고른다
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        boardDataCleaner.clean();
+    }
+
+    private Long idOf(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    // 게시글/댓글/답글/좋아요의 주요 경로를 한 번씩 실행해 SQL을 수집한다
+    private void runWorkload() throws Exception {
+        Long postId = idOf(mockMvc.perform(post("/api/posts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreatePostRequest("제목", "내용", "작성자", PASSWORD, List.of("태그")))))
+                .andExpect(status().isCreated())
+                .andReturn());
+        Long commentId = idOf(mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateCommentRequest("댓글", PASSWORD, "댓글"))))
+                .andExpect(status().isCreated())
+                .andReturn());
+        Long replyId = idOf(mockMvc.perform(post("/api/posts/{postId}/comments/{commentId}/replies", postId, commentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateCommentRequest("답글", PASSWORD, "답글"))))
+                .andExpect(status().isCreated())
+                .andReturn());
+
+        mockMvc.perform(get("/api/posts/{id}", postId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId).param("replyPreview", "3"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId).param("cursor", ""))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts/{postId}/comments/{commentId}/replies", postId, commentId))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts/{postId}/comments/{commentId}/replies", postId, commentId)
+                        .param("cursor", ""))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/posts/{postId}/likes", postId).header("X-Guest-Id", "advisor"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/posts/{postId}/likes", postId).header("X-Guest-Id", "advisor"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/posts/{postId}/comments/{commentId}", postId, replyId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DeleteCommentRequest(PASSWORD))))
+                .andExpect(status().isNoContent());
+        while (!compactDeletedCommentsUseCase.compactNextBatch(100).isIdle()) {
+            // 삭제 표시된 답글이 없어질 때까지 압축
+        }
+        mockMvc.perform(get("/api/posts").param("sort", "likes")).andExpect(status().isOk());
+        mockMvc.perform(delete("/api/posts/{id}", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DeletePostRequest(PASSWORD))))
+                .andExpect(status().isNoContent());
+        while (!purgeDeletedPostsUseCase.purgeNextBatch(100).isIdle()) {
+            // 정리 대상이 없어질 때까지 배치 실행
+        }
+    }
+
+    @Test
+    @DisplayName("게시글/부모 댓글 단위 조회는 댓글·좋아요 테이블을 전체 스캔하지 않는다")
+    void keyedStatements_useIndexes() throws Exception {
+        runWorkload();
+
+        QueryPlanAdvisor advisor = new QueryPlanAdvisor(jdbcTemplate, GUARDED_TABLES);
+        List<Finding> findings = advisor.inspect(SqlCapturingDataSource.captured());
+
+        // 집계처럼 의도적으로 전체를 읽는 쿼리는 보고만 한다
+        findings.stream()
+                .filter(finding -> !finding.keyed())
+                .forEach(finding -> log.info("전체 스캔 [{}]: {}\n{}", finding.table(), finding.sql(), finding.plan()));
+
+        List<Finding> violations = findings.stream()
+                .filter(Finding::keyed)
+                .toList();
+        assertThat(violations)
+                .as(() -> violations.stream()
+                        .map(finding -> finding.sql() + "\n" + finding.plan())
+                        .collect(Collectors.joining("\n\n")))
+                .isEmpty();
+    }
+}
@@ -0,0 +1,94 @@
+package com.board.cleancode.adapter.out.persistence;
+
+import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import com.board.cleancode.domain.port.out.PostRepositoryPort.PostSummaryPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 사전은 지우지 않는 것을 전제로 하므로 tags는 정리하지 않는다 (지우면 메모리의 id와 테이블이 어긋난다)
+@SpringBootTest(properties = "board.ranking.snapshot.enabled=false")
+@DisabledIfSystemProperty(named = "spring.profiles.active", matches = ".*memory.*",
+        disabledReason = "메모리 저장소는 해시태그 사전을 쓰지 않는다")
+class TagDictionaryTest {
+
+    @Autowired
+    private PostRepositoryPort postRepository;
+
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM post_hashtags");
+        jdbcTemplate.update("DELETE FROM posts");
+    }
+
+    private Long save(List<String> hashtags) {
+        return postRepository.save(Post.create("제목", "본문", "작성자", "encoded", hashtags)).getId();
+    }
+
+    @Test
+    @DisplayName("같은 해시태그는 게시글이 달라도 사전의 String 하나를 가리킨다")
+    void sameTag_sharesOneInstance() {
+        Long first = save(List.of(new String("dictionary"), "spring"));
+        Long second = save(List.of(new String("dictionary")));
+
+        Post firstPost = postRepository.findById(first).orElseThrow();
+        Post secondPost = postRepository.findById(second).orElseThrow();
+
+        assertThat(firstPost.getHashtags()).containsExactly("dictionary", "spring");
+        assertThat(firstPost.getHashtags().get(0)).isSameAs(secondPost.getHashtags().get(0));
+    }
+
+    @Test
+    @DisplayName("post_hashtags에는 사전의 id만 순서대로 저장된다")
+    void postHashtags_storeTagIds() {
+        Long postId = save(List.of("dict-a", "dict-b"));
+
+        List<Integer> stored = jdbcTemplate.queryForList(
+                "SELECT tag_id FROM post_hashtags WHERE post_id = ? ORDER BY hashtag_order", Integer.class, postId);
+
+        assertThat(stored).containsExactly(
+                tagDictionary.findId("dict-a").getAsInt(), tagDictionary.findId("dict-b").getAsInt());
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM tags WHERE id = ?", String.class, stored.get(1)))
+                .isEqualTo("dict-b");
+    }
+
+    @Test
+    @DisplayName("사전에 있는 태그로 검색하면 해당 게시글을 찾는다")
+    void searchByHashtag_knownTag() {
+        save(List.of("dict-search"));
+        save(List.of("dict-other"));
+
+        PostSummaryPage page = postRepository.searchByHashtag("dict-search", 0, 10, "latest");
+
+        assertThat(page.totalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사전에 없는 태그로 검색하면 태그를 만들지 않고 빈 결과를 돌려준다")
+    void searchByHashtag_unknownTag() {
+        save(List.of("dict-known"));
+        Long tagsBefore = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Long.class);
+
+        PostSummaryPage page = postRepository.searchByHashtag("missing-" + UUID.randomUUID(), 0, 10, "latest");
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.totalElements()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Long.class)).isEqualTo(tagsBefore);
+    }
+}
@@ -0,0 +1,60 @@
+package com.board.cleancode.benchmark;
+
+import com.board.cleancode.adapter.out.persistence.ContentCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 본문 압축의 압축률과 CPU 비용 (Deflate BEST_SPEED)
+// 실행: ./gradlew benchmark --tests '*ContentCompressionBenchmarkTest'
+@Tag("benchmark")
+class ContentCompressionBenchmarkTest {
+
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 2_000;
+
+    private static String logText(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        Random random = new Random(42);
+        while (builder.length() < length) {
+            builder.append("2024-01-01 12:")
+                    .append(random.nextInt(60)).append(':').append(random.nextInt(60))
+                    .append(" INFO  [http-nio-8080-exec-").append(random.nextInt(10))
+                    .append("] c.b.c.application.service.PostService - post ")
+                    .append(random.nextInt(100_000)).append(" viewed\n");
+        }
+        return builder.substring(0, length);
+    }
+
+    @Test
+    @DisplayName("로그 형태 본문의 크기별 압축률과 압축/해제 시간")
+    void compressionRatioAndCost() {
+        System.out.printf("%-10s %10s %10s %8s%n", "원문(자)", "원문(B)", "압축(B)", "비율");
+        for (int length : new int[]{4 * 1024, 32 * 1024, 128 * 1024}) {
+            String text = logText(length);
+            byte[] compressed = ContentCodec.compress(text);
+            assertThat(compressed).isNotNull();
+
+            int rawBytes = text.getBytes(StandardCharsets.UTF_8).length;
+            System.out.printf("%-10d %10d %10d %7.1f%%%n",
+                    length, rawBytes, compressed.length, 100.0 * compressed.length / rawBytes);
+            System.out.println(Measurement.run("  compress " + length, WARMUP, ITERATIONS,
+                    () -> ContentCodec.compress(text)));
+            System.out.println(Measurement.run("  decompress " + length, WARMUP, ITERATIONS,
+                    () -> ContentCodec.decompress(compressed)));
+
+            assertThat(ContentCodec.decompress(compressed)).isEqualTo(text);
+        }
+    }
+
+    @Test
+    @DisplayName("기준 길이 미만 본문은 압축하지 않는다")
+    void shortContent_notCompressed() {
+        assertThat(ContentCodec.compress(logText(ContentCodec.COMPRESSION_THRESHOLD - 1))).isNull();
+    }
+}
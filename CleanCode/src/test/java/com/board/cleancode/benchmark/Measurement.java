@@ -0,0 +1,38 @@
+package com.board.cleancode.benchmark;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+// 벤치마크용 간이 측정기: 워밍업 후 반복 실행하여 호출당 시간과 현재 스레드의 할당 바이트를 잰다
+final class Measurement {
+
+    private Measurement() {
+    }
+
+    static Result run(String name, int warmup, int iterations, Runnable operation) {
+        for (int i = 0; i < warmup; i++) {
+            operation.run();
+        }
+
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Result(name, (double) elapsed / iterations, (double) allocated / iterations);
+    }
+
+    record Result(String name, double nanosPerOp, double bytesAllocatedPerOp) {
+
+        @Override
+        public String toString() {
+            return String.format("%-32s %12.1f ns/op %14.0f B/op", name, nanosPerOp, bytesAllocatedPerOp);
+        }
+    }
+}
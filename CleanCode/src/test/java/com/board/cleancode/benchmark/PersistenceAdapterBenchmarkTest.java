@@ -0,0 +1,88 @@
+package com.board.cleancode.benchmark;
+
+import com.board.cleancode.adapter.out.persistence.PostJdbcPersistenceAdapter;
+import com.board.cleancode.adapter.out.persistence.PostRankingSnapshot;
+import com.board.cleancode.adapter.out.persistence.TagDictionary;
+import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 저장소: JPA 어댑터(기본) vs JdbcClient 어댑터(jdbc 프로필)를 같은 DB에서 비교
+// 실행: ./gradlew benchmark --tests '*PersistenceAdapterBenchmarkTest'
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class PersistenceAdapterBenchmarkTest {
+
+    private static final int SEEDED_POSTS = 200;
+    private static final int WARMUP = 1_000;
+    private static final int ITERATIONS = 5_000;
+    private static final List<String> HASHTAGS = List.of("java", "spring", "jdbc");
+
+    @Autowired
+    private PostRepositoryPort jpaAdapter;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private PostRankingSnapshot rankingSnapshot;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private PostRepositoryFlows flows;
+    private PostRepositoryPort jdbcAdapter;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        flows = new PostRepositoryFlows(transactionTemplate, HASHTAGS);
+        jdbcAdapter = new PostJdbcPersistenceAdapter(jdbcClient, jdbcTemplate, tagDictionary, Optional.of(rankingSnapshot));
+        // 두 어댑터가 같은 테이블을 쓰므로 한 번만 채운다
+        postId = flows.seed(jpaAdapter, SEEDED_POSTS);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM post_hashtags");
+        jdbcTemplate.update("DELETE FROM posts");
+    }
+
+    @Test
+    @DisplayName("조회/작성/목록 흐름별 호출당 시간과 할당량")
+    void jpa_vs_jdbc() {
+        List<Measurement.Result> results = List.of(
+                Measurement.run("JPA  view (find+save)", WARMUP, ITERATIONS, flows.view(jpaAdapter, postId)),
+                Measurement.run("JDBC view (find+save)", WARMUP, ITERATIONS, flows.view(jdbcAdapter, postId)),
+                Measurement.run("JPA  create", WARMUP, ITERATIONS, flows.create(jpaAdapter)),
+                Measurement.run("JDBC create", WARMUP, ITERATIONS, flows.create(jdbcAdapter)),
+                Measurement.run("JPA  list latest 20", WARMUP, ITERATIONS, flows.list(jpaAdapter, "latest")),
+                Measurement.run("JDBC list latest 20", WARMUP, ITERATIONS, flows.list(jdbcAdapter, "latest"))
+        );
+
+        System.out.printf("게시글 %d건, 해시태그 %d개/건%n", SEEDED_POSTS, HASHTAGS.size());
+        results.forEach(System.out::println);
+
+        // 영속성 컨텍스트/merge 스냅샷이 없으므로 조회-저장 흐름의 할당량이 줄어야 한다
+        assertThat(results.get(1).bytesAllocatedPerOp()).isLessThan(results.get(0).bytesAllocatedPerOp());
+    }
+}
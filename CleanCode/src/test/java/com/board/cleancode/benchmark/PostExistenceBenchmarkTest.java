@@ -0,0 +1,88 @@
+package com.board.cleancode.benchmark;
+
+import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 존재 확인만 필요한 가드 조회: 엔티티 전체 조회(findById) vs existsById
+// 실행: ./gradlew benchmark --tests '*PostExistenceBenchmarkTest'
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PostExistenceBenchmarkTest {
+
+    private static final int CONTENT_LENGTH = 32 * 1024;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+
+    @Autowired
+    private PostRepositoryPort postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        Post post = Post.create("벤치마크", "x".repeat(CONTENT_LENGTH), "작성자", "encoded",
+                List.of("java", "spring", "jpa", "h2", "benchmark"));
+        postId = postRepository.save(post).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM post_hashtags WHERE post_id = ?", postId);
+        jdbcTemplate.update("DELETE FROM post_search_texts WHERE post_id = ?", postId);
+        jdbcTemplate.update("DELETE FROM posts WHERE id = ?", postId);
+    }
+
+    @Test
+    @DisplayName("existsById는 본문과 해시태그를 읽지 않아 호출당 할당량이 줄어든다")
+    void existsById_vs_findById() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        int calls = WARMUP + ITERATIONS;
+
+        statistics.clear();
+        Measurement.Result findById = Measurement.run("findById(...).isPresent()", WARMUP, ITERATIONS,
+                () -> postRepository.findById(postId).isPresent());
+        double findEntities = (double) statistics.getEntityLoadCount() / calls;
+        double findCollections = (double) statistics.getCollectionLoadCount() / calls;
+
+        statistics.clear();
+        Measurement.Result existsById = Measurement.run("existsById(...)", WARMUP, ITERATIONS,
+                () -> postRepository.existsById(postId));
+        double existsEntities = (double) statistics.getEntityLoadCount() / calls;
+        double existsCollections = (double) statistics.getCollectionLoadCount() / calls;
+
+        // 본문(TEXT) 한 건 = 약 CONTENT_LENGTH 바이트를 조회마다 읽어 문자열로 만든다
+        System.out.printf("본문 길이: %d자, 해시태그 5개%n", CONTENT_LENGTH);
+        System.out.printf("%s  엔티티 %.1f/op, 컬렉션 %.1f/op%n", findById, findEntities, findCollections);
+        System.out.printf("%s  엔티티 %.1f/op, 컬렉션 %.1f/op%n", existsById, existsEntities, existsCollections);
+        System.out.printf("호출당 절감: %.0f B 할당%n",
+                findById.bytesAllocatedPerOp() - existsById.bytesAllocatedPerOp());
+
+        assertThat(existsEntities).isZero();
+        assertThat(existsCollections).isZero();
+        assertThat(existsById.bytesAllocatedPerOp()).isLessThan(findById.bytesAllocatedPerOp());
+    }
+}
@@ -0,0 +1,137 @@
+package com.board.cleancode.benchmark;
+
+import com.board.cleancode.adapter.out.persistence.PostJpaEntity;
+import com.board.cleancode.adapter.out.persistence.PostJpaRepository;
+import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록 한 페이지: 엔티티 전체 조회(본문 + 해시태그) vs 요약 프로젝션
+// 캐시를 끄고 매번 DB에서 읽는 비용을 비교한다
+// 실행: ./gradlew benchmark --tests '*PostListProjectionBenchmarkTest'
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+class PostListProjectionBenchmarkTest {
+
+    private static final int SEEDED_POSTS = 200;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 1_000;
+    private static final int ITERATIONS = 5_000;
+    // 압축 기준(2KB)보다 짧아 TEXT 컬럼에 그대로 저장되는 본문
+    private static final String CONTENT = "게시글 본문 ".repeat(250);
+    private static final List<String> HASHTAGS = List.of("java", "spring", "jpa", "h2", "benchmark");
+
+    // 최신순 첫 페이지
+    private static final String FIRST_PAGE = "(SELECT * FROM posts WHERE deleted = FALSE " +
+                                             "ORDER BY created_at DESC LIMIT " + PAGE_SIZE + ") p";
+
+    @Autowired
+    private PostRepositoryPort postRepository;
+
+    @Autowired
+    private PostJpaRepository postJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < SEEDED_POSTS; i++) {
+            postRepository.save(Post.create("제목 " + i, CONTENT, "작성자", "encoded", HASHTAGS));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM post_hashtags");
+        jdbcTemplate.update("DELETE FROM posts");
+    }
+
+    // 요약 프로젝션 이전의 목록 경로: 엔티티 페이지를 읽어 도메인 객체로 변환
+    private Runnable entityPage() {
+        return () -> transactionTemplate.executeWithoutResult(status ->
+                postJpaRepository.findAll(PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Order.desc("createdAt"))))
+                        .map(PostJpaEntity::toDomain)
+                        .getContent());
+    }
+
+    private Runnable headerPage() {
+        return () -> transactionTemplate.executeWithoutResult(status ->
+                postRepository.findAll(0, PAGE_SIZE, "latest"));
+    }
+
+    // DB에서 애플리케이션으로 넘어오는 문자열/바이트 컬럼 크기 (숫자·시각 컬럼은 제외)
+    private long columnBytes(String expression) {
+        Long bytes = jdbcTemplate.queryForObject("SELECT SUM(" + expression + ") FROM " + FIRST_PAGE, Long.class);
+        return bytes != null ? bytes : 0;
+    }
+
+    // post_hashtags에는 tag_id만 있으므로 도메인 객체가 들고 있게 되는 태그 이름의 크기로 센다
+    private long hashtagBytes() {
+        Long bytes = jdbcTemplate.queryForObject("SELECT SUM(OCTET_LENGTH(t.name)) FROM post_hashtags h " +
+                                                 "JOIN tags t ON t.id = h.tag_id " +
+                                                 "WHERE h.post_id IN (SELECT p.id FROM " + FIRST_PAGE + ")", Long.class);
+        return bytes != null ? bytes : 0;
+    }
+
+    private double statementsPerOp(Statistics statistics, Runnable operation, int calls) {
+        statistics.clear();
+        for (int i = 0; i < calls; i++) {
+            operation.run();
+        }
+        return (double) statistics.getPrepareStatementCount() / calls;
+    }
+
+    @Test
+    @DisplayName("요약 프로젝션은 본문과 해시태그를 읽지 않아 전송량, 할당량, SQL 수가 줄어든다")
+    void entityPage_vs_headerProjection() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Measurement.Result entity = Measurement.run("entity page (content + hashtags)", WARMUP, ITERATIONS, entityPage());
+        Measurement.Result header = Measurement.run("header projection", WARMUP, ITERATIONS, headerPage());
+
+        double entityStatements = statementsPerOp(statistics, entityPage(), 100);
+        double headerStatements = statementsPerOp(statistics, headerPage(), 100);
+
+        long entityBytes = columnBytes("OCTET_LENGTH(p.title) + COALESCE(OCTET_LENGTH(p.content), 0) " +
+                                       "+ COALESCE(OCTET_LENGTH(p.content_compressed), 0) " +
+                                       "+ OCTET_LENGTH(p.author) + OCTET_LENGTH(p.password)") + hashtagBytes();
+        long headerBytes = columnBytes("OCTET_LENGTH(p.title) + OCTET_LENGTH(p.author)");
+
+        System.out.printf("게시글 %d건, 페이지 %d건, 본문 %d자, 해시태그 %d개/건%n",
+                SEEDED_POSTS, PAGE_SIZE, CONTENT.length(), HASHTAGS.size());
+        System.out.printf("%s  SQL %.1f/op, 컬럼 %d B/page%n", entity, entityStatements, entityBytes);
+        System.out.printf("%s  SQL %.1f/op, 컬럼 %d B/page%n", header, headerStatements, headerBytes);
+
+        assertThat(headerStatements).isLessThan(entityStatements);
+        assertThat(headerBytes).isLessThan(entityBytes);
+        assertThat(header.bytesAllocatedPerOp()).isLessThan(entity.bytesAllocatedPerOp());
+    }
+}
@@ -0,0 +1,47 @@
+package com.board.cleancode.benchmark;
+
+import com.board.cleancode.domain.model.Post;
+import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 게시글 저장소 비교 벤치마크가 함께 쓰는 흐름. 비교할 어댑터를 인자로 받아 같은 흐름을 만든다
+final class PostRepositoryFlows {
+
+    private final TransactionTemplate transactionTemplate;
+    private final List<String> hashtags;
+
+    PostRepositoryFlows(TransactionTemplate transactionTemplate, List<String> hashtags) {
+        this.transactionTemplate = transactionTemplate;
+        this.hashtags = hashtags;
+    }
+
+    // count건을 저장하고 마지막 글의 id를 돌려준다
+    Long seed(PostRepositoryPort repository, int count) {
+        Long lastId = null;
+        for (int i = 0; i < count; i++) {
+            lastId = repository.save(Post.create("제목 " + i, "본문 " + i, "작성자", "encoded", hashtags)).getId();
+        }
+        return lastId;
+    }
+
+    // 게시글 상세 조회 흐름: 조회 → 조회수 증가 → 저장
+    Runnable view(PostRepositoryPort repository, Long postId) {
+        return () -> transactionTemplate.executeWithoutResult(status -> {
+            Post post = repository.findById(postId).orElseThrow();
+            post.incrementViewCount();
+            repository.save(post);
+        });
+    }
+
+    Runnable create(PostRepositoryPort repository) {
+        return () -> transactionTemplate.executeWithoutResult(status ->
+                repository.save(Post.create("새 글", "본문", "작성자", "encoded", hashtags)));
+    }
+
+    Runnable list(PostRepositoryPort repository, String sort) {
+        return () -> transactionTemplate.executeWithoutResult(status ->
+                repository.findAll(0, 20, sort));
+    }
+}
@@ -0,0 +1,87 @@
+package com.board.cleancode.benchmark;
+
+import com.board.cleancode.adapter.in.web.ResponseJsonModule;
+import com.board.cleancode.adapter.in.web.dto.CommentListResponse;
+import com.board.cleancode.adapter.in.web.dto.CommentResponse;
+import com.board.cleancode.adapter.in.web.dto.PostListResponse;
+import com.board.cleancode.adapter.in.web.dto.PostResponse;
+import com.board.cleancode.adapter.in.web.dto.PostSummaryResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 응답 직렬화: 리플렉션 기반 기본 직렬화 vs ResponseJsonModule의 직접 쓰기 (목록 한 페이지, 댓글 20개가 붙은 상세)
+// 실행: ./gradlew benchmark --tests '*ResponseSerializationBenchmarkTest'
+@Tag("benchmark")
+class ResponseSerializationBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 9, 0, 0, 123_456_000);
+
+    private final ObjectMapper reflective = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper streaming = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new ResponseJsonModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static PostListResponse listPage() {
+        List<PostSummaryResponse> posts = IntStream.range(0, 20)
+                .mapToObj(i -> new PostSummaryResponse((long) i, "게시글 제목 " + i, "작성자" + i,
+                        BASE.minusMinutes(i), i % 5, i * 10, i % 3, i % 2 == 0))
+                .toList();
+        return new PostListResponse(1_000, 5_000, posts, 0, 20, 50, 1_000, null);
+    }
+
+    private static PostResponse detail() {
+        List<CommentResponse> comments = IntStream.range(0, 20)
+                .mapToObj(i -> new CommentResponse((long) i, null, "댓글러" + i, "댓글 내용 " + i,
+                        BASE.plusMinutes(i), false, (long) (i % 3), null))
+                .toList();
+        return new PostResponse(1L, "게시글 제목", "본문 ".repeat(100), "작성자", List.of("java", "spring", "jackson"),
+                120, 7, 20, BASE, BASE.plusHours(1), new CommentListResponse(comments, 0, 20, 20, false), true);
+    }
+
+    private static Runnable serialize(ObjectMapper mapper, Object response) {
+        return () -> {
+            try {
+                mapper.writeValueAsBytes(response);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("목록/상세 응답 한 건을 직렬화하는 시간과 할당")
+    void serializationThroughputAndAllocation() throws Exception {
+        PostListResponse list = listPage();
+        PostResponse detail = detail();
+        assertThat(streaming.readTree(streaming.writeValueAsBytes(list)))
+                .isEqualTo(reflective.readTree(reflective.writeValueAsBytes(list)));
+        assertThat(streaming.readTree(streaming.writeValueAsBytes(detail)))
+                .isEqualTo(reflective.readTree(reflective.writeValueAsBytes(detail)));
+
+        System.out.println(Measurement.run("list page (reflective)", WARMUP, ITERATIONS, serialize(reflective, list)));
+        System.out.println(Measurement.run("list page (streaming)", WARMUP, ITERATIONS, serialize(streaming, list)));
+        System.out.println(Measurement.run("detail (reflective)", WARMUP, ITERATIONS, serialize(reflective, detail)));
+        System.out.println(Measurement.run("detail (streaming)", WARMUP, ITERATIONS, serialize(streaming, detail)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.board.cleancode.benchmark;
+
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore;
+import com.board.cleancode.adapter.out.memory.PostInMemoryAdapter;
+import com.board.cleancode.adapter.out.memory.SegmentLogJournal;
+import com.board.cleancode.domain.port.out.PostRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 저장소: JPA 어댑터(H2) vs 세그먼트 로그 저장소(storage 프로필)를 같은 흐름으로 비교
+// 실행: ./gradlew benchmark --tests '*StorageEngineBenchmarkTest'
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class StorageEngineBenchmarkTest {
+
+    private static final int SEEDED_POSTS = 200;
+    private static final int WARMUP = 1_000;
+    private static final int ITERATIONS = 5_000;
+    private static final List<String> HASHTAGS = List.of("java", "spring", "storage");
+
+    @Autowired
+    private PostRepositoryPort jpaAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path directory;
+
+    private PostRepositoryFlows flows;
+    private SegmentLogJournal journal;
+    private PostRepositoryPort storageAdapter;
+    private Long jpaPostId;
+    private Long storagePostId;
+
+    @BeforeEach
+    void setUp() {
+        // 기본 설정과 같은 interval 정책: 기록 경로에서는 force하지 않는다 (주기적 force는 스케줄러가 한다)
+        journal = new SegmentLogJournal(directory.toString(), 64 * 1024 * 1024, "interval", 4);
+        InMemoryBoardStore store = new InMemoryBoardStore(Optional.of(journal));
+        store.open();
+        storageAdapter = new PostInMemoryAdapter(store);
+
+        flows = new PostRepositoryFlows(transactionTemplate, HASHTAGS);
+        jpaPostId = flows.seed(jpaAdapter, SEEDED_POSTS);
+        storagePostId = flows.seed(storageAdapter, SEEDED_POSTS);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        journal.close();
+        jdbcTemplate.update("DELETE FROM post_hashtags");
+        jdbcTemplate.update("DELETE FROM posts");
+    }
+
+    @Test
+    @DisplayName("조회/작성/목록 흐름별 호출당 시간과 할당량")
+    void jpa_vs_segmentLog() {
+        List<Measurement.Result> results = List.of(
+                Measurement.run("JPA view (find+save)", WARMUP, ITERATIONS, flows.view(jpaAdapter, jpaPostId)),
+                Measurement.run("LOG view (find+save)", WARMUP, ITERATIONS, flows.view(storageAdapter, storagePostId)),
+                Measurement.run("JPA create", WARMUP, ITERATIONS, flows.create(jpaAdapter)),
+                Measurement.run("LOG create", WARMUP, ITERATIONS, flows.create(storageAdapter)),
+                Measurement.run("JPA list views 20", WARMUP, ITERATIONS, flows.list(jpaAdapter, "views")),
+                Measurement.run("LOG list views 20", WARMUP, ITERATIONS, flows.list(storageAdapter, "views"))
+        );
+
+        System.out.printf("게시글 %d건, 해시태그 %d개/건, 세그먼트 fsync=interval%n", SEEDED_POSTS, HASHTAGS.size());
+        results.forEach(System.out::println);
+
+        // SQL/영속성 컨텍스트 없이 메모리 인덱스 갱신 + 로그 추가만 하므로 조회-저장 흐름이 빨라야 한다
+        assertThat(results.get(1).nanosPerOp()).isLessThan(results.get(0).nanosPerOp());
+    }
+}
@@ -0,0 +1,162 @@
+package com.board.cleancode.benchmark;
+
+import com.board.cleancode.adapter.out.persistence.TagDictionary;
+import com.board.cleancode.domain.model.Post;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.ref.Reference;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 해시태그 사전: 게시글 10만 건을 메모리에 들고 있을 때의 힙과 post_hashtags 인덱스 키 크기
+// 힙: 행마다 새로 만든 String(사전 이전의 읽기 경로) vs 사전의 String을 공유
+// 인덱스: (hashtag VARCHAR, post_id) vs (tag_id INT, post_id) 키 바이트
+// 실행: ./gradlew benchmark --tests '*TagDictionaryBenchmarkTest'
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "board.ranking.snapshot.enabled=false"
+})
+class TagDictionaryBenchmarkTest {
+
+    private static final int POSTS = 100_000;
+    private static final int TAGS = 300;
+    private static final int TAGS_PER_POST = 3;
+    private static final int BATCH = 5_000;
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> tagNames = IntStream.range(0, TAGS)
+            .mapToObj(i -> "benchmark-tag-" + i)
+            .toList();
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM post_hashtags");
+        jdbcTemplate.update("DELETE FROM posts");
+    }
+
+    // 게시글마다 고르는 태그 위치 (두 방식이 같은 태그 구성을 갖도록 시드를 고정한다)
+    private static int[][] tagPicks() {
+        Random random = new Random(42);
+        int[][] picks = new int[POSTS][TAGS_PER_POST];
+        for (int[] pick : picks) {
+            for (int i = 0; i < TAGS_PER_POST; i++) {
+                pick[i] = random.nextInt(TAGS);
+            }
+        }
+        return picks;
+    }
+
+    @Test
+    @DisplayName("게시글 10만 건이 붙잡는 힙")
+    void retainedHeap() {
+        int[][] picks = tagPicks();
+        List<Integer> tagIds = tagDictionary.register(tagNames);
+
+        // 사전 이전: 드라이버가 행마다 String을 새로 만들고, 엔티티와 도메인이 목록을 한 번씩 더 복사했다
+        long perRowStrings = retainedBytes(index -> {
+            List<String> row = new ArrayList<>(TAGS_PER_POST);
+            for (int pick : picks[index]) {
+                byte[] column = tagNames.get(pick).getBytes(StandardCharsets.UTF_8);
+                row.add(new String(column, StandardCharsets.UTF_8));
+            }
+            return post(index, new ArrayList<>(row));
+        });
+        long dictionary = retainedBytes(index -> {
+            List<Integer> ids = new ArrayList<>(TAGS_PER_POST);
+            for (int pick : picks[index]) {
+                ids.add(tagIds.get(pick));
+            }
+            return post(index, tagDictionary.names(ids));
+        });
+
+        System.out.printf("%-32s %12.1f MB %8.1f B/post%n", "per-row strings",
+                perRowStrings / 1_048_576.0, (double) perRowStrings / POSTS);
+        System.out.printf("%-32s %12.1f MB %8.1f B/post%n", "dictionary",
+                dictionary / 1_048_576.0, (double) dictionary / POSTS);
+        assertThat(dictionary).isLessThan(perRowStrings);
+    }
+
+    @Test
+    @DisplayName("post_hashtags 인덱스 키 크기")
+    void indexKeyBytes() {
+        int[][] picks = tagPicks();
+        List<Integer> tagIds = tagDictionary.register(tagNames);
+        seed(picks, tagIds);
+
+        // 인덱스 항목마다 post_id(BIGINT 8바이트)가 함께 들어간다
+        Long stringKeys = jdbcTemplate.queryForObject(
+                "SELECT SUM(OCTET_LENGTH(t.name) + 8) FROM post_hashtags h JOIN tags t ON t.id = h.tag_id", Long.class);
+        Long intKeys = jdbcTemplate.queryForObject("SELECT COUNT(*) * (4 + 8) FROM post_hashtags", Long.class);
+
+        System.out.printf("%-32s %12.1f MB%n", "(hashtag, post_id) keys", stringKeys / 1_048_576.0);
+        System.out.printf("%-32s %12.1f MB%n", "(tag_id, post_id) keys", intKeys / 1_048_576.0);
+        System.out.printf("%-32s %12.1f %%%n", "reduction", 100.0 * (stringKeys - intKeys) / stringKeys);
+        assertThat(intKeys).isLessThan(stringKeys);
+    }
+
+    // 본문 등 다른 필드는 두 방식이 같은 인스턴스를 공유하므로 차이는 해시태그 목록에서만 난다
+    private static Post post(int index, List<String> hashtags) {
+        return Post.reconstitute((long) index, "제목", "본문", "작성자", "encoded", hashtags,
+                0, 0, false, NOW, NOW);
+    }
+
+    private long retainedBytes(IntFunction<Post> build) {
+        long before = usedHeapAfterGc();
+        List<Post> posts = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(build.apply(i));
+        }
+        long after = usedHeapAfterGc();
+        Reference.reachabilityFence(posts);
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private void seed(int[][] picks, List<Integer> tagIds) {
+        for (int from = 0; from < POSTS; from += BATCH) {
+            jdbcTemplate.batchUpdate("INSERT INTO posts (title, author, password, view_count, active_comment_count, " +
+                                     "deleted, created_at, updated_at) VALUES (?, '작성자', 'encoded', 0, 0, FALSE, ?, ?)",
+                    IntStream.range(from, Math.min(from + BATCH, POSTS))
+                            .mapToObj(i -> new Object[]{"제목 " + i, NOW, NOW})
+                            .toList());
+        }
+        List<Long> postIds = jdbcTemplate.queryForList("SELECT id FROM posts ORDER BY id", Long.class);
+        List<Object[]> rows = new ArrayList<>(POSTS * TAGS_PER_POST);
+        for (int i = 0; i < postIds.size(); i++) {
+            for (int order = 0; order < TAGS_PER_POST; order++) {
+                rows.add(new Object[]{postIds.get(i), order, tagIds.get(picks[i][order])});
+            }
+        }
+        for (int from = 0; from < rows.size(); from += BATCH) {
+            jdbcTemplate.batchUpdate("INSERT INTO post_hashtags (post_id, hashtag_order, tag_id) VALUES (?, ?, ?)",
+                    rows.subList(from, Math.min(from + BATCH, rows.size())));
+        }
+    }
+}
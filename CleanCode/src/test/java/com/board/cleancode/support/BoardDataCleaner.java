@@ -0,0 +1,43 @@
+package com.board.cleancode.support;
+
+import com.board.cleancode.adapter.out.memory.InMemoryBoardStore;
+import com.board.cleancode.application.ranking.HotPostRanking;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 커밋 이후 이벤트를 검증하느라 트랜잭션 롤백 없이 실행하는 통합 테스트의 뒷정리 (@Import로 가져다 쓴다)
+@TestComponent
+public class BoardDataCleaner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final HotPostRanking hotPostRanking;
+    // memory 프로필로 실행할 때만 존재한다
+    private final ObjectProvider<InMemoryBoardStore> memoryStore;
+
+    public BoardDataCleaner(JdbcTemplate jdbcTemplate,
+                            EntityManagerFactory entityManagerFactory,
+                            HotPostRanking hotPostRanking,
+                            ObjectProvider<InMemoryBoardStore> memoryStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.hotPostRanking = hotPostRanking;
+        this.memoryStore = memoryStore;
+    }
+
+    public void clean() {
+        jdbcTemplate.update("DELETE FROM likes");
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM post_hashtags");
+        jdbcTemplate.update("DELETE FROM post_hot_scores");
+        jdbcTemplate.update("DELETE FROM post_search_texts");
+        jdbcTemplate.update("DELETE FROM posts");
+        // SQL로 지운 행은 Hibernate가 모르므로 2차 캐시도 비운다
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        memoryStore.ifAvailable(InMemoryBoardStore::clear);
+        hotPostRanking.rebuild();
+    }
+}
@@ -0,0 +1,59 @@
+package com.board.cleancode.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 애플리케이션 DataSource로 나가는 모든 SQL(Hibernate, JdbcClient, JdbcTemplate)을 모아 둔다 (SQL은 변경하지 않음)
+public class SqlCapturingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> CAPTURED = ConcurrentHashMap.newKeySet();
+    private static final Set<String> SQL_METHODS = Set.of(
+            "prepareStatement", "prepareCall", "execute", "executeQuery", "executeUpdate", "executeLargeUpdate",
+            "addBatch");
+
+    public SqlCapturingDataSource(DataSource target) {
+        super(target);
+    }
+
+    public static Set<String> captured() {
+        return Set.copyOf(CAPTURED);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return capturing(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return capturing(Connection.class, super.getConnection(username, password));
+    }
+
+    private static <T> T capturing(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(SqlCapturingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (args != null && args.length > 0 && args[0] instanceof String sql
+                            && SQL_METHODS.contains(method.getName())) {
+                        CAPTURED.add(sql.replaceAll("\\s+", " ").trim());
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (result instanceof Statement statement && method.getName().equals("createStatement")) {
+                        return capturing(Statement.class, statement);
+                    }
+                    return result;
+                }));
+    }
+}